@@ -0,0 +1,80 @@
+package com.nasa.rover.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.service.IInputFileService;
+import com.nasa.rover.service.impl.FormatDetectingInputFileService;
+import com.nasa.rover.service.impl.InputFileService;
+import com.nasa.rover.service.impl.MappedInputFileService;
+import com.nasa.rover.service.impl.MissionFileConverter;
+
+/** Parsing throughput of the mission readers. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InputFileServiceBenchmark {
+
+  @Param({"1000", "100000"})
+  public int fleetSize;
+
+  @Param({"10", "1000"})
+  public int commandLength;
+
+  private Path missionFile;
+  private Path binaryMissionFile;
+  private final IInputFileService bufferedReader = new InputFileService();
+  private final IInputFileService mappedReader = new MappedInputFileService();
+  private final IInputFileService detectingReader = new FormatDetectingInputFileService();
+
+  @Setup(Level.Trial)
+  public void createMission() throws Exception {
+    missionFile = MissionFiles.create(fleetSize, commandLength);
+    binaryMissionFile = Files.createTempFile("mission-", ".bin");
+    new MissionFileConverter().toBinary(missionFile.toString(), binaryMissionFile.toString());
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteMission() throws Exception {
+    MissionFiles.delete(missionFile);
+    MissionFiles.delete(binaryMissionFile);
+  }
+
+  @Benchmark
+  public IPlateau readMission(Blackhole blackhole) throws Exception {
+    return bufferedReader.readMission(
+        missionFile.toString(), (plateau, command) -> blackhole.consume(command));
+  }
+
+  @Benchmark
+  public IPlateau readMissionMapped(Blackhole blackhole) throws Exception {
+    return mappedReader.readMission(
+        missionFile.toString(), (plateau, command) -> blackhole.consume(command));
+  }
+
+  @Benchmark
+  public IPlateau readMissionBinary(Blackhole blackhole) throws Exception {
+    return detectingReader.readMission(
+        binaryMissionFile.toString(), (plateau, command) -> blackhole.consume(command));
+  }
+}
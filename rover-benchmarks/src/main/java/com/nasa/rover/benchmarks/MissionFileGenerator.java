@@ -0,0 +1,95 @@
+package com.nasa.rover.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Generator of synthetic mission files for benchmarks. Rovers are spread uniformly over a square
+ * plateau and receive random L/R/M command strings in which moves are twice as frequent as turns.
+ */
+public final class MissionFileGenerator {
+
+  private static final char[] COMMANDS = {'L', 'R', 'M', 'M', 'M', 'M'};
+  private static final char[] DIRECTIONS = {'N', 'E', 'S', 'W'};
+
+  private MissionFileGenerator() {}
+
+  /**
+   * Writes a synthetic mission file.
+   *
+   * @param file the file to write
+   * @param plateauSize the upper-right coordinate of the square plateau
+   * @param rovers the number of rovers
+   * @param commandLength the number of commands per rover
+   * @param seed the random seed, so that runs are reproducible
+   * @throws IOException if the file cannot be written
+   */
+  public static void generate(Path file, int plateauSize, int rovers, int commandLength, long seed)
+      throws IOException {
+    SplittableRandom random = new SplittableRandom(seed);
+    char[] commands = new char[commandLength];
+
+    try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+      writer.write(plateauSize + " " + plateauSize + "\n");
+      for (int i = 0; i < rovers; i++) {
+        writer.write(Integer.toString(random.nextInt(plateauSize + 1)));
+        writer.write(' ');
+        writer.write(Integer.toString(random.nextInt(plateauSize + 1)));
+        writer.write(' ');
+        writer.write(DIRECTIONS[random.nextInt(DIRECTIONS.length)]);
+        writer.write('\n');
+        writeCommands(writer, commands, random);
+      }
+    }
+  }
+
+  /**
+   * Generates a random command string.
+   *
+   * @param commandLength the number of commands
+   * @param seed the random seed
+   * @return the command string
+   */
+  public static String commands(int commandLength, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    char[] commands = new char[commandLength];
+    for (int i = 0; i < commandLength; i++) {
+      commands[i] = COMMANDS[random.nextInt(COMMANDS.length)];
+    }
+    return new String(commands);
+  }
+
+  private static void writeCommands(BufferedWriter writer, char[] commands, SplittableRandom random)
+      throws IOException {
+    for (int i = 0; i < commands.length; i++) {
+      commands[i] = COMMANDS[random.nextInt(COMMANDS.length)];
+    }
+    writer.write(commands);
+    writer.write('\n');
+  }
+
+  /**
+   * Command line entry point: {@code <file> <plateau-size> <rovers> <command-length> [seed]}.
+   *
+   * @param args the command line arguments
+   * @throws IOException if the file cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 4) {
+      System.err.println(
+          "Usage: MissionFileGenerator <file> <plateau-size> <rovers> <command-length> [seed]");
+      System.exit(1);
+    }
+    long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+    generate(
+        Path.of(args[0]),
+        Integer.parseInt(args[1]),
+        Integer.parseInt(args[2]),
+        Integer.parseInt(args[3]),
+        seed);
+  }
+}
@@ -0,0 +1,27 @@
+package com.nasa.rover.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/** Temporary mission file shared by the benchmarks of a trial. */
+final class MissionFiles {
+
+  static final int PLATEAU_SIZE = 1000;
+  static final long SEED = 42L;
+
+  private MissionFiles() {}
+
+  static Path create(int fleetSize, int commandLength) throws IOException {
+    Path file = Files.createTempFile("rover-mission-" + fleetSize + "-" + commandLength, ".txt");
+    file.toFile().deleteOnExit();
+    MissionFileGenerator.generate(file, PLATEAU_SIZE, fleetSize, commandLength, SEED);
+    return file;
+  }
+
+  static void delete(Path file) throws IOException {
+    if (file != null) {
+      Files.deleteIfExists(file);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.nasa.rover.benchmarks;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nasa.rover.service.IMissionService;
+import com.nasa.rover.service.impl.InputFileService;
+import com.nasa.rover.service.impl.MissionService;
+import com.nasa.rover.service.impl.RoverControlService;
+
+/** End-to-end mission execution: parsing, rover control and report formatting. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MissionServiceBenchmark {
+
+  @Param({"1000", "100000"})
+  public int fleetSize;
+
+  @Param({"10", "1000"})
+  public int commandLength;
+
+  private Path missionFile;
+  private ExecutorService executor;
+  private IMissionService sequentialMission;
+  private IMissionService parallelMission;
+
+  @Setup(Level.Trial)
+  public void createMission() throws Exception {
+    missionFile = MissionFiles.create(fleetSize, commandLength);
+    executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    sequentialMission = new MissionService(new InputFileService(), new RoverControlService());
+    parallelMission =
+        new MissionService(new InputFileService(), new RoverControlService(), executor);
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteMission() throws Exception {
+    executor.shutdownNow();
+    MissionFiles.delete(missionFile);
+  }
+
+  @Benchmark
+  public String executeMission() throws Exception {
+    return sequentialMission.executeMission(missionFile.toString());
+  }
+
+  @Benchmark
+  public String executeMissionParallel() throws Exception {
+    return parallelMission.executeMission(missionFile.toString());
+  }
+
+  @Benchmark
+  public void executeMissionStreaming() throws Exception {
+    sequentialMission.executeMission(missionFile.toString(), OutputStream.nullOutputStream());
+  }
+}
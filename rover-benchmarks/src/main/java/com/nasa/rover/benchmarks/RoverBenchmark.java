@@ -0,0 +1,55 @@
+package com.nasa.rover.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IRover;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.Plateau;
+import com.nasa.rover.model.impl.Position;
+import com.nasa.rover.model.impl.Rover;
+
+/** Cost of Rover.moveForward, for accepted and refused moves. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoverBenchmark {
+
+  // Turning right before each move keeps the rover circling a 1x1 square well inside the plateau
+  private final IPlateau plateau = new Plateau(2000, 2000);
+
+  // Single cell plateau on which every move is refused
+  private final IPlateau blockedPlateau = new Plateau(0, 0);
+
+  private IRover rover;
+
+  @Setup
+  public void createRover() {
+    rover = new Rover(new Position(1000, 1000), Direction.N);
+  }
+
+  @Benchmark
+  public boolean turnAndMoveForward() {
+    rover.turnRight();
+    return rover.moveForward(plateau);
+  }
+
+  @Benchmark
+  public boolean moveForwardBlocked() {
+    return rover.moveForward(blockedPlateau);
+  }
+}
@@ -0,0 +1,67 @@
+package com.nasa.rover.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IRover;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.Plateau;
+import com.nasa.rover.model.impl.Position;
+import com.nasa.rover.model.impl.Rover;
+import com.nasa.rover.model.impl.RoverFleet;
+import com.nasa.rover.service.IFleetControlService;
+import com.nasa.rover.service.IRoverControlService;
+import com.nasa.rover.service.impl.FleetControlService;
+import com.nasa.rover.service.impl.RoverControlService;
+
+/** Cost of executing one command string, on a Rover object and on a RoverFleet entry. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoverControlServiceBenchmark {
+
+  @Param({"10", "1000", "100000"})
+  public int commandLength;
+
+  private final IRoverControlService roverControlService = new RoverControlService();
+  private final IFleetControlService fleetControlService = new FleetControlService();
+  private final IPlateau plateau = new Plateau(MissionFiles.PLATEAU_SIZE, MissionFiles.PLATEAU_SIZE);
+  private String commands;
+  private RoverFleet fleet;
+
+  @Setup
+  public void createCommands() {
+    commands = MissionFileGenerator.commands(commandLength, MissionFiles.SEED);
+    fleet = new RoverFleet(1);
+    fleet.add(0, 0, Direction.N);
+  }
+
+  @Benchmark
+  public IRover executeCommands() {
+    IRover rover = new Rover(new Position(500, 500), Direction.N);
+    roverControlService.executeCommands(rover, commands, plateau);
+    return rover;
+  }
+
+  @Benchmark
+  public int executeFleetCommands() {
+    fleet.setPosition(0, 500, 500);
+    fleetControlService.executeCommands(fleet, 0, commands, plateau);
+    return fleet.getX(0);
+  }
+}
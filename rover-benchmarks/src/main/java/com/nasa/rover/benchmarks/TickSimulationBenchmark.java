@@ -0,0 +1,77 @@
+package com.nasa.rover.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.Plateau;
+import com.nasa.rover.model.impl.RoverFleet;
+import com.nasa.rover.service.ITickSimulationService;
+import com.nasa.rover.service.impl.TickSimulationService;
+
+/**
+ * Lock-step simulation of 100000 rovers spread over the plateau, each executing 100 commands. One
+ * operation is one rover-step, so the score reads as rover-steps per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TickSimulationBenchmark {
+
+  private static final int FLEET_SIZE = 100_000;
+  private static final int COMMAND_LENGTH = 100;
+
+  @Param({"sparse", "crowded"})
+  public String density;
+
+  private final ITickSimulationService simulationService = new TickSimulationService();
+  private IPlateau plateau;
+  private String[] commands;
+  private RoverFleet fleet;
+
+  @Setup
+  public void createCommands() {
+    // A crowded plateau holds one rover every four cells, a sparse one every forty cells
+    int size = "crowded".equals(density) ? 632 : MissionFiles.PLATEAU_SIZE * 2;
+    plateau = new Plateau(size, size);
+    commands = new String[FLEET_SIZE];
+    for (int i = 0; i < FLEET_SIZE; i++) {
+      commands[i] = MissionFileGenerator.commands(COMMAND_LENGTH, MissionFiles.SEED + i);
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void landFleet() {
+    fleet = new RoverFleet(FLEET_SIZE);
+    int width = plateau.getWidth() + 1;
+    long spacing = ((long) width * (plateau.getHeight() + 1)) / FLEET_SIZE;
+    Direction[] directions = Direction.values();
+    for (int i = 0; i < FLEET_SIZE; i++) {
+      long cell = i * spacing;
+      fleet.add((int) (cell % width), (int) (cell / width), directions[i & 3]);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(FLEET_SIZE * COMMAND_LENGTH)
+  public long[] simulate() {
+    return simulationService.simulate(fleet, commands, plateau);
+  }
+}
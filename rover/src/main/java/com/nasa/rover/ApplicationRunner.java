@@ -1,29 +1,249 @@
 package com.nasa.rover;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.management.JMException;
+
+import com.nasa.rover.model.IMissionResult;
+import com.nasa.rover.service.IBatchMissionService;
 import com.nasa.rover.service.IInputFileService;
 import com.nasa.rover.service.IMissionService;
+import com.nasa.rover.service.IMissionSession;
 import com.nasa.rover.service.IRoverControlService;
-import com.nasa.rover.service.impl.InputFileService;
+import com.nasa.rover.service.ITrajectoryMissionService;
+import com.nasa.rover.service.impl.BatchMissionService;
+import com.nasa.rover.service.impl.FleetSnapshotFile;
+import com.nasa.rover.service.impl.FormatDetectingInputFileService;
+import com.nasa.rover.service.impl.LockstepMissionService;
+import com.nasa.rover.service.impl.MissionFileConverter;
+import com.nasa.rover.service.impl.MissionMetrics;
 import com.nasa.rover.service.impl.MissionService;
 import com.nasa.rover.service.impl.RoverControlService;
+import com.nasa.rover.service.impl.TrajectoryExporter;
+import com.nasa.rover.service.impl.WideMissionService;
 
 public class ApplicationRunner {
 
+  static final String PARALLEL_OPTION = "--parallel";
+  static final String COLLISIONS_OPTION = "--collisions";
+  static final String BATCH_OPTION = "--batch";
+  static final String SERVER_OPTION = "--server";
+  static final String CONVERT_OPTION = "--convert";
+  static final String TRAJECTORIES_OPTION = "--trajectories";
+  static final String EXPORT_TRAJECTORIES_OPTION = "--export-trajectories";
+  static final String METRICS_OPTION = "--metrics";
+  static final String LOCKSTEP_OPTION = "--lockstep";
+  static final String WIDE_OPTION = "--wide";
+  static final String SESSION_OPTION = "--session";
+  static final String CHECKPOINT_OPTION = "--checkpoint";
+
   public int run(String[] args) {
+    ExecutorService executor = null;
+    MissionMetrics metrics = null;
+    boolean printMetrics = false;
     try {
-      if (args.length < 1) {
-        System.err.println("Usage: java -jar rover.jar <chemin-du-fichier-d-entree>");
+      boolean parallel = false;
+      boolean detectCollisions = false;
+      boolean batch = false;
+      boolean server = false;
+      boolean convert = false;
+      boolean exportTrajectories = false;
+      boolean lockstep = false;
+      boolean wide = false;
+      boolean session = false;
+      String trajectoryFilePath = null;
+      String snapshotFilePath = null;
+      int fileArgument = 0;
+      while (fileArgument < args.length && args[fileArgument].startsWith("--")) {
+        if (PARALLEL_OPTION.equals(args[fileArgument])) {
+          parallel = true;
+        } else if (COLLISIONS_OPTION.equals(args[fileArgument])) {
+          detectCollisions = true;
+        } else if (BATCH_OPTION.equals(args[fileArgument])) {
+          batch = true;
+        } else if (SERVER_OPTION.equals(args[fileArgument])) {
+          server = true;
+        } else if (CONVERT_OPTION.equals(args[fileArgument])) {
+          convert = true;
+        } else if (METRICS_OPTION.equals(args[fileArgument])) {
+          printMetrics = true;
+        } else if (LOCKSTEP_OPTION.equals(args[fileArgument])) {
+          lockstep = true;
+        } else if (WIDE_OPTION.equals(args[fileArgument])) {
+          wide = true;
+        } else if (SESSION_OPTION.equals(args[fileArgument])) {
+          session = true;
+        } else if (EXPORT_TRAJECTORIES_OPTION.equals(args[fileArgument])) {
+          exportTrajectories = true;
+        } else if (TRAJECTORIES_OPTION.equals(args[fileArgument])
+            && fileArgument + 1 < args.length) {
+          trajectoryFilePath = args[++fileArgument];
+        } else if (CHECKPOINT_OPTION.equals(args[fileArgument]) && fileArgument + 1 < args.length) {
+          snapshotFilePath = args[++fileArgument];
+        } else {
+          break;
+        }
+        fileArgument++;
+      }
+      if (fileArgument + (batch || convert || exportTrajectories ? 1 : 0) >= args.length
+          || (snapshotFilePath != null && !lockstep)
+          || (trajectoryFilePath != null && (lockstep || wide))) {
+        System.err.println(
+            "Usage: java -jar rover.jar ["
+                + PARALLEL_OPTION
+                + "] ["
+                + COLLISIONS_OPTION
+                + "] ["
+                + METRICS_OPTION
+                + "] ["
+                + TRAJECTORIES_OPTION
+                + " <fichier-de-trajectoires>] <chemin-du-fichier-d-entree>");
+        System.err.println(
+            "       java -jar rover.jar "
+                + LOCKSTEP_OPTION
+                + " ["
+                + PARALLEL_OPTION
+                + "] ["
+                + CHECKPOINT_OPTION
+                + " <fichier-d-instantane>] ["
+                + METRICS_OPTION
+                + "] <chemin-du-fichier-d-entree>");
+        System.err.println(
+            "       java -jar rover.jar "
+                + WIDE_OPTION
+                + " ["
+                + METRICS_OPTION
+                + "] <chemin-du-fichier-d-entree>");
+        System.err.println(
+            "       java -jar rover.jar "
+                + SESSION_OPTION
+                + " ["
+                + COLLISIONS_OPTION
+                + "] ["
+                + METRICS_OPTION
+                + "] <chemin-du-fichier-d-entree> < <rover> <commandes>...");
+        System.err.println(
+            "       java -jar rover.jar "
+                + BATCH_OPTION
+                + " ["
+                + COLLISIONS_OPTION
+                + "] ["
+                + METRICS_OPTION
+                + "] <repertoire|glob|@liste> <repertoire-de-sortie>");
+        System.err.println(
+            "       java -jar rover.jar "
+                + SERVER_OPTION
+                + " ["
+                + COLLISIONS_OPTION
+                + "] ["
+                + METRICS_OPTION
+                + "] <port>");
+        System.err.println(
+            "       java -jar rover.jar "
+                + CONVERT_OPTION
+                + " <fichier-texte> <fichier-binaire-de-sortie>");
+        System.err.println(
+            "       java -jar rover.jar "
+                + EXPORT_TRAJECTORIES_OPTION
+                + " <fichier-de-trajectoires> <fichier-csv-de-sortie>");
         return RoverApplication.EXIT_CODE_ERROR;
       }
 
-      String inputFilePath = args[0];
+      String inputFilePath = args[fileArgument];
+      if (convert) {
+        long rovers = new MissionFileConverter().toBinary(inputFilePath, args[fileArgument + 1]);
+        System.out.println(rovers + " rovers convertis au format binaire");
+        return RoverApplication.EXIT_CODE_SUCCESS;
+      }
+      if (exportTrajectories) {
+        long rovers = new TrajectoryExporter().toCsv(inputFilePath, args[fileArgument + 1]);
+        System.out.println(rovers + " trajectoires exportées");
+        return RoverApplication.EXIT_CODE_SUCCESS;
+      }
+      if (printMetrics || server) {
+        // A resident server always publishes its metrics over JMX
+        metrics = new MissionMetrics();
+        metrics.register();
+      }
+      if (server) {
+        IMissionService missionService =
+            new MissionService(
+                new FormatDetectingInputFileService(),
+                new RoverControlService(metrics),
+                null,
+                detectCollisions,
+                metrics);
+        return runServer(missionService, Integer.parseInt(inputFilePath));
+      }
+      if (wide) {
+        // Les coordonnées longues n'ont qu'un chemin séquentiel
+        new WideMissionService(metrics).executeMission(inputFilePath, System.out);
+        return RoverApplication.EXIT_CODE_SUCCESS;
+      }
+      if (session) {
+        MissionService missionService =
+            new MissionService(
+                new FormatDetectingInputFileService(),
+                new RoverControlService(metrics),
+                null,
+                detectCollisions,
+                metrics);
+        return runSession(missionService.openSession(inputFilePath));
+      }
+      if ((parallel && (lockstep || !detectCollisions)) || batch) {
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+      }
+
+      IInputFileService inputFileService = new FormatDetectingInputFileService();
+      IRoverControlService roverControlService = new RoverControlService(metrics);
 
-      IInputFileService inputFileService = new InputFileService();
-      IRoverControlService roverControlService = new RoverControlService();
-      IMissionService missionService = new MissionService(inputFileService, roverControlService);
+      if (batch) {
+        // Missions share the pool, each one executing its rovers sequentially
+        IMissionService missionService =
+            new MissionService(
+                inputFileService, roverControlService, null, detectCollisions, metrics);
+        return runBatch(
+            new BatchMissionService(missionService, executor),
+            inputFilePath,
+            args[fileArgument + 1]);
+      }
 
-      String result = missionService.executeMission(inputFilePath);
-      System.out.println(result);
+      if (trajectoryFilePath != null) {
+        ITrajectoryMissionService missionService =
+            new MissionService(
+                inputFileService, roverControlService, executor, detectCollisions, metrics);
+        try (OutputStream trajectories =
+            new BufferedOutputStream(new FileOutputStream(trajectoryFilePath))) {
+          missionService.executeMission(inputFilePath, System.out, trajectories);
+        }
+        return RoverApplication.EXIT_CODE_SUCCESS;
+      }
+
+      IMissionService missionService =
+          lockstep
+              ? new LockstepMissionService(
+                  inputFileService,
+                  executor,
+                  metrics,
+                  snapshotFilePath == null
+                      ? null
+                      : new FleetSnapshotFile(Path.of(snapshotFilePath)),
+                  LockstepMissionService.DEFAULT_CHECKPOINT_INTERVAL)
+              : new MissionService(
+                  inputFileService, roverControlService, executor, detectCollisions, metrics);
+      missionService.executeMission(inputFilePath, System.out);
       return RoverApplication.EXIT_CODE_SUCCESS;
 
     } catch (Exception e) {
@@ -32,6 +252,93 @@ public class ApplicationRunner {
         System.err.println("Cause: " + e.getCause().getMessage());
       }
       return RoverApplication.EXIT_CODE_ERROR;
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+      if (metrics != null) {
+        closeMetrics(metrics, printMetrics);
+      }
+    }
+  }
+
+  private void closeMetrics(MissionMetrics metrics, boolean printMetrics) {
+    if (printMetrics) {
+      // Les rapports occupent la sortie standard
+      System.err.println("Métriques de la mission:");
+      System.err.println(metrics.getSummary());
+    }
+    try {
+      metrics.unregister();
+    } catch (JMException e) {
+      System.err.println("Impossible de retirer les métriques JMX: " + e.getMessage());
+    }
+  }
+
+  private int runSession(IMissionSession session) throws IOException {
+    session.writeReports(System.out);
+
+    // Chaque ligne de l'entrée standard envoie de nouvelles commandes à un rover
+    BufferedReader updates =
+        new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+    String line;
+    while ((line = updates.readLine()) != null) {
+      String update = line.strip();
+      if (update.isEmpty()) {
+        continue;
+      }
+      int separator = update.indexOf(' ');
+      try {
+        int roverId = Integer.parseInt(separator < 0 ? update : update.substring(0, separator));
+        String commands = separator < 0 ? "" : update.substring(separator + 1).strip();
+        System.out.println(session.appendCommands(roverId, commands));
+      } catch (IllegalArgumentException e) {
+        System.err.println("Mise à jour rejetée: " + e.getMessage());
+      }
+    }
+    return RoverApplication.EXIT_CODE_SUCCESS;
+  }
+
+  private int runServer(IMissionService missionService, int port) throws Exception {
+    // Local endpoint only: the server is meant for a scheduler running on the same host
+    MissionServer server =
+        new MissionServer(
+            missionService,
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+            Runtime.getRuntime().availableProcessors());
+    Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+    server.start();
+    System.out.println(
+        "Serveur de missions démarré sur http://"
+            + InetAddress.getLoopbackAddress().getHostAddress()
+            + ":"
+            + server.getPort()
+            + MissionServer.MISSION_PATH);
+    server.awaitTermination();
+    return RoverApplication.EXIT_CODE_SUCCESS;
+  }
+
+  private int runBatch(IBatchMissionService batchService, String source, String outputDirectory)
+      throws Exception {
+    List<IMissionResult> results =
+        batchService.executeBatch(batchService.resolveMissions(source), outputDirectory);
+
+    long failures = 0;
+    for (IMissionResult result : results) {
+      if (!result.isSuccessful()) {
+        failures++;
+        System.err.println(
+            "Échec de la mission " + result.getMissionFile() + ": " + result.getErrorMessage());
+      }
     }
+    System.out.println(
+        results.size()
+            + " missions exécutées, "
+            + (results.size() - failures)
+            + " réussies, "
+            + failures
+            + " échouées. Résumé: "
+            + Path.of(outputDirectory, BatchMissionService.SUMMARY_FILE));
+    return failures == 0 ? RoverApplication.EXIT_CODE_SUCCESS : RoverApplication.EXIT_CODE_ERROR;
   }
 }
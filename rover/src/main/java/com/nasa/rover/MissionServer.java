@@ -0,0 +1,139 @@
+package com.nasa.rover;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.nasa.rover.service.IMissionService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Resident HTTP server executing missions posted to {@value #MISSION_PATH}. The request body is a
+ * mission in the instruction file format and the response body holds the position reports, one per
+ * line. Keeping the JVM running saves the startup and JIT warm-up cost a new process would pay for
+ * every mission.
+ *
+ * <p>Connections are accepted by the JDK server's selector thread and missions run on a fixed pool
+ * of worker threads, each request going through the given {@link IMissionService}, which must
+ * therefore be thread-safe. A mission error is answered with status 400 and the error message.
+ */
+public class MissionServer implements AutoCloseable {
+
+  /** Path accepting missions with POST requests. */
+  public static final String MISSION_PATH = "/missions";
+
+  /** Path answering GET requests while the server is running. */
+  public static final String HEALTH_PATH = "/health";
+
+  private static final String TEXT_PLAIN = "text/plain; charset=utf-8";
+
+  private final IMissionService missionService;
+  private final HttpServer server;
+  private final ExecutorService workers;
+  private final CountDownLatch stopped = new CountDownLatch(1);
+
+  /**
+   * Creates a server bound to the given address. The server does not accept requests until it is
+   * started.
+   *
+   * @param missionService the thread-safe service executing the missions
+   * @param address the address to listen on, port 0 picking a free port
+   * @param threads the number of worker threads executing missions
+   * @throws IOException if the address cannot be bound
+   */
+  public MissionServer(IMissionService missionService, InetSocketAddress address, int threads)
+      throws IOException {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Number of worker threads must be positive");
+    }
+    this.missionService = missionService;
+    this.server = HttpServer.create(address, 0);
+    this.workers = Executors.newFixedThreadPool(threads);
+    server.setExecutor(workers);
+    server.createContext(MISSION_PATH, this::handleMission);
+    server.createContext(HEALTH_PATH, this::handleHealth);
+  }
+
+  /** Starts accepting requests. */
+  public void start() {
+    server.start();
+  }
+
+  /**
+   * Gets the port the server listens on.
+   *
+   * @return the bound port
+   */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /**
+   * Waits until the server is closed.
+   *
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  public void awaitTermination() throws InterruptedException {
+    stopped.await();
+  }
+
+  /** Stops the server, abandoning the requests in progress. */
+  @Override
+  public void close() {
+    server.stop(0);
+    workers.shutdownNow();
+    stopped.countDown();
+  }
+
+  private void handleMission(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!"POST".equals(exchange.getRequestMethod())) {
+        exchange.getResponseHeaders().set("Allow", "POST");
+        send(exchange, 405, "Missions must be sent with POST\n");
+        return;
+      }
+
+      // Reports are buffered so that a failing mission can still be answered with an error status
+      ByteArrayOutputStream reports = new ByteArrayOutputStream();
+      try (InputStream body = exchange.getRequestBody()) {
+        missionService.executeMission(body, reports);
+      } catch (Exception e) {
+        String message =
+            e.getCause() != null
+                ? e.getMessage() + ": " + e.getCause().getMessage()
+                : e.getMessage();
+        send(exchange, 400, message + "\n");
+        return;
+      }
+      send(exchange, 200, reports);
+    }
+  }
+
+  private void handleHealth(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      send(exchange, 200, "OK\n");
+    }
+  }
+
+  private static void send(HttpExchange exchange, int status, String body) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    bytes.writeBytes(body.getBytes(StandardCharsets.UTF_8));
+    send(exchange, status, bytes);
+  }
+
+  private static void send(HttpExchange exchange, int status, ByteArrayOutputStream body)
+      throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", TEXT_PLAIN);
+    exchange.sendResponseHeaders(status, body.size() == 0 ? -1 : body.size());
+    try (OutputStream output = exchange.getResponseBody()) {
+      body.writeTo(output);
+    }
+  }
+}
@@ -22,4 +22,48 @@ public interface IDirection {
    * @return the character representing this direction
    */
   String getValue();
+
+  /**
+   * Gets the x step of a move in this direction. The default implementation derives it from {@link
+   * #getValue()} for the four cardinal directions; implementations should override it with a
+   * precomputed value.
+   *
+   * @return the x step (East is +1)
+   * @throws IllegalStateException if the value is not a known direction
+   */
+  default int getDeltaX() {
+    switch (getValue()) {
+      case "E":
+        return 1;
+      case "W":
+        return -1;
+      case "N":
+      case "S":
+        return 0;
+      default:
+        throw new IllegalStateException("Invalid direction value: " + getValue());
+    }
+  }
+
+  /**
+   * Gets the y step of a move in this direction. The default implementation derives it from {@link
+   * #getValue()} for the four cardinal directions; implementations should override it with a
+   * precomputed value.
+   *
+   * @return the y step (North is +1)
+   * @throws IllegalStateException if the value is not a known direction
+   */
+  default int getDeltaY() {
+    switch (getValue()) {
+      case "N":
+        return 1;
+      case "S":
+        return -1;
+      case "E":
+      case "W":
+        return 0;
+      default:
+        throw new IllegalStateException("Invalid direction value: " + getValue());
+    }
+  }
 }
@@ -0,0 +1,39 @@
+package com.nasa.rover.model;
+
+/** Represents the outcome of one mission executed as part of a batch. */
+public interface IMissionResult {
+  /**
+   * Gets the path of the mission instruction file.
+   *
+   * @return the mission file path
+   */
+  String getMissionFile();
+
+  /**
+   * Gets the path of the file holding the rover reports of the mission.
+   *
+   * @return the result file path, or null if the mission failed
+   */
+  String getResultFile();
+
+  /**
+   * Checks if the mission completed.
+   *
+   * @return true if the mission completed, false if it failed
+   */
+  boolean isSuccessful();
+
+  /**
+   * Gets the reason why the mission failed.
+   *
+   * @return the error message, or null if the mission completed
+   */
+  String getErrorMessage();
+
+  /**
+   * Gets the time spent executing the mission.
+   *
+   * @return the duration in milliseconds
+   */
+  long getDurationMillis();
+}
@@ -0,0 +1,57 @@
+package com.nasa.rover.model;
+
+/** Interface representing an index of the plateau cells currently occupied by rovers. */
+public interface IOccupancyIndex {
+  /**
+   * Checks if a cell is occupied.
+   *
+   * @param x x coordinate
+   * @param y y coordinate
+   * @return true if a rover occupies the cell, false otherwise
+   */
+  boolean isOccupied(int x, int y);
+
+  /**
+   * Marks a cell as occupied.
+   *
+   * @param x x coordinate
+   * @param y y coordinate
+   * @return true if the cell was free, false if it was already occupied
+   */
+  boolean occupy(int x, int y);
+
+  /**
+   * Marks a cell as free.
+   *
+   * @param x x coordinate
+   * @param y y coordinate
+   */
+  void release(int x, int y);
+
+  /**
+   * Counts how many cells a rover can advance in a straight line from a cell, stopping before the
+   * first occupied one. The default implementation checks each cell in turn.
+   *
+   * @param x x coordinate of the starting cell
+   * @param y y coordinate of the starting cell
+   * @param dx x step, one of -1, 0 or 1
+   * @param dy y step, one of -1, 0 or 1
+   * @param steps maximum number of steps
+   * @return the number of free cells in front of the starting one, between 0 and steps
+   */
+  default int freeSteps(int x, int y, int dx, int dy, int steps) {
+    for (int step = 1; step <= steps; step++) {
+      if (isOccupied(x + dx * step, y + dy * step)) {
+        return step - 1;
+      }
+    }
+    return steps;
+  }
+
+  /**
+   * Gets the number of occupied cells.
+   *
+   * @return the number of occupied cells
+   */
+  long size();
+}
@@ -24,4 +24,67 @@ public interface IPlateau {
    * @return true if the position is valid, false otherwise
    */
   boolean isValidPosition(int x, int y);
+
+  /**
+   * Counts how many cells a rover can advance in a straight line from a valid position, stopping
+   * before the first invalid cell. Implementations with a simple shape should answer in constant
+   * time; the default implementation checks each cell in turn.
+   *
+   * @param x x coordinate of the starting position
+   * @param y y coordinate of the starting position
+   * @param dx x step, one of -1, 0 or 1
+   * @param dy y step, one of -1, 0 or 1
+   * @param steps maximum number of steps
+   * @return the number of steps that can be taken, between 0 and steps
+   */
+  default int reachableSteps(int x, int y, int dx, int dy, int steps) {
+    int taken = 0;
+    while (taken < steps && isValidPosition(x + dx * (taken + 1), y + dy * (taken + 1))) {
+      taken++;
+    }
+    return taken;
+  }
+
+  /**
+   * Checks if every position within the bounds of the plateau is valid. A path on such a plateau is
+   * valid as soon as its bounding box lies within the bounds, which lets periodic commands be
+   * fast-forwarded.
+   *
+   * @return true if validity only depends on the bounds, false otherwise
+   */
+  default boolean isRectangular() {
+    return false;
+  }
+
+  /**
+   * Checks if the plateau keeps track of the cells occupied by rovers. Rovers moving on such a
+   * plateau interact with each other and must be executed one at a time.
+   *
+   * @return true if rover occupancy is tracked, false otherwise
+   */
+  default boolean tracksOccupancy() {
+    return false;
+  }
+
+  /**
+   * Records a rover landing on a cell. Plateaus that do not track occupancy accept every landing.
+   *
+   * @param x x coordinate
+   * @param y y coordinate
+   * @return true if the rover could land, false if the cell is already occupied
+   */
+  default boolean landRover(int x, int y) {
+    return true;
+  }
+
+  /**
+   * Records a rover moving from one cell to another. Called by rovers after every accepted move;
+   * plateaus that do not track occupancy ignore it.
+   *
+   * @param fromX x coordinate the rover left
+   * @param fromY y coordinate the rover left
+   * @param toX x coordinate the rover reached
+   * @param toY y coordinate the rover reached
+   */
+  default void moveRover(int fromX, int fromY, int toX, int toY) {}
 }
@@ -30,6 +30,38 @@ public interface IRover {
    */
   boolean moveForward(IPlateau plateau);
 
+  /**
+   * Moves the rover forward up to the given number of grid points in its current direction,
+   * stopping before the first move that would be refused. The result is the same as calling {@link
+   * #moveForward(IPlateau)} steps times.
+   *
+   * @param plateau the plateau on which the rover is moving
+   * @param steps the number of moves requested
+   * @return the number of moves actually made
+   */
+  default int moveForward(IPlateau plateau, int steps) {
+    int moved = 0;
+    while (moved < steps && moveForward(plateau)) {
+      moved++;
+    }
+    return moved;
+  }
+
+  /**
+   * Moves the rover by a displacement in a single jump, without visiting the grid points in between
+   * and without turning. Used to fast-forward periodic commands: the caller must have checked that
+   * the whole path is valid. Rovers that need to see every move, such as recording rovers, do not
+   * support jumps.
+   *
+   * @param plateau the plateau on which the rover is moving
+   * @param dx the x displacement
+   * @param dy the y displacement
+   * @return true if the rover jumped, false if it does not support jumps
+   */
+  default boolean moveBy(IPlateau plateau, int dx, int dy) {
+    return false;
+  }
+
   /**
    * Gets a string representation of the rover's position and direction.
    *
@@ -0,0 +1,35 @@
+package com.nasa.rover.model;
+
+/**
+ * Interface representing the path recorded for a rover. Each step is stored as a two-bit code
+ * relative to the previous state of the rover.
+ */
+public interface ITrajectory {
+  /** Step code of a quarter turn to the left. */
+  int TURN_LEFT = 0;
+
+  /** Step code of a quarter turn to the right. */
+  int TURN_RIGHT = 1;
+
+  /** Step code of a move of one grid point in the current direction. */
+  int MOVE = 2;
+
+  /** Step code of a move refused by the plateau; the rover stays in place. */
+  int BLOCKED = 3;
+
+  /** Records a quarter turn to the left. */
+  void recordTurnLeft();
+
+  /** Records a quarter turn to the right. */
+  void recordTurnRight();
+
+  /**
+   * Records moves of one grid point each in the current direction.
+   *
+   * @param count the number of moves
+   */
+  void recordMoves(int count);
+
+  /** Records a move refused by the plateau. */
+  void recordBlocked();
+}
@@ -0,0 +1,60 @@
+package com.nasa.rover.model;
+
+/**
+ * Interface representing a plateau on Mars whose coordinates may not fit in an int. It is the
+ * counterpart of {@link IPlateau} for missions on very large grids; coordinates are longs and
+ * implementations must check boundaries without overflowing.
+ */
+public interface IWidePlateau {
+  /**
+   * Gets the width of the plateau.
+   *
+   * @return the largest valid x coordinate
+   */
+  long getWidth();
+
+  /**
+   * Gets the height of the plateau.
+   *
+   * @return the largest valid y coordinate
+   */
+  long getHeight();
+
+  /**
+   * Checks if a position is valid on the plateau.
+   *
+   * @param x x coordinate
+   * @param y y coordinate
+   * @return true if the position is valid, false otherwise
+   */
+  boolean isValidPosition(long x, long y);
+
+  /**
+   * Counts how many cells a rover can advance in a straight line from a valid position, stopping
+   * before the first invalid cell. The default implementation checks each cell in turn.
+   *
+   * @param x x coordinate of the starting position
+   * @param y y coordinate of the starting position
+   * @param dx x step, one of -1, 0 or 1
+   * @param dy y step, one of -1, 0 or 1
+   * @param steps maximum number of steps
+   * @return the number of steps that can be taken, between 0 and steps
+   */
+  default long reachableSteps(long x, long y, int dx, int dy, long steps) {
+    long taken = 0;
+    while (taken < steps && isValidPosition(x + dx * (taken + 1), y + dy * (taken + 1))) {
+      taken++;
+    }
+    return taken;
+  }
+
+  /**
+   * Checks if every position within the bounds of the plateau is valid, which lets periodic
+   * commands be fast-forwarded.
+   *
+   * @return true if validity only depends on the bounds, false otherwise
+   */
+  default boolean isRectangular() {
+    return false;
+  }
+}
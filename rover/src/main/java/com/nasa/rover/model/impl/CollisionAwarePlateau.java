@@ -0,0 +1,113 @@
+package com.nasa.rover.model.impl;
+
+import com.nasa.rover.model.IOccupancyIndex;
+import com.nasa.rover.model.IPlateau;
+
+/**
+ * Plateau decorator that keeps track of the cells occupied by rovers. A cell holding a rover is not
+ * a valid position for another one, so rovers stop in front of each other instead of sharing a
+ * cell. The occupancy index is updated on every landing and move reported by the rovers.
+ *
+ * <p>The index is a bitset when the plateau has at most {@link #DENSE_CELL_LIMIT} cells, and a hash
+ * set of occupied cells otherwise. This class is not thread-safe.
+ */
+public class CollisionAwarePlateau implements IPlateau {
+  /** Largest number of cells for which a bitset (32 MB at most) indexes the occupancy. */
+  public static final long DENSE_CELL_LIMIT = 1L << 28;
+
+  private final IPlateau plateau;
+  private final IOccupancyIndex occupancy;
+
+  /**
+   * Creates a collision-aware view of a plateau, choosing the occupancy index from its size.
+   *
+   * @param plateau the plateau defining the boundaries
+   */
+  public CollisionAwarePlateau(IPlateau plateau) {
+    this(plateau, createIndex(plateau));
+  }
+
+  /**
+   * Creates a collision-aware view of a plateau using the given occupancy index.
+   *
+   * @param plateau the plateau defining the boundaries
+   * @param occupancy the index of occupied cells
+   */
+  public CollisionAwarePlateau(IPlateau plateau, IOccupancyIndex occupancy) {
+    this.plateau = plateau;
+    this.occupancy = occupancy;
+  }
+
+  /**
+   * Creates an empty occupancy index suited to the size of a plateau.
+   *
+   * @param plateau the plateau to index
+   * @return a dense index for small plateaus, a sparse one otherwise
+   */
+  public static IOccupancyIndex createIndex(IPlateau plateau) {
+    long cells = ((long) plateau.getWidth() + 1) * ((long) plateau.getHeight() + 1);
+    if (cells <= DENSE_CELL_LIMIT) {
+      return new DenseOccupancyIndex(plateau.getWidth(), plateau.getHeight());
+    }
+    return new SparseOccupancyIndex();
+  }
+
+  /**
+   * Creates an empty thread-safe occupancy index suited to the size of a plateau.
+   *
+   * @param plateau the plateau to index
+   * @return a compare-and-set bitset for small plateaus, a striped hash set otherwise
+   */
+  public static IOccupancyIndex createConcurrentIndex(IPlateau plateau) {
+    long cells = ((long) plateau.getWidth() + 1) * ((long) plateau.getHeight() + 1);
+    if (cells <= DENSE_CELL_LIMIT) {
+      return new ConcurrentOccupancyIndex(plateau.getWidth(), plateau.getHeight());
+    }
+    return new StripedOccupancyIndex();
+  }
+
+  /**
+   * Gets the index of occupied cells.
+   *
+   * @return the occupancy index
+   */
+  public IOccupancyIndex getOccupancy() {
+    return occupancy;
+  }
+
+  @Override
+  public int getWidth() {
+    return plateau.getWidth();
+  }
+
+  @Override
+  public int getHeight() {
+    return plateau.getHeight();
+  }
+
+  @Override
+  public boolean isValidPosition(int x, int y) {
+    return plateau.isValidPosition(x, y) && !occupancy.isOccupied(x, y);
+  }
+
+  @Override
+  public int reachableSteps(int x, int y, int dx, int dy, int steps) {
+    return occupancy.freeSteps(x, y, dx, dy, plateau.reachableSteps(x, y, dx, dy, steps));
+  }
+
+  @Override
+  public boolean tracksOccupancy() {
+    return true;
+  }
+
+  @Override
+  public boolean landRover(int x, int y) {
+    return occupancy.occupy(x, y);
+  }
+
+  @Override
+  public void moveRover(int fromX, int fromY, int toX, int toY) {
+    occupancy.release(fromX, fromY);
+    occupancy.occupy(toX, toY);
+  }
+}
@@ -0,0 +1,86 @@
+package com.nasa.rover.model.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import com.nasa.rover.model.IOccupancyIndex;
+
+/**
+ * Thread-safe occupancy index backed by a bitset holding one bit per cell of a (width + 1) x
+ * (height + 1) grid. Cells are occupied and released with a single atomic bitwise operation on
+ * their word, so threads updating different cells never block each other, and of two threads
+ * occupying the same free cell exactly one succeeds.
+ *
+ * <p>The number of occupied cells is not tracked: {@link #size()} counts the bits of the whole
+ * grid.
+ */
+public class ConcurrentOccupancyIndex implements IOccupancyIndex {
+  private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+  private final int width;
+  private final int height;
+  private final long[] words;
+
+  /**
+   * Creates an empty index covering the cells (0, 0) to (width, height) included.
+   *
+   * @param width the largest x coordinate
+   * @param height the largest y coordinate
+   * @throws IllegalArgumentException if a dimension is negative or the grid has more than {@link
+   *     DenseOccupancyIndex#MAX_CELLS} cells
+   */
+  public ConcurrentOccupancyIndex(int width, int height) {
+    if (width < 0 || height < 0) {
+      throw new IllegalArgumentException("Grid dimensions cannot be negative");
+    }
+    long cells = ((long) width + 1) * ((long) height + 1);
+    if (cells > DenseOccupancyIndex.MAX_CELLS) {
+      throw new IllegalArgumentException("Grid too large for a dense occupancy index: " + cells);
+    }
+    this.width = width;
+    this.height = height;
+    this.words = new long[(int) ((cells + 63) >>> 6)];
+  }
+
+  @Override
+  public boolean isOccupied(int x, int y) {
+    if (x < 0 || x > width || y < 0 || y > height) {
+      return false;
+    }
+    long cell = cell(x, y);
+    return ((long) WORDS.getAcquire(words, (int) (cell >>> 6)) & (1L << cell)) != 0;
+  }
+
+  @Override
+  public boolean occupy(int x, int y) {
+    long cell = checkedCell(x, y);
+    long bit = 1L << cell;
+    return ((long) WORDS.getAndBitwiseOr(words, (int) (cell >>> 6), bit) & bit) == 0;
+  }
+
+  @Override
+  public void release(int x, int y) {
+    long cell = checkedCell(x, y);
+    WORDS.getAndBitwiseAnd(words, (int) (cell >>> 6), ~(1L << cell));
+  }
+
+  @Override
+  public long size() {
+    long size = 0;
+    for (int i = 0; i < words.length; i++) {
+      size += Long.bitCount((long) WORDS.getAcquire(words, i));
+    }
+    return size;
+  }
+
+  private long cell(int x, int y) {
+    return (long) y * ((long) width + 1) + x;
+  }
+
+  private long checkedCell(int x, int y) {
+    if (x < 0 || x > width || y < 0 || y > height) {
+      throw new IndexOutOfBoundsException("Cell (" + x + "," + y + ") is outside of the grid");
+    }
+    return cell(x, y);
+  }
+}
@@ -0,0 +1,132 @@
+package com.nasa.rover.model.impl;
+
+import com.nasa.rover.model.IOccupancyIndex;
+
+/**
+ * Occupancy index backed by a bitset holding one bit per cell of a (width + 1) x (height + 1) grid.
+ * Lookups and updates are a single word access, which makes it the index of choice when the grid is
+ * small enough for its bitset to fit in memory.
+ *
+ * <p>Cells of a row are consecutive bits, so a straight line along a row is scanned a word at a
+ * time.
+ */
+public class DenseOccupancyIndex implements IOccupancyIndex {
+  /** Largest number of cells a dense index can cover. */
+  public static final long MAX_CELLS = (long) (Integer.MAX_VALUE - 8) << 6;
+
+  private final int width;
+  private final int height;
+  private final long[] words;
+  private long size;
+
+  /**
+   * Creates an empty index covering the cells (0, 0) to (width, height) included.
+   *
+   * @param width the largest x coordinate
+   * @param height the largest y coordinate
+   * @throws IllegalArgumentException if a dimension is negative or the grid has more than {@link
+   *     #MAX_CELLS} cells
+   */
+  public DenseOccupancyIndex(int width, int height) {
+    if (width < 0 || height < 0) {
+      throw new IllegalArgumentException("Grid dimensions cannot be negative");
+    }
+    long cells = ((long) width + 1) * ((long) height + 1);
+    if (cells > MAX_CELLS) {
+      throw new IllegalArgumentException("Grid too large for a dense occupancy index: " + cells);
+    }
+    this.width = width;
+    this.height = height;
+    this.words = new long[(int) ((cells + 63) >>> 6)];
+  }
+
+  @Override
+  public boolean isOccupied(int x, int y) {
+    if (x < 0 || x > width || y < 0 || y > height) {
+      return false;
+    }
+    long cell = cell(x, y);
+    return (words[(int) (cell >>> 6)] & (1L << cell)) != 0;
+  }
+
+  @Override
+  public boolean occupy(int x, int y) {
+    long cell = checkedCell(x, y);
+    int word = (int) (cell >>> 6);
+    long bit = 1L << cell;
+    if ((words[word] & bit) != 0) {
+      return false;
+    }
+    words[word] |= bit;
+    size++;
+    return true;
+  }
+
+  @Override
+  public void release(int x, int y) {
+    long cell = checkedCell(x, y);
+    int word = (int) (cell >>> 6);
+    long bit = 1L << cell;
+    if ((words[word] & bit) != 0) {
+      words[word] &= ~bit;
+      size--;
+    }
+  }
+
+  @Override
+  public int freeSteps(int x, int y, int dx, int dy, int steps) {
+    long lastX = x + (long) dx * steps;
+    if (dx == 0
+        || dy != 0
+        || steps <= 0
+        || y < 0
+        || y > height
+        || Math.min(x, lastX) < 0
+        || Math.max(x, lastX) > width) {
+      return IOccupancyIndex.super.freeSteps(x, y, dx, dy, steps);
+    }
+    long cell = cell(x, y);
+    if (dx > 0) {
+      long from = cell + 1;
+      int last = (int) ((cell + steps) >>> 6);
+      int word = (int) (from >>> 6);
+      for (long bits = words[word] & (-1L << from); ; bits = words[word]) {
+        if (bits != 0) {
+          long occupied = ((long) word << 6) + Long.numberOfTrailingZeros(bits);
+          return (int) Math.min(steps, occupied - from);
+        }
+        if (++word > last) {
+          return steps;
+        }
+      }
+    }
+    long from = cell - 1;
+    int last = (int) ((cell - steps) >>> 6);
+    int word = (int) (from >>> 6);
+    for (long bits = words[word] & (-1L >>> (63 - (from & 63))); ; bits = words[word]) {
+      if (bits != 0) {
+        long occupied = ((long) word << 6) + 63 - Long.numberOfLeadingZeros(bits);
+        return (int) Math.min(steps, from - occupied);
+      }
+      if (--word < last) {
+        return steps;
+      }
+    }
+  }
+
+  @Override
+  public long size() {
+    return size;
+  }
+
+  private long cell(int x, int y) {
+    return (long) y * ((long) width + 1) + x;
+  }
+
+  private long checkedCell(int x, int y) {
+    if (x < 0 || x > width || y < 0 || y > height) {
+      throw new IndexOutOfBoundsException("Cell (" + x + "," + y + ") is outside of the grid");
+    }
+    return cell(x, y);
+  }
+}
@@ -7,29 +7,49 @@ import com.nasa.rover.model.IDirection;
  * IDirection interface and provides direction-related functionality.
  */
 public enum Direction implements IDirection {
-  N, // North
-  E, // East
-  S, // South
-  W; // West
+  N(0, 1), // North
+  E(1, 0), // East
+  S(0, -1), // South
+  W(-1, 0); // West
+
+  // Rotation tables indexed by ordinal; constants are declared clockwise
+  private static final Direction[] LEFT = new Direction[4];
+  private static final Direction[] RIGHT = new Direction[4];
+
+  static {
+    Direction[] values = values();
+    for (Direction direction : values) {
+      LEFT[direction.ordinal()] = values[(direction.ordinal() + 3) & 3];
+      RIGHT[direction.ordinal()] = values[(direction.ordinal() + 1) & 3];
+    }
+  }
+
+  private final int deltaX;
+  private final int deltaY;
+
+  Direction(int deltaX, int deltaY) {
+    this.deltaX = deltaX;
+    this.deltaY = deltaY;
+  }
 
   @Override
   public IDirection turnLeft() {
-    return switch (this) {
-      case N -> W;
-      case E -> N;
-      case S -> E;
-      case W -> S;
-    };
+    return LEFT[ordinal()];
   }
 
   @Override
   public IDirection turnRight() {
-    return switch (this) {
-      case N -> E;
-      case E -> S;
-      case S -> W;
-      case W -> N;
-    };
+    return RIGHT[ordinal()];
+  }
+
+  @Override
+  public int getDeltaX() {
+    return deltaX;
+  }
+
+  @Override
+  public int getDeltaY() {
+    return deltaY;
   }
 
   @Override
@@ -0,0 +1,69 @@
+package com.nasa.rover.model.impl;
+
+import com.nasa.rover.model.IMissionResult;
+
+/** Implementation of IMissionResult describing a completed or failed mission. */
+public class MissionResult implements IMissionResult {
+  private final String missionFile;
+  private final String resultFile;
+  private final String errorMessage;
+  private final long durationMillis;
+
+  private MissionResult(
+      String missionFile, String resultFile, String errorMessage, long durationMillis) {
+    this.missionFile = missionFile;
+    this.resultFile = resultFile;
+    this.errorMessage = errorMessage;
+    this.durationMillis = durationMillis;
+  }
+
+  /**
+   * Creates the result of a completed mission.
+   *
+   * @param missionFile the mission file path
+   * @param resultFile the path of the file holding the rover reports
+   * @param durationMillis the execution time in milliseconds
+   * @return the mission result
+   */
+  public static MissionResult success(String missionFile, String resultFile, long durationMillis) {
+    return new MissionResult(missionFile, resultFile, null, durationMillis);
+  }
+
+  /**
+   * Creates the result of a failed mission.
+   *
+   * @param missionFile the mission file path
+   * @param errorMessage the reason of the failure
+   * @param durationMillis the execution time in milliseconds
+   * @return the mission result
+   */
+  public static MissionResult failure(
+      String missionFile, String errorMessage, long durationMillis) {
+    return new MissionResult(missionFile, null, errorMessage, durationMillis);
+  }
+
+  @Override
+  public String getMissionFile() {
+    return missionFile;
+  }
+
+  @Override
+  public String getResultFile() {
+    return resultFile;
+  }
+
+  @Override
+  public boolean isSuccessful() {
+    return errorMessage == null;
+  }
+
+  @Override
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  @Override
+  public long getDurationMillis() {
+    return durationMillis;
+  }
+}
@@ -0,0 +1,95 @@
+package com.nasa.rover.model.impl;
+
+import com.nasa.rover.model.IOccupancyIndex;
+import com.nasa.rover.model.IPlateau;
+
+/**
+ * Plateau decorator adding impassable terrain to another plateau. A blocked cell is never a valid
+ * position, so rovers stop in front of obstacles as they stop at the edges of the plateau.
+ *
+ * <p>Obstacles are held in an {@link IOccupancyIndex}: a bitset for dense terrain maps, a hash set
+ * of blocked cells for sparse ones. Both answer a lookup with a constant number of memory accesses
+ * and without allocating. The index is only read once the plateau is created, so the plateau can be
+ * shared between threads as long as the index is no longer modified.
+ */
+public class ObstaclePlateau implements IPlateau {
+  /** Bytes per obstacle a sparse index may use, against one bit per cell for a dense one. */
+  private static final long SPARSE_BYTES_PER_OBSTACLE = 32;
+
+  private static final int SPARSE_PRESIZE_LIMIT = 1 << 20;
+
+  private final IPlateau plateau;
+  private final IOccupancyIndex obstacles;
+
+  /**
+   * Creates a view of a plateau where the cells of an index are blocked.
+   *
+   * @param plateau the plateau defining the boundaries
+   * @param obstacles the index of blocked cells
+   */
+  public ObstaclePlateau(IPlateau plateau, IOccupancyIndex obstacles) {
+    this.plateau = plateau;
+    this.obstacles = obstacles;
+  }
+
+  /**
+   * Creates an empty obstacle index suited to a plateau and an expected number of obstacles. A
+   * bitset is chosen when it takes no more memory than a hash set of the obstacles, or when the
+   * plateau is small enough for a {@link CollisionAwarePlateau} to use one.
+   *
+   * @param plateau the plateau to index
+   * @param expectedObstacles an upper bound of the number of blocked cells
+   * @return a dense index for small or crowded plateaus, a sparse one otherwise
+   */
+  public static IOccupancyIndex createIndex(IPlateau plateau, long expectedObstacles) {
+    long cells = ((long) plateau.getWidth() + 1) * ((long) plateau.getHeight() + 1);
+    boolean dense =
+        cells <= CollisionAwarePlateau.DENSE_CELL_LIMIT
+            || cells / 8 <= expectedObstacles * SPARSE_BYTES_PER_OBSTACLE;
+    if (dense && cells <= DenseOccupancyIndex.MAX_CELLS) {
+      return new DenseOccupancyIndex(plateau.getWidth(), plateau.getHeight());
+    }
+    // Rectangles may overlap, so the count is only used to presize a table of moderate size
+    return new SparseOccupancyIndex((int) Math.min(expectedObstacles, SPARSE_PRESIZE_LIMIT));
+  }
+
+  /**
+   * Gets the index of blocked cells.
+   *
+   * @return the obstacle index
+   */
+  public IOccupancyIndex getObstacles() {
+    return obstacles;
+  }
+
+  /**
+   * Checks if a cell is blocked by an obstacle.
+   *
+   * @param x x coordinate
+   * @param y y coordinate
+   * @return true if the cell is impassable, false otherwise
+   */
+  public boolean isBlocked(int x, int y) {
+    return obstacles.isOccupied(x, y);
+  }
+
+  @Override
+  public int getWidth() {
+    return plateau.getWidth();
+  }
+
+  @Override
+  public int getHeight() {
+    return plateau.getHeight();
+  }
+
+  @Override
+  public boolean isValidPosition(int x, int y) {
+    return plateau.isValidPosition(x, y) && !obstacles.isOccupied(x, y);
+  }
+
+  @Override
+  public int reachableSteps(int x, int y, int dx, int dy, int steps) {
+    return obstacles.freeSteps(x, y, dx, dy, plateau.reachableSteps(x, y, dx, dy, steps));
+  }
+}
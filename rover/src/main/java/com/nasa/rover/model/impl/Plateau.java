@@ -38,4 +38,26 @@ public class Plateau implements IPlateau {
   public boolean isValidPosition(int x, int y) {
     return x >= 0 && x <= width && y >= 0 && y <= height;
   }
+
+  @Override
+  public boolean isRectangular() {
+    return true;
+  }
+
+  @Override
+  public int reachableSteps(int x, int y, int dx, int dy, int steps) {
+    // Distance to the edges crossed by the step, in long to stay clear of int overflow
+    long limit = steps;
+    if (dx > 0) {
+      limit = Math.min(limit, (long) width - x);
+    } else if (dx < 0) {
+      limit = Math.min(limit, x);
+    }
+    if (dy > 0) {
+      limit = Math.min(limit, (long) height - y);
+    } else if (dy < 0) {
+      limit = Math.min(limit, y);
+    }
+    return (int) Math.max(0, limit);
+  }
 }
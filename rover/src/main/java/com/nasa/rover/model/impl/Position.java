@@ -48,7 +48,7 @@ public class Position implements IPosition {
 
   @Override
   public int hashCode() {
-    return 31 * x + y;
+    return WidePosition.hash(x, y);
   }
 
   @Override
@@ -0,0 +1,76 @@
+package com.nasa.rover.model.impl;
+
+import com.nasa.rover.model.IDirection;
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IPosition;
+import com.nasa.rover.model.IRover;
+import com.nasa.rover.model.ITrajectory;
+
+/**
+ * Rover decorator recording every turn and move of the wrapped rover into a trajectory. The wrapped
+ * rover keeps its state, so its position report is unchanged by recording.
+ */
+public class RecordingRover implements IRover {
+  private final IRover rover;
+  private final ITrajectory trajectory;
+
+  /**
+   * Creates a recording view of a rover.
+   *
+   * @param rover the rover to control
+   * @param trajectory the trajectory receiving the steps
+   */
+  public RecordingRover(IRover rover, ITrajectory trajectory) {
+    this.rover = rover;
+    this.trajectory = trajectory;
+  }
+
+  @Override
+  public IPosition getPosition() {
+    return rover.getPosition();
+  }
+
+  @Override
+  public IDirection getDirection() {
+    return rover.getDirection();
+  }
+
+  @Override
+  public void turnLeft() {
+    rover.turnLeft();
+    trajectory.recordTurnLeft();
+  }
+
+  @Override
+  public void turnRight() {
+    rover.turnRight();
+    trajectory.recordTurnRight();
+  }
+
+  @Override
+  public boolean moveForward(IPlateau plateau) {
+    boolean moved = rover.moveForward(plateau);
+    if (moved) {
+      trajectory.recordMoves(1);
+    } else {
+      trajectory.recordBlocked();
+    }
+    return moved;
+  }
+
+  @Override
+  public int moveForward(IPlateau plateau, int steps) {
+    int moved = rover.moveForward(plateau, steps);
+    trajectory.recordMoves(moved);
+    if (moved < steps) {
+      // A refused segment is recorded once, however many moves it held
+      trajectory.recordBlocked();
+    }
+    return moved;
+  }
+
+  @Override
+  public String getPositionReport() {
+    return rover.getPositionReport();
+  }
+}
@@ -31,6 +31,24 @@ public class Rover implements IRover {
     return new Position(position.getX(), position.getY());
   }
 
+  /**
+   * Gets the x coordinate of the rover, without the copy made by {@link #getPosition()}.
+   *
+   * @return the current x coordinate
+   */
+  public int getX() {
+    return position.getX();
+  }
+
+  /**
+   * Gets the y coordinate of the rover, without the copy made by {@link #getPosition()}.
+   *
+   * @return the current y coordinate
+   */
+  public int getY() {
+    return position.getY();
+  }
+
   @Override
   public IDirection getDirection() {
     return direction;
@@ -48,32 +66,13 @@ public class Rover implements IRover {
 
   @Override
   public boolean moveForward(IPlateau plateau) {
-    int newX = position.getX();
-    int newY = position.getY();
-
     // Calculate the new position based on the current direction
-    switch (direction.getValue()) {
-      case "N":
-        newY++;
-        break;
-      case "E":
-        newX++;
-        break;
-      case "S":
-        newY--;
-        break;
-      case "W":
-        newX--;
-        break;
-      default:
-        // Dans un cas normal, cela ne devrait jamais arriver car les directions sont limitées à N,
-        // E, S, W
-        // Mais c'est une bonne pratique de toujours avoir un cas par défaut
-        throw new IllegalStateException("Invalid direction value: " + direction.getValue());
-    }
+    int newX = position.getX() + direction.getDeltaX();
+    int newY = position.getY() + direction.getDeltaY();
 
     // Check if the new position is valid on the plateau
     if (plateau.isValidPosition(newX, newY)) {
+      plateau.moveRover(position.getX(), position.getY(), newX, newY);
       position.setX(newX);
       position.setY(newY);
       return true;
@@ -82,6 +81,36 @@ public class Rover implements IRover {
     return false;
   }
 
+  @Override
+  public int moveForward(IPlateau plateau, int steps) {
+    int dx = direction.getDeltaX();
+    int dy = direction.getDeltaY();
+
+    // Let the plateau work out the whole straight segment at once
+    int moved = plateau.reachableSteps(position.getX(), position.getY(), dx, dy, steps);
+    if (moved > 0) {
+      int newX = position.getX() + dx * moved;
+      int newY = position.getY() + dy * moved;
+      plateau.moveRover(position.getX(), position.getY(), newX, newY);
+      position.setX(newX);
+      position.setY(newY);
+    }
+    return moved;
+  }
+
+  @Override
+  public boolean moveBy(IPlateau plateau, int dx, int dy) {
+    int newX = position.getX() + dx;
+    int newY = position.getY() + dy;
+    if (!plateau.isValidPosition(newX, newY)) {
+      throw new IllegalArgumentException("Invalid rover position: " + newX + " " + newY);
+    }
+    plateau.moveRover(position.getX(), position.getY(), newX, newY);
+    position.setX(newX);
+    position.setY(newY);
+    return true;
+  }
+
   @Override
   public String getPositionReport() {
     return position.getX() + " " + position.getY() + " " + direction.getValue();
@@ -0,0 +1,150 @@
+package com.nasa.rover.model.impl;
+
+import java.util.Arrays;
+
+/**
+ * Compact store for the state of a large number of rovers. Instead of one {@link Rover} object per
+ * rover, positions and directions are kept in parallel primitive arrays indexed by rover number,
+ * which costs 9 bytes per rover and no per-rover allocation.
+ *
+ * <p>Directions are stored as {@link Direction} ordinals (N, E, S, W), so turning right adds one
+ * and turning left adds three, modulo four.
+ */
+public class RoverFleet {
+  private static final Direction[] DIRECTIONS = Direction.values();
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private int[] xs;
+  private int[] ys;
+  private byte[] directions;
+  private int size;
+
+  /** Creates an empty fleet. */
+  public RoverFleet() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty fleet able to hold the given number of rovers without growing.
+   *
+   * @param capacity the initial capacity
+   * @throws IllegalArgumentException if the capacity is negative
+   */
+  public RoverFleet(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Fleet capacity cannot be negative");
+    }
+    xs = new int[capacity];
+    ys = new int[capacity];
+    directions = new byte[capacity];
+  }
+
+  /**
+   * Adds a rover to the fleet.
+   *
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param direction the direction
+   * @return the index of the new rover
+   */
+  public int add(int x, int y, Direction direction) {
+    if (size == xs.length) {
+      int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+      xs = Arrays.copyOf(xs, capacity);
+      ys = Arrays.copyOf(ys, capacity);
+      directions = Arrays.copyOf(directions, capacity);
+    }
+    xs[size] = x;
+    ys[size] = y;
+    directions[size] = (byte) direction.ordinal();
+    return size++;
+  }
+
+  /**
+   * Gets the number of rovers in the fleet.
+   *
+   * @return the number of rovers
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the x coordinate of a rover.
+   *
+   * @param rover the rover index
+   * @return the x coordinate
+   */
+  public int getX(int rover) {
+    return xs[checkIndex(rover)];
+  }
+
+  /**
+   * Gets the y coordinate of a rover.
+   *
+   * @param rover the rover index
+   * @return the y coordinate
+   */
+  public int getY(int rover) {
+    return ys[checkIndex(rover)];
+  }
+
+  /**
+   * Gets the direction of a rover as a {@link Direction} ordinal.
+   *
+   * @param rover the rover index
+   * @return the direction ordinal (0 to 3)
+   */
+  public int getDirectionOrdinal(int rover) {
+    return directions[checkIndex(rover)];
+  }
+
+  /**
+   * Gets the direction of a rover.
+   *
+   * @param rover the rover index
+   * @return the direction
+   */
+  public Direction getDirection(int rover) {
+    return DIRECTIONS[getDirectionOrdinal(rover)];
+  }
+
+  /**
+   * Sets the position of a rover.
+   *
+   * @param rover the rover index
+   * @param x the new x coordinate
+   * @param y the new y coordinate
+   */
+  public void setPosition(int rover, int x, int y) {
+    xs[checkIndex(rover)] = x;
+    ys[rover] = y;
+  }
+
+  /**
+   * Sets the direction of a rover from a {@link Direction} ordinal.
+   *
+   * @param rover the rover index
+   * @param ordinal the direction ordinal, taken modulo four
+   */
+  public void setDirectionOrdinal(int rover, int ordinal) {
+    directions[checkIndex(rover)] = (byte) (ordinal & 3);
+  }
+
+  /**
+   * Gets a string representation of a rover's position and direction.
+   *
+   * @param rover the rover index
+   * @return a string in the format "x y direction"
+   */
+  public String getPositionReport(int rover) {
+    return getX(rover) + " " + getY(rover) + " " + getDirection(rover).getValue();
+  }
+
+  private int checkIndex(int rover) {
+    if (rover < 0 || rover >= size) {
+      throw new IndexOutOfBoundsException("Invalid rover index: " + rover);
+    }
+    return rover;
+  }
+}
@@ -0,0 +1,170 @@
+package com.nasa.rover.model.impl;
+
+import java.util.Arrays;
+
+import com.nasa.rover.model.IOccupancyIndex;
+
+/**
+ * Occupancy index backed by an open-addressing hash set of cells packed into long keys. Memory
+ * grows with the number of occupied cells rather than with the grid, so it suits huge plateaus
+ * sparsely populated by rovers.
+ *
+ * <p>Keys live in a single {@code long[]} probed linearly and kept at most half full; removals
+ * shift the following entries back instead of leaving tombstones, so lookups stay short however
+ * many times rovers move.
+ */
+public class SparseOccupancyIndex implements IOccupancyIndex {
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  // Marks a free slot; the cell it encodes is tracked by a separate flag
+  private static final long EMPTY = key(-1, -1);
+
+  private long[] keys;
+  private int mask;
+  private int count;
+  private boolean emptyKeyOccupied;
+
+  /** Creates an empty index. */
+  public SparseOccupancyIndex() {
+    this(DEFAULT_CAPACITY / 2);
+  }
+
+  /**
+   * Creates an empty index able to hold the given number of cells without growing.
+   *
+   * @param expectedCells the expected number of occupied cells
+   * @throws IllegalArgumentException if the expected number of cells is negative or too large
+   */
+  public SparseOccupancyIndex(int expectedCells) {
+    if (expectedCells < 0 || expectedCells > MAX_CAPACITY / 2) {
+      throw new IllegalArgumentException("Invalid expected number of cells: " + expectedCells);
+    }
+    int capacity = DEFAULT_CAPACITY;
+    while (capacity / 2 < expectedCells) {
+      capacity <<= 1;
+    }
+    allocate(capacity);
+  }
+
+  @Override
+  public boolean isOccupied(int x, int y) {
+    long key = key(x, y);
+    if (key == EMPTY) {
+      return emptyKeyOccupied;
+    }
+    for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+      long current = keys[slot];
+      if (current == key) {
+        return true;
+      }
+      if (current == EMPTY) {
+        return false;
+      }
+    }
+  }
+
+  @Override
+  public boolean occupy(int x, int y) {
+    long key = key(x, y);
+    if (key == EMPTY) {
+      boolean added = !emptyKeyOccupied;
+      emptyKeyOccupied = true;
+      return added;
+    }
+    int slot = slot(key);
+    while (keys[slot] != EMPTY) {
+      if (keys[slot] == key) {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = key;
+    if (++count > keys.length / 2) {
+      grow();
+    }
+    return true;
+  }
+
+  @Override
+  public void release(int x, int y) {
+    long key = key(x, y);
+    if (key == EMPTY) {
+      emptyKeyOccupied = false;
+      return;
+    }
+    for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+      long current = keys[slot];
+      if (current == EMPTY) {
+        return;
+      }
+      if (current == key) {
+        shiftBack(slot);
+        count--;
+        return;
+      }
+    }
+  }
+
+  @Override
+  public long size() {
+    return count + (emptyKeyOccupied ? 1 : 0);
+  }
+
+  /** Fills the gap left at the given slot with the entries of the probe chain that follows it. */
+  private void shiftBack(int gap) {
+    int slot = gap;
+    while (true) {
+      slot = (slot + 1) & mask;
+      long current = keys[slot];
+      if (current == EMPTY) {
+        break;
+      }
+      // The entry may move back only if its home slot is not between the gap and its slot
+      int home = slot(current);
+      if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+        keys[gap] = current;
+        gap = slot;
+      }
+    }
+    keys[gap] = EMPTY;
+  }
+
+  private void grow() {
+    if (keys.length == MAX_CAPACITY) {
+      throw new IllegalStateException("Occupancy index is full");
+    }
+    long[] previous = keys;
+    allocate(previous.length << 1);
+    for (long key : previous) {
+      if (key != EMPTY) {
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    Arrays.fill(keys, EMPTY);
+    mask = capacity - 1;
+  }
+
+  private int slot(long key) {
+    // MurmurHash3 finalizer, so that neighbouring cells spread over the whole table
+    long hash = key;
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return (int) hash & mask;
+  }
+
+  private static long key(int x, int y) {
+    return ((long) x << 32) | (y & 0xffffffffL);
+  }
+}
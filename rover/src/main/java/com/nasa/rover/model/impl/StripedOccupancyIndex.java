@@ -0,0 +1,82 @@
+package com.nasa.rover.model.impl;
+
+import com.nasa.rover.model.IOccupancyIndex;
+
+/**
+ * Thread-safe occupancy index for huge plateaus, made of several {@link SparseOccupancyIndex}
+ * stripes each guarded by its own lock. A cell always maps to the same stripe, so threads only
+ * contend when they touch cells of the same stripe, and of two threads occupying the same free cell
+ * exactly one succeeds.
+ */
+public class StripedOccupancyIndex implements IOccupancyIndex {
+  /** Default number of stripes, enough to keep contention low on a many-core host. */
+  public static final int DEFAULT_STRIPES = 64;
+
+  private final SparseOccupancyIndex[] stripes;
+
+  /** Creates an empty index with {@link #DEFAULT_STRIPES} stripes. */
+  public StripedOccupancyIndex() {
+    this(DEFAULT_STRIPES);
+  }
+
+  /**
+   * Creates an empty index with the given number of stripes.
+   *
+   * @param stripeCount the number of stripes, rounded up to a power of two
+   * @throws IllegalArgumentException if the number of stripes is not positive or too large
+   */
+  public StripedOccupancyIndex(int stripeCount) {
+    if (stripeCount <= 0 || stripeCount > 1 << 16) {
+      throw new IllegalArgumentException("Invalid number of stripes: " + stripeCount);
+    }
+    int count = Integer.highestOneBit(stripeCount);
+    if (count < stripeCount) {
+      count <<= 1;
+    }
+    stripes = new SparseOccupancyIndex[count];
+    for (int i = 0; i < count; i++) {
+      stripes[i] = new SparseOccupancyIndex();
+    }
+  }
+
+  @Override
+  public boolean isOccupied(int x, int y) {
+    SparseOccupancyIndex stripe = stripe(x, y);
+    synchronized (stripe) {
+      return stripe.isOccupied(x, y);
+    }
+  }
+
+  @Override
+  public boolean occupy(int x, int y) {
+    SparseOccupancyIndex stripe = stripe(x, y);
+    synchronized (stripe) {
+      return stripe.occupy(x, y);
+    }
+  }
+
+  @Override
+  public void release(int x, int y) {
+    SparseOccupancyIndex stripe = stripe(x, y);
+    synchronized (stripe) {
+      stripe.release(x, y);
+    }
+  }
+
+  @Override
+  public long size() {
+    long size = 0;
+    for (SparseOccupancyIndex stripe : stripes) {
+      synchronized (stripe) {
+        size += stripe.size();
+      }
+    }
+    return size;
+  }
+
+  private SparseOccupancyIndex stripe(int x, int y) {
+    // Neighbouring cells land on different stripes
+    int hash = x * 0x9E3779B1 + y * 0x85EBCA6B;
+    return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+  }
+}
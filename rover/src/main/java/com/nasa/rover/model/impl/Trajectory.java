@@ -0,0 +1,204 @@
+package com.nasa.rover.model.impl;
+
+import java.nio.ByteBuffer;
+
+import com.nasa.rover.model.IDirection;
+import com.nasa.rover.model.ITrajectory;
+
+/**
+ * Trajectory stored off-heap. Steps are packed four per byte, two bits each starting with the
+ * low-order bits, in a direct buffer that doubles when full. A trajectory can be reset and reused
+ * for the next rover, so recording a whole mission needs a single buffer per thread.
+ */
+public class Trajectory implements ITrajectory {
+  /** Initial size of the step buffer in bytes. */
+  public static final int DEFAULT_CAPACITY = 64;
+
+  private static final int STEPS_PER_BYTE = 4;
+
+  // Four moves in a single byte
+  private static final byte MOVES = (byte) 0xAA;
+
+  private ByteBuffer steps;
+  private long stepCount;
+  // Steps of the last, incomplete byte, kept out of the buffer until the byte is full
+  private int pending;
+  private int startX;
+  private int startY;
+  private IDirection startDirection;
+
+  /** Creates an empty trajectory starting at (0, 0) facing north. */
+  public Trajectory() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty trajectory starting at (0, 0) facing north.
+   *
+   * @param capacity the initial size of the step buffer in bytes
+   * @throws IllegalArgumentException if the capacity is not positive
+   */
+  public Trajectory(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Trajectory capacity must be positive");
+    }
+    steps = ByteBuffer.allocateDirect(capacity);
+    startDirection = Direction.N;
+  }
+
+  /**
+   * Clears the recorded steps and sets the starting state of the next trajectory.
+   *
+   * @param x the starting x coordinate
+   * @param y the starting y coordinate
+   * @param direction the starting direction
+   */
+  public void reset(int x, int y, IDirection direction) {
+    startX = x;
+    startY = y;
+    startDirection = direction;
+    stepCount = 0;
+    pending = 0;
+  }
+
+  /**
+   * Gets the starting x coordinate.
+   *
+   * @return the x coordinate before the first step
+   */
+  public int getStartX() {
+    return startX;
+  }
+
+  /**
+   * Gets the starting y coordinate.
+   *
+   * @return the y coordinate before the first step
+   */
+  public int getStartY() {
+    return startY;
+  }
+
+  /**
+   * Gets the starting direction.
+   *
+   * @return the direction before the first step
+   */
+  public IDirection getStartDirection() {
+    return startDirection;
+  }
+
+  /**
+   * Gets the number of recorded steps.
+   *
+   * @return the number of steps
+   */
+  public long getStepCount() {
+    return stepCount;
+  }
+
+  /**
+   * Gets a recorded step.
+   *
+   * @param index the step index
+   * @return the step code
+   * @throws IndexOutOfBoundsException if no step has this index
+   */
+  public int getStep(long index) {
+    if (index < 0 || index >= stepCount) {
+      throw new IndexOutOfBoundsException("Invalid step index: " + index);
+    }
+    int byteIndex = (int) (index / STEPS_PER_BYTE);
+    int packed = byteIndex == stepCount / STEPS_PER_BYTE ? pending : steps.get(byteIndex);
+    return (packed >>> (2 * (int) (index % STEPS_PER_BYTE))) & 3;
+  }
+
+  /**
+   * Gets the packed steps.
+   *
+   * @return a read-only view of the bytes holding the steps
+   */
+  public ByteBuffer getPackedSteps() {
+    if (stepCount % STEPS_PER_BYTE != 0) {
+      int index = (int) (stepCount / STEPS_PER_BYTE);
+      ensureCapacity(index + 1L);
+      steps.put(index, (byte) pending);
+    }
+    ByteBuffer view = steps.asReadOnlyBuffer();
+    view.position(0).limit(byteCount(stepCount));
+    return view.slice();
+  }
+
+  @Override
+  public void recordTurnLeft() {
+    append(TURN_LEFT);
+  }
+
+  @Override
+  public void recordTurnRight() {
+    append(TURN_RIGHT);
+  }
+
+  @Override
+  public void recordMoves(int count) {
+    int remaining = count;
+    while (remaining > 0 && stepCount % STEPS_PER_BYTE != 0) {
+      append(MOVE);
+      remaining--;
+    }
+
+    // Whole bytes of moves are written at once
+    int fullBytes = remaining / STEPS_PER_BYTE;
+    if (fullBytes > 0) {
+      int start = byteCount(stepCount);
+      ensureCapacity((long) start + fullBytes);
+      for (int i = start; i < start + fullBytes; i++) {
+        steps.put(i, MOVES);
+      }
+      stepCount += (long) fullBytes * STEPS_PER_BYTE;
+      remaining -= fullBytes * STEPS_PER_BYTE;
+    }
+
+    while (remaining > 0) {
+      append(MOVE);
+      remaining--;
+    }
+  }
+
+  @Override
+  public void recordBlocked() {
+    append(BLOCKED);
+  }
+
+  private void append(int code) {
+    int slot = (int) (stepCount % STEPS_PER_BYTE);
+    pending |= code << (2 * slot);
+    if (slot == STEPS_PER_BYTE - 1) {
+      int index = (int) (stepCount / STEPS_PER_BYTE);
+      ensureCapacity(index + 1L);
+      steps.put(index, (byte) pending);
+      pending = 0;
+    }
+    stepCount++;
+  }
+
+  private void ensureCapacity(long bytes) {
+    if (bytes <= steps.capacity()) {
+      return;
+    }
+    if (bytes > Integer.MAX_VALUE - 8) {
+      throw new IllegalStateException("Trajectory too long");
+    }
+    int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(bytes, 2L * steps.capacity()));
+    ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+    // Only whole bytes are in the buffer, the last incomplete one is still pending
+    ByteBuffer used = steps.duplicate();
+    used.position(0).limit((int) (stepCount / STEPS_PER_BYTE));
+    grown.put(used);
+    steps = grown;
+  }
+
+  private static int byteCount(long stepCount) {
+    return (int) ((stepCount + STEPS_PER_BYTE - 1) / STEPS_PER_BYTE);
+  }
+}
@@ -0,0 +1,76 @@
+package com.nasa.rover.model.impl;
+
+import com.nasa.rover.model.IWidePlateau;
+
+/**
+ * Rectangular plateau with long coordinates, for grids larger than {@link Plateau} can hold.
+ * Dimensions are capped at {@link #MAX_DIMENSION}, which leaves enough headroom above any valid
+ * coordinate for a rover to add the displacement of a whole command string without overflowing.
+ */
+public class WidePlateau implements IWidePlateau {
+
+  /** Largest width or height of a wide plateau. */
+  public static final long MAX_DIMENSION = 1L << 62;
+
+  private final long width;
+  private final long height;
+
+  /**
+   * Creates a new plateau with the specified dimensions.
+   *
+   * @param width the width of the plateau
+   * @param height the height of the plateau
+   * @throws IllegalArgumentException if either dimension is negative or above {@link
+   *     #MAX_DIMENSION}
+   */
+  public WidePlateau(long width, long height) {
+    if (width < 0 || height < 0) {
+      throw new IllegalArgumentException("Plateau dimensions cannot be negative");
+    }
+    if (width > MAX_DIMENSION || height > MAX_DIMENSION) {
+      throw new IllegalArgumentException("Plateau dimensions cannot exceed " + MAX_DIMENSION);
+    }
+    this.width = width;
+    this.height = height;
+  }
+
+  @Override
+  public long getWidth() {
+    return width;
+  }
+
+  @Override
+  public long getHeight() {
+    return height;
+  }
+
+  @Override
+  public boolean isValidPosition(long x, long y) {
+    return x >= 0 && x <= width && y >= 0 && y <= height;
+  }
+
+  @Override
+  public boolean isRectangular() {
+    return true;
+  }
+
+  @Override
+  public long reachableSteps(long x, long y, int dx, int dy, long steps) {
+    if (!isValidPosition(x, y)) {
+      return 0;
+    }
+    // Both coordinates are within [0, MAX_DIMENSION], so the distances cannot overflow
+    long limit = steps;
+    if (dx > 0) {
+      limit = Math.min(limit, width - x);
+    } else if (dx < 0) {
+      limit = Math.min(limit, x);
+    }
+    if (dy > 0) {
+      limit = Math.min(limit, height - y);
+    } else if (dy < 0) {
+      limit = Math.min(limit, y);
+    }
+    return Math.max(0, limit);
+  }
+}
@@ -0,0 +1,83 @@
+package com.nasa.rover.model.impl;
+
+/**
+ * Immutable position with long coordinates, used on {@link WidePlateau}s. Hash codes combine both
+ * coordinates into a single long, scramble it with the MurmurHash3 finalizer and keep its low 32
+ * bits.
+ */
+public final class WidePosition {
+  private final long x;
+  private final long y;
+
+  /**
+   * Creates a new position with the specified coordinates.
+   *
+   * @param x the x coordinate
+   * @param y the y coordinate
+   */
+  public WidePosition(long x, long y) {
+    this.x = x;
+    this.y = y;
+  }
+
+  /**
+   * Gets the X coordinate.
+   *
+   * @return the X coordinate
+   */
+  public long getX() {
+    return x;
+  }
+
+  /**
+   * Gets the Y coordinate.
+   *
+   * @return the Y coordinate
+   */
+  public long getY() {
+    return y;
+  }
+
+  /**
+   * Hashes a pair of coordinates. The pair is combined into one long as {@code x * c + y}, c being
+   * an odd constant, with wrap-around, so distinct pairs may share that value. The long then goes
+   * through the MurmurHash3 finalizer and its low 32 bits are returned, which spreads nearby cells,
+   * rows and columns across hash tables.
+   *
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @return the hash code of the pair
+   */
+  static int hash(long x, long y) {
+    long hash = x * 0x9e3779b97f4a7c15L + y;
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return (int) hash;
+  }
+
+  @Override
+  public String toString() {
+    return x + " " + y;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash(x, y);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+
+    WidePosition other = (WidePosition) obj;
+    return x == other.x && y == other.y;
+  }
+}
@@ -0,0 +1,134 @@
+package com.nasa.rover.model.impl;
+
+import com.nasa.rover.model.IDirection;
+import com.nasa.rover.model.IWidePlateau;
+
+/**
+ * Rover moving on a plateau with long coordinates. It mirrors {@link Rover}; moves are checked by
+ * the plateau before the coordinates change, so a rover never leaves the plateau and its
+ * coordinates cannot overflow.
+ */
+public class WideRover {
+  private long x;
+  private long y;
+  private IDirection direction;
+
+  /**
+   * Creates a new rover with the specified position and direction.
+   *
+   * @param position the initial position
+   * @param direction the initial direction
+   */
+  public WideRover(WidePosition position, IDirection direction) {
+    this.x = position.getX();
+    this.y = position.getY();
+    this.direction = direction;
+  }
+
+  /**
+   * Gets the current position of the rover.
+   *
+   * @return the current position
+   */
+  public WidePosition getPosition() {
+    return new WidePosition(x, y);
+  }
+
+  /**
+   * Gets the x coordinate of the rover, without the copy made by {@link #getPosition()}.
+   *
+   * @return the current x coordinate
+   */
+  public long getX() {
+    return x;
+  }
+
+  /**
+   * Gets the y coordinate of the rover, without the copy made by {@link #getPosition()}.
+   *
+   * @return the current y coordinate
+   */
+  public long getY() {
+    return y;
+  }
+
+  /**
+   * Gets the current direction of the rover.
+   *
+   * @return the current direction
+   */
+  public IDirection getDirection() {
+    return direction;
+  }
+
+  /** Turns the rover left. */
+  public void turnLeft() {
+    direction = direction.turnLeft();
+  }
+
+  /** Turns the rover right. */
+  public void turnRight() {
+    direction = direction.turnRight();
+  }
+
+  /**
+   * Moves the rover forward one grid point in its current direction.
+   *
+   * @param plateau the plateau on which the rover is moving
+   * @return true if the movement was successful, false otherwise
+   */
+  public boolean moveForward(IWidePlateau plateau) {
+    return moveForward(plateau, 1) == 1;
+  }
+
+  /**
+   * Moves the rover forward up to the given number of grid points in its current direction,
+   * stopping before the first move that would be refused.
+   *
+   * @param plateau the plateau on which the rover is moving
+   * @param steps the number of moves requested
+   * @return the number of moves actually made
+   */
+  public long moveForward(IWidePlateau plateau, long steps) {
+    int dx = direction.getDeltaX();
+    int dy = direction.getDeltaY();
+    long moved = plateau.reachableSteps(x, y, dx, dy, steps);
+    x += dx * moved;
+    y += dy * moved;
+    return moved;
+  }
+
+  /**
+   * Moves the rover by a displacement in a single jump, without visiting the grid points in
+   * between. Used to fast-forward periodic commands once the whole path has been checked.
+   *
+   * @param plateau the plateau on which the rover is moving
+   * @param dx the x displacement
+   * @param dy the y displacement
+   * @throws IllegalArgumentException if the target is not a valid position of the plateau
+   */
+  public void moveBy(IWidePlateau plateau, long dx, long dy) {
+    long newX;
+    long newY;
+    try {
+      newX = Math.addExact(x, dx);
+      newY = Math.addExact(y, dy);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Invalid rover displacement: " + dx + " " + dy, e);
+    }
+    if (!plateau.isValidPosition(newX, newY)) {
+      throw new IllegalArgumentException("Invalid rover position: " + newX + " " + newY);
+    }
+    x = newX;
+    y = newY;
+  }
+
+  /**
+   * Gets a string representation of the rover's position and direction.
+   *
+   * @return a string in the format "x y direction"
+   */
+  public String getPositionReport() {
+    return x + " " + y + " " + direction.getValue();
+  }
+}
@@ -0,0 +1,33 @@
+package com.nasa.rover.service;
+
+import java.util.List;
+
+import com.nasa.rover.model.IMissionResult;
+
+/** Interface for the service that executes many missions in a single run. */
+public interface IBatchMissionService {
+
+  /**
+   * Resolves the mission files designated by a batch source. The source is either a directory,
+   * whose regular files are all missions, a glob pattern such as {@code missions/*.txt} in which
+   * {@code **} also crosses directories, a list file prefixed with {@code @} naming one mission
+   * file per line, or a single mission file.
+   *
+   * @param source the batch source
+   * @return the mission file paths, in a stable order
+   * @throws Exception if the source cannot be read or designates no mission
+   */
+  List<String> resolveMissions(String source) throws Exception;
+
+  /**
+   * Executes missions and writes the rover reports of each one to its own file in the output
+   * directory, along with a summary of the batch. A failing mission does not stop the others.
+   *
+   * @param missionFiles the mission file paths
+   * @param outputDirectory the directory receiving the result files, created if needed
+   * @return the result of each mission, in the order of the mission files
+   * @throws Exception if the output directory or the summary cannot be written
+   */
+  List<IMissionResult> executeBatch(List<String> missionFiles, String outputDirectory)
+      throws Exception;
+}
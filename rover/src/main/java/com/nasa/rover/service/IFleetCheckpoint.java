@@ -0,0 +1,25 @@
+package com.nasa.rover.service;
+
+import java.io.IOException;
+
+import com.nasa.rover.model.impl.RoverFleet;
+
+/**
+ * Interface for the receiver of the checkpoints of a lock-step simulation. A long simulation hands
+ * the state of its fleet to a checkpoint at regular intervals, so that it can be resumed from the
+ * last one after a crash instead of starting over.
+ */
+@FunctionalInterface
+public interface IFleetCheckpoint {
+
+  /**
+   * Saves the state of a fleet between two ticks.
+   *
+   * @param fleet the fleet, up to date with the completed ticks; it must not be modified nor kept
+   * @param tick the number of ticks completed, which is also the number of commands each rover has
+   *     consumed
+   * @param ticks the total number of ticks of the simulation
+   * @throws IOException if the checkpoint cannot be saved
+   */
+  void save(RoverFleet fleet, long tick, long ticks) throws IOException;
+}
@@ -0,0 +1,21 @@
+package com.nasa.rover.service;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.impl.RoverFleet;
+
+/**
+ * Interface for the service that manages the movements of rovers stored in a {@link RoverFleet}.
+ */
+public interface IFleetControlService {
+
+  /**
+   * Executes a series of commands on one rover of a fleet.
+   *
+   * @param fleet the fleet holding the rover
+   * @param rover the index of the rover in the fleet
+   * @param commands the command string (L, R, M)
+   * @param plateau the plateau on which the rover is moving
+   * @throws IllegalArgumentException if an invalid command is encountered
+   */
+  void executeCommands(RoverFleet fleet, int rover, String commands, IPlateau plateau);
+}
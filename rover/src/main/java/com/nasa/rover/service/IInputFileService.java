@@ -1,6 +1,8 @@
 package com.nasa.rover.service;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 import com.nasa.rover.model.IPlateau;
 import com.nasa.rover.model.IRoverCommand;
@@ -25,4 +27,29 @@ public interface IInputFileService {
    * @throws Exception if an error occurs during file reading or parsing
    */
   List<IRoverCommand> readRoverCommandsFromFile(String filePath) throws Exception;
+
+  /**
+   * Reads a complete mission in a single pass. The plateau line is parsed once and each rover is
+   * handed to the handler as soon as its position and command lines have been read, so callers do
+   * not need to hold the whole fleet in memory.
+   *
+   * @param filePath path to the instruction file
+   * @param roverHandler receives the plateau and each rover command, in file order
+   * @return the plateau created from the instructions
+   * @throws Exception if an error occurs during file reading or parsing
+   */
+  IPlateau readMission(String filePath, BiConsumer<IPlateau, IRoverCommand> roverHandler)
+      throws Exception;
+
+  /**
+   * Reads a complete mission in a single pass from a stream, as {@link #readMission(String,
+   * BiConsumer)} does from a file. The stream is decoded as UTF-8 and is not closed.
+   *
+   * @param input the stream holding the instructions
+   * @param roverHandler receives the plateau and each rover command, in input order
+   * @return the plateau created from the instructions
+   * @throws Exception if an error occurs during reading or parsing
+   */
+  IPlateau readMission(InputStream input, BiConsumer<IPlateau, IRoverCommand> roverHandler)
+      throws Exception;
 }
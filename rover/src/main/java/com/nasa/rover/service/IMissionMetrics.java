@@ -0,0 +1,120 @@
+package com.nasa.rover.service;
+
+import javax.management.MXBean;
+
+/**
+ * Interface exposing the execution metrics of the missions run by a JVM. Counters are cumulative
+ * since the metrics were created; times are in nanoseconds. The interface is also the management
+ * interface published over JMX.
+ */
+@MXBean
+public interface IMissionMetrics {
+
+  /**
+   * Gets the number of missions that completed.
+   *
+   * @return the number of successful missions
+   */
+  long getMissionsCompleted();
+
+  /**
+   * Gets the number of missions that failed.
+   *
+   * @return the number of failed missions
+   */
+  long getMissionsFailed();
+
+  /**
+   * Gets the number of rovers whose report was written.
+   *
+   * @return the number of processed rovers
+   */
+  long getRoversProcessed();
+
+  /**
+   * Gets the number of rovers that had at least one move refused by the plateau.
+   *
+   * @return the number of blocked rovers
+   */
+  long getRoversBlocked();
+
+  /**
+   * Gets the number of commands executed.
+   *
+   * @return the number of L, R and M commands
+   */
+  long getCommandsExecuted();
+
+  /**
+   * Gets the number of turn commands executed.
+   *
+   * @return the number of L and R commands
+   */
+  long getTurns();
+
+  /**
+   * Gets the number of move commands refused because the rover would have left the plateau or
+   * entered an occupied cell.
+   *
+   * @return the number of blocked moves
+   */
+  long getMovesBlocked();
+
+  /**
+   * Gets the time spent reading and parsing missions.
+   *
+   * @return the parse time in nanoseconds
+   */
+  long getParseTimeNanos();
+
+  /**
+   * Gets the time spent executing rover commands, summed over all threads.
+   *
+   * @return the execute time in nanoseconds
+   */
+  long getExecuteTimeNanos();
+
+  /**
+   * Gets the time spent writing position reports.
+   *
+   * @return the output time in nanoseconds
+   */
+  long getOutputTimeNanos();
+
+  /**
+   * Gets the largest number of parsed batches seen waiting for a worker in a pipelined mission.
+   *
+   * @return the maximum depth of the execute queue
+   */
+  long getExecuteQueueMaxDepth();
+
+  /**
+   * Gets the average number of parsed batches waiting for a worker, sampled each time the parser
+   * queues a batch.
+   *
+   * @return the mean depth of the execute queue, or 0 if no batch was queued
+   */
+  double getExecuteQueueMeanDepth();
+
+  /**
+   * Gets the largest number of executed batches seen waiting for the writer in a pipelined mission.
+   *
+   * @return the maximum depth of the output queue
+   */
+  long getOutputQueueMaxDepth();
+
+  /**
+   * Gets the average number of executed batches waiting for the writer, sampled each time a worker
+   * queues a batch.
+   *
+   * @return the mean depth of the output queue, or 0 if no batch was queued
+   */
+  double getOutputQueueMeanDepth();
+
+  /**
+   * Gets a human-readable summary of all metrics, one per line.
+   *
+   * @return the summary
+   */
+  String getSummary();
+}
@@ -1,5 +1,8 @@
 package com.nasa.rover.service;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+
 /** Interface for the service that manages an entire Mars Rover mission. */
 public interface IMissionService {
 
@@ -11,4 +14,26 @@ public interface IMissionService {
    * @throws Exception if an error occurs during mission execution
    */
   String executeMission(String inputFilePath) throws Exception;
+
+  /**
+   * Executes a complete mission from an instruction file, streaming the final position report of
+   * each rover to the output as soon as it is known. Reports are written in input order, one per
+   * line, each terminated by a line feed. The output is flushed but not closed; if the mission
+   * fails, the reports already written are left in the output.
+   *
+   * @param inputFilePath path to the instruction file
+   * @param output the stream receiving the reports
+   * @throws Exception if an error occurs during mission execution
+   */
+  void executeMission(String inputFilePath, OutputStream output) throws Exception;
+
+  /**
+   * Executes a complete mission read from a stream, writing the reports as {@link
+   * #executeMission(String, OutputStream)} does. Neither stream is closed.
+   *
+   * @param input the stream holding the instructions
+   * @param output the stream receiving the reports
+   * @throws Exception if an error occurs during mission execution
+   */
+  void executeMission(InputStream input, OutputStream output) throws Exception;
 }
@@ -0,0 +1,49 @@
+package com.nasa.rover.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Interface for a mission kept alive between command updates. The rovers of the mission stay where
+ * their last commands left them, so new commands are executed from there instead of replaying the
+ * whole history from the initial positions. Rovers are identified by their index in the mission,
+ * starting at 0.
+ */
+public interface IMissionSession {
+
+  /**
+   * Gets the number of rovers of the mission.
+   *
+   * @return the number of rovers
+   */
+  int getRoverCount();
+
+  /**
+   * Executes new commands on one rover, starting from its current state.
+   *
+   * @param roverId the index of the rover in the mission
+   * @param commands the command string (L, R, M, runs and groups)
+   * @return the position report of the rover once the commands have been executed
+   * @throws IllegalArgumentException if the rover does not exist or the commands are invalid, in
+   *     which case no command is executed
+   */
+  String appendCommands(int roverId, String commands);
+
+  /**
+   * Gets the current position report of one rover.
+   *
+   * @param roverId the index of the rover in the mission
+   * @return the position report, e.g. "1 3 N"
+   * @throws IllegalArgumentException if the rover does not exist
+   */
+  String getPositionReport(int roverId);
+
+  /**
+   * Writes the current position report of every rover, in mission order, one per line, each
+   * terminated by a line feed. The output is flushed but not closed.
+   *
+   * @param output the stream receiving the reports
+   * @throws IOException if the reports cannot be written
+   */
+  void writeReports(OutputStream output) throws IOException;
+}
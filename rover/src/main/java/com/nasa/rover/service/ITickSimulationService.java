@@ -0,0 +1,54 @@
+package com.nasa.rover.service;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.impl.RoverFleet;
+
+/**
+ * Interface for the service that moves the rovers of a {@link RoverFleet} simultaneously: during
+ * tick i, every rover executes its i-th command.
+ */
+public interface ITickSimulationService {
+
+  /**
+   * Executes the commands of every rover of a fleet in lock-step, until the longest command string
+   * is exhausted. A move succeeds when the target cell is a valid position of the plateau, was free
+   * at the start of the tick and is not entered during the same tick by a rover of lower index.
+   * Rovers that run out of commands keep blocking their cell.
+   *
+   * @param fleet the fleet holding the rovers, updated in place
+   * @param commands the command string of each rover, indexed like the fleet
+   * @param plateau the plateau on which the rovers are moving
+   * @return the number of moves refused to each rover, indexed like the fleet
+   * @throws IllegalArgumentException if the number of command strings does not match the fleet, a
+   *     command is invalid, or two rovers share a cell
+   */
+  default long[] simulate(RoverFleet fleet, String[] commands, IPlateau plateau) {
+    return simulate(fleet, commands, plateau, 0, 0, null);
+  }
+
+  /**
+   * Executes the commands of every rover of a fleet in lock-step as {@link #simulate(RoverFleet,
+   * String[], IPlateau)} does, starting after a number of ticks and saving checkpoints along the
+   * way. The fleet holds the state of the rovers once the first ticks are done, as saved by a
+   * checkpoint, and the commands those ticks consumed are skipped.
+   *
+   * @param fleet the fleet holding the rovers as they stand after firstTick ticks, updated in place
+   * @param commands the command string of each rover, indexed like the fleet
+   * @param plateau the plateau on which the rovers are moving
+   * @param firstTick the number of ticks already done, 0 to start from the beginning
+   * @param checkpointInterval the number of ticks between two checkpoints, 0 for none
+   * @param checkpoint the receiver of the checkpoints, or null for none
+   * @return the number of moves refused to each rover from firstTick on, indexed like the fleet
+   * @throws IllegalArgumentException if the number of command strings does not match the fleet, a
+   *     command is invalid, two rovers share a cell, a tick count is negative, or firstTick is
+   *     beyond the last tick
+   * @throws java.io.UncheckedIOException if a checkpoint cannot be saved
+   */
+  long[] simulate(
+      RoverFleet fleet,
+      String[] commands,
+      IPlateau plateau,
+      long firstTick,
+      long checkpointInterval,
+      IFleetCheckpoint checkpoint);
+}
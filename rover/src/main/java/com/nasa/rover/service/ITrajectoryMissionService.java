@@ -0,0 +1,24 @@
+package com.nasa.rover.service;
+
+import java.io.OutputStream;
+
+/**
+ * Interface for a mission service that can also record the path of every rover. Only services
+ * executing rovers one command at a time through rover objects can record trajectories.
+ */
+public interface ITrajectoryMissionService extends IMissionService {
+
+  /**
+   * Executes a complete mission from an instruction file as {@link #executeMission(String,
+   * OutputStream)} does, also recording the path of every rover. The trajectory of each rover is
+   * written to the trajectory stream in input order, once the rover has finished. Recording
+   * missions are always executed sequentially. Neither stream is closed.
+   *
+   * @param inputFilePath path to the instruction file
+   * @param output the stream receiving the reports
+   * @param trajectories the stream receiving the trajectory log
+   * @throws Exception if an error occurs during mission execution
+   */
+  void executeMission(String inputFilePath, OutputStream output, OutputStream trajectories)
+      throws Exception;
+}
@@ -0,0 +1,234 @@
+package com.nasa.rover.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.nasa.rover.model.IMissionResult;
+import com.nasa.rover.model.impl.MissionResult;
+import com.nasa.rover.service.IBatchMissionService;
+import com.nasa.rover.service.IMissionService;
+
+/**
+ * Service that executes a batch of missions in one JVM. Missions run on a shared executor, one task
+ * per mission, so the cost of starting the JVM and warming up the JIT is paid once per batch. The
+ * reports of each mission go to {@code <mission file name>.out} in the output directory, and a
+ * tab-separated summary of the batch to {@value #SUMMARY_FILE}.
+ *
+ * <p>Directories and globs resolve to their regular files, except the terrain maps of the missions
+ * and batch summaries.
+ */
+public class BatchMissionService implements IBatchMissionService {
+
+  /** Extension appended to the mission file name to name its result file. */
+  public static final String RESULT_EXTENSION = ".out";
+
+  /** Name of the batch summary written in the output directory. */
+  public static final String SUMMARY_FILE = "summary.tsv";
+
+  /** Prefix marking a batch source as a list file. */
+  public static final String LIST_FILE_PREFIX = "@";
+
+  private static final String GLOB_CHARACTERS = "*?[{";
+
+  private final IMissionService missionService;
+  private final ExecutorService executor;
+
+  /**
+   * Creates a new BatchMissionService.
+   *
+   * @param missionService the thread-safe service executing each mission
+   * @param executor the executor shared by the missions, or null to execute them one after another
+   */
+  public BatchMissionService(IMissionService missionService, ExecutorService executor) {
+    this.missionService = missionService;
+    this.executor = executor;
+  }
+
+  @Override
+  public List<String> resolveMissions(String source) throws Exception {
+    List<String> missions;
+    if (source.startsWith(LIST_FILE_PREFIX)) {
+      missions = readListFile(Path.of(source.substring(LIST_FILE_PREFIX.length())));
+    } else if (indexOfGlob(source) >= 0) {
+      missions = matchGlob(source);
+    } else if (Files.isDirectory(Path.of(source))) {
+      try (Stream<Path> files = Files.list(Path.of(source))) {
+        missions = sortedRegularFiles(files);
+      }
+    } else if (Files.isRegularFile(Path.of(source))) {
+      missions = List.of(source);
+    } else {
+      throw new Exception("Mission source not found: " + source);
+    }
+
+    if (missions.isEmpty()) {
+      throw new Exception("No mission found in: " + source);
+    }
+    return missions;
+  }
+
+  @Override
+  public List<IMissionResult> executeBatch(List<String> missionFiles, String outputDirectory)
+      throws Exception {
+    Path directory = Files.createDirectories(Path.of(outputDirectory));
+    List<String> resultFiles = resultFileNames(missionFiles);
+
+    List<IMissionResult> results = new ArrayList<>(missionFiles.size());
+    if (executor == null) {
+      for (int i = 0; i < missionFiles.size(); i++) {
+        results.add(executeMission(missionFiles.get(i), directory.resolve(resultFiles.get(i))));
+      }
+    } else {
+      List<Future<IMissionResult>> pending = new ArrayList<>(missionFiles.size());
+      try {
+        for (int i = 0; i < missionFiles.size(); i++) {
+          String missionFile = missionFiles.get(i);
+          Path resultFile = directory.resolve(resultFiles.get(i));
+          pending.add(executor.submit(() -> executeMission(missionFile, resultFile)));
+        }
+        for (Future<IMissionResult> future : pending) {
+          results.add(future.get());
+        }
+      } catch (ExecutionException e) {
+        throw new Exception("Batch execution failed", e.getCause());
+      } finally {
+        pending.forEach(future -> future.cancel(true));
+      }
+    }
+
+    writeSummary(directory.resolve(SUMMARY_FILE), results);
+    return results;
+  }
+
+  /** Executes one mission, turning any failure into a failed result. */
+  private IMissionResult executeMission(String missionFile, Path resultFile) {
+    long start = System.nanoTime();
+    try (OutputStream output = Files.newOutputStream(resultFile)) {
+      missionService.executeMission(missionFile, output);
+    } catch (Exception e) {
+      try {
+        Files.deleteIfExists(resultFile);
+      } catch (IOException ignored) {
+        // The failure of the mission is what gets reported
+      }
+      return MissionResult.failure(missionFile, describe(e), elapsedMillis(start));
+    }
+    return MissionResult.success(missionFile, resultFile.toString(), elapsedMillis(start));
+  }
+
+  /** Names the result file of each mission after its file name, numbering duplicates. */
+  private static List<String> resultFileNames(List<String> missionFiles) {
+    Map<String, Integer> occurrences = new HashMap<>();
+    List<String> names = new ArrayList<>(missionFiles.size());
+    for (String missionFile : missionFiles) {
+      Path fileName = Path.of(missionFile).getFileName();
+      String name = fileName == null ? "mission" : fileName.toString();
+      int occurrence = occurrences.merge(name, 1, Integer::sum);
+      names.add(
+          occurrence == 1 ? name + RESULT_EXTENSION : name + "-" + occurrence + RESULT_EXTENSION);
+    }
+    return names;
+  }
+
+  private static void writeSummary(Path summaryFile, List<IMissionResult> results)
+      throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(summaryFile, StandardCharsets.UTF_8)) {
+      writer.write("mission\tstatus\tduration_ms\tdetail");
+      writer.newLine();
+      for (IMissionResult result : results) {
+        writer.write(result.getMissionFile());
+        writer.write(result.isSuccessful() ? "\tOK\t" : "\tFAILED\t");
+        writer.write(Long.toString(result.getDurationMillis()));
+        writer.write('\t');
+        writer.write(
+            result.isSuccessful()
+                ? result.getResultFile()
+                : result.getErrorMessage().replaceAll("\\s+", " "));
+        writer.newLine();
+      }
+    }
+  }
+
+  private static List<String> readListFile(Path listFile) throws IOException {
+    Path base = listFile.toAbsolutePath().getParent();
+    try (Stream<String> lines = Files.lines(listFile, StandardCharsets.UTF_8)) {
+      // Relative entries are resolved against the directory of the list file
+      return lines
+          .map(String::trim)
+          .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+          .map(line -> base.resolve(line).toString())
+          .collect(Collectors.toList());
+    }
+  }
+
+  private static List<String> matchGlob(String source) throws IOException {
+    // The directory part before the first glob character is walked, the rest is the pattern
+    int separator =
+        Math.max(
+            source.lastIndexOf('/', indexOfGlob(source)),
+            source.lastIndexOf(File.separatorChar, indexOfGlob(source)));
+    Path base = Path.of(separator < 0 ? "." : source.substring(0, separator + 1));
+    PathMatcher matcher =
+        FileSystems.getDefault().getPathMatcher("glob:" + source.substring(separator + 1));
+    if (!Files.isDirectory(base)) {
+      return List.of();
+    }
+    try (Stream<Path> files = Files.walk(base)) {
+      return sortedRegularFiles(files.filter(file -> matcher.matches(base.relativize(file))));
+    }
+  }
+
+  private static List<String> sortedRegularFiles(Stream<Path> files) {
+    return files
+        .filter(Files::isRegularFile)
+        .filter(BatchMissionService::isMissionFile)
+        .sorted()
+        .map(Path::toString)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Tells missions from the files found next to them: terrain maps, read with their mission, and
+   * the summary of a previous batch written in the same directory.
+   */
+  private static boolean isMissionFile(Path file) {
+    String name = String.valueOf(file.getFileName());
+    return !name.endsWith(TerrainReader.TERRAIN_EXTENSION) && !name.equals(SUMMARY_FILE);
+  }
+
+  private static int indexOfGlob(String source) {
+    for (int i = 0; i < source.length(); i++) {
+      if (GLOB_CHARACTERS.indexOf(source.charAt(i)) >= 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static String describe(Exception e) {
+    if (e.getCause() != null && e.getCause().getMessage() != null) {
+      return e.getMessage() + ": " + e.getCause().getMessage();
+    }
+    return String.valueOf(e.getMessage());
+  }
+
+  private static long elapsedMillis(long start) {
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+}
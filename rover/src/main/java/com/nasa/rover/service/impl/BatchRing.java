@@ -0,0 +1,140 @@
+package com.nasa.rover.service.impl;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded lock-free ring buffer handing batches from one stage of a pipeline to the next. Batches
+ * are numbered by the stage producing them, and the batch of sequence s goes through slot s modulo
+ * the capacity. Each slot carries a stamp telling which sequence may use it next, so threads
+ * working on different batches never wait on each other, and a producer running a whole ring ahead
+ * of the consumers waits for its slot to be released. This backpressure bounds the memory of the
+ * pipeline.
+ *
+ * <p>Each sequence number must be put by exactly one thread and taken by exactly one thread.
+ * Waiting threads spin briefly, then yield, then park for short periods: a stage held back by a
+ * full or empty ring usually resumes within the time of one batch.
+ *
+ * @param <T> the type of the batches
+ */
+final class BatchRing<T> {
+  // Spinning only helps when the thread being waited for runs on another core
+  private static final int SPINS = Runtime.getRuntime().availableProcessors() > 1 ? 128 : 0;
+  private static final int YIELDS = SPINS + 128;
+  private static final long PARK_NANOS = 20_000;
+
+  private final int mask;
+  private final AtomicReferenceArray<T> batches;
+  private final AtomicLongArray stamps;
+  private final AtomicLong published = new AtomicLong();
+  private final AtomicLong taken = new AtomicLong();
+  private volatile long end = Long.MAX_VALUE;
+  private volatile boolean closed;
+
+  /**
+   * Creates an empty ring.
+   *
+   * @param capacity the minimum number of batches the ring holds, rounded up to a power of two
+   * @throws IllegalArgumentException if the capacity is not positive or too large
+   */
+  BatchRing(int capacity) {
+    if (capacity < 1 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("Invalid ring capacity: " + capacity);
+    }
+    int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    mask = size - 1;
+    batches = new AtomicReferenceArray<>(size);
+    stamps = new AtomicLongArray(size);
+    for (int slot = 0; slot < size; slot++) {
+      stamps.set(slot, slot);
+    }
+  }
+
+  /**
+   * Gets the number of batches the ring holds.
+   *
+   * @return the capacity, a power of two
+   */
+  int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Puts a batch, waiting until the batch one capacity earlier has been taken.
+   *
+   * @param sequence the sequence number of the batch
+   * @param batch the batch
+   * @return the number of batches put and not taken yet, this one included
+   * @throws CancellationException if the ring is closed while waiting
+   * @throws CompletionException if the thread is interrupted while waiting
+   */
+  long put(long sequence, T batch) {
+    int slot = (int) sequence & mask;
+    for (int attempt = 0; stamps.getAcquire(slot) != sequence; attempt++) {
+      pause(attempt);
+    }
+    batches.setPlain(slot, batch);
+    // Counted before the batch is visible, so the depth never goes negative
+    long depth = published.incrementAndGet() - taken.get();
+    stamps.setRelease(slot, sequence + 1);
+    return depth;
+  }
+
+  /**
+   * Takes a batch, waiting until it has been put.
+   *
+   * @param sequence the sequence number of the batch
+   * @return the batch, or null if the sequence number is past the end of the stream
+   * @throws CancellationException if the ring is closed while waiting
+   * @throws CompletionException if the thread is interrupted while waiting
+   */
+  T take(long sequence) {
+    int slot = (int) sequence & mask;
+    for (int attempt = 0; stamps.getAcquire(slot) != sequence + 1; attempt++) {
+      if (sequence >= end) {
+        return null;
+      }
+      pause(attempt);
+    }
+    T batch = batches.getPlain(slot);
+    batches.setPlain(slot, null);
+    taken.incrementAndGet();
+    stamps.setRelease(slot, sequence + capacity());
+    return batch;
+  }
+
+  /**
+   * Ends the stream once all the batches before the given sequence number have been put. Takes of
+   * later sequence numbers return null instead of waiting.
+   *
+   * @param count the number of batches of the stream
+   */
+  void finish(long count) {
+    end = count;
+  }
+
+  /** Stops the ring after a failure: threads waiting on it, now or later, are cancelled. */
+  void close() {
+    closed = true;
+  }
+
+  private void pause(int attempt) {
+    if (closed) {
+      throw new CancellationException("Pipeline stopped");
+    }
+    if (Thread.currentThread().isInterrupted()) {
+      throw new CompletionException("Mission execution interrupted", new InterruptedException());
+    }
+    if (attempt < SPINS) {
+      Thread.onSpinWait();
+    } else if (attempt < YIELDS) {
+      Thread.yield();
+    } else {
+      LockSupport.parkNanos(this, PARK_NANOS);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.nasa.rover.service.impl;
+
+/**
+ * Constants of the binary mission format. A binary mission starts with the {@link #MAGIC} bytes and
+ * a version byte, followed by the plateau width and height as unsigned LEB128 varints. Each rover
+ * then takes its x and y coordinates as varints, one byte holding the {@link
+ * com.nasa.rover.model.impl.Direction} ordinal, the number of commands as a varint and the commands
+ * packed four per byte, two bits each, starting with the low-order bits. The file ends after the
+ * last rover.
+ */
+final class BinaryMissionFormat {
+
+  /** Leading bytes identifying a binary mission. */
+  static final byte[] MAGIC = {'R', 'O', 'V', 'B'};
+
+  /** Version of the format written by {@link BinaryMissionWriter}. */
+  static final int VERSION = 1;
+
+  /** Commands indexed by their two-bit code. */
+  static final char[] COMMANDS = {'L', 'R', 'M'};
+
+  static final int COMMANDS_PER_BYTE = 4;
+
+  private BinaryMissionFormat() {}
+
+  /**
+   * Checks if bytes start with the binary mission magic.
+   *
+   * @param bytes the first bytes of the input
+   * @param length the number of valid bytes
+   * @return true if the input is a binary mission
+   */
+  static boolean hasMagic(byte[] bytes, int length) {
+    if (length < MAGIC.length) {
+      return false;
+    }
+    for (int i = 0; i < MAGIC.length; i++) {
+      if (bytes[i] != MAGIC[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Gets the two-bit code of a command.
+   *
+   * @param command the command (L, R, M)
+   * @return the command code, or -1 for an unknown command
+   */
+  static int commandCode(char command) {
+    switch (command) {
+      case 'L':
+        return 0;
+      case 'R':
+        return 1;
+      case 'M':
+        return 2;
+      default:
+        return -1;
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package com.nasa.rover.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.BiConsumer;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IRover;
+import com.nasa.rover.model.IRoverCommand;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.Plateau;
+import com.nasa.rover.model.impl.Position;
+import com.nasa.rover.model.impl.Rover;
+import com.nasa.rover.model.impl.RoverCommand;
+
+/**
+ * Reads missions in the binary mission format. The input is walked through a byte buffer with no
+ * tokenizing or decimal parsing; rovers are validated against the plateau as in the text format. A
+ * reader must not be shared between threads.
+ */
+final class BinaryMissionReader {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final InputStream input;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position;
+  private int limit;
+  private char[] commands = new char[64];
+
+  /**
+   * Creates a reader over an input stream. The stream is not closed by the reader.
+   *
+   * @param input the stream holding the binary mission
+   */
+  BinaryMissionReader(InputStream input) {
+    this.input = input;
+  }
+
+  /**
+   * Reads the format header and the plateau.
+   *
+   * @return the plateau of the mission
+   * @throws Exception if the input is not a supported binary mission
+   */
+  IPlateau readPlateau() throws Exception {
+    if (!fill()) {
+      throw new Exception("Input file is empty");
+    }
+    for (byte b : BinaryMissionFormat.MAGIC) {
+      if (readByte() != (b & 0xff)) {
+        throw new Exception("Not a binary mission file");
+      }
+    }
+    int version = readByte();
+    if (version != BinaryMissionFormat.VERSION) {
+      throw new Exception("Unsupported binary mission version: " + version);
+    }
+    return new Plateau(readVarint(), readVarint());
+  }
+
+  /**
+   * Reads a complete mission, handing each rover to the handler as soon as it has been decoded.
+   *
+   * @param roverHandler receives the plateau and each rover command, in input order
+   * @return the plateau of the mission
+   * @throws Exception if the input is malformed or holds no rover
+   */
+  IPlateau readMission(BiConsumer<IPlateau, IRoverCommand> roverHandler) throws Exception {
+    IPlateau plateau = readPlateau();
+    boolean foundRovers = false;
+
+    while (position < limit || fill()) {
+      roverHandler.accept(plateau, readRover(plateau));
+      foundRovers = true;
+    }
+
+    if (!foundRovers) {
+      throw new Exception("No rover instructions found in the file");
+    }
+    return plateau;
+  }
+
+  private IRoverCommand readRover(IPlateau plateau) throws Exception {
+    int x = readVarint();
+    int y = readVarint();
+    if (!plateau.isValidPosition(x, y)) {
+      throw new Exception(
+          "Invalid rover position: position ("
+              + x
+              + ","
+              + y
+              + ") is outside of plateau boundaries");
+    }
+
+    int directionCode = readByte();
+    if (directionCode >= DIRECTIONS.length) {
+      throw new Exception(
+          "Invalid direction: direction code " + directionCode + " is not valid (must be 0 to 3)");
+    }
+    IRover rover = new Rover(new Position(x, y), DIRECTIONS[directionCode]);
+
+    int count = readVarint();
+    if (count == 0) {
+      throw new Exception("Missing commands for rover at position: " + x + " " + y);
+    }
+    if (commands.length < count) {
+      commands = new char[Math.max(count, Math.min(2 * commands.length, Integer.MAX_VALUE - 8))];
+    }
+    for (int i = 0; i < count; i += BinaryMissionFormat.COMMANDS_PER_BYTE) {
+      int packed = readByte();
+      int slots = Math.min(BinaryMissionFormat.COMMANDS_PER_BYTE, count - i);
+      for (int slot = 0; slot < slots; slot++) {
+        int code = (packed >>> (2 * slot)) & 3;
+        if (code >= BinaryMissionFormat.COMMANDS.length) {
+          throw new Exception("Invalid rover command code: " + code);
+        }
+        commands[i + slot] = BinaryMissionFormat.COMMANDS[code];
+      }
+    }
+    return new RoverCommand(rover, new String(commands, 0, count));
+  }
+
+  /** Reads an unsigned LEB128 varint holding a non-negative int. */
+  private int readVarint() throws Exception {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      int b = readByte();
+      value |= (b & 0x7f) << shift;
+      if ((b & 0x80) == 0) {
+        if (value < 0 || (shift == 28 && b > 0x07)) {
+          throw new Exception("Malformed binary mission file: varint out of range");
+        }
+        return value;
+      }
+    }
+    throw new Exception("Malformed binary mission file: varint too long");
+  }
+
+  private int readByte() throws Exception {
+    if (position == limit && !fill()) {
+      throw new Exception("Truncated binary mission file");
+    }
+    return buffer[position++] & 0xff;
+  }
+
+  /** Refills the buffer, returning false at end of input. */
+  private boolean fill() throws IOException {
+    int read;
+    do {
+      read = input.read(buffer, 0, buffer.length);
+    } while (read == 0);
+    position = 0;
+    limit = Math.max(read, 0);
+    return read > 0;
+  }
+}
@@ -0,0 +1,136 @@
+package com.nasa.rover.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IPosition;
+import com.nasa.rover.model.IRover;
+import com.nasa.rover.model.IRoverCommand;
+import com.nasa.rover.model.impl.Direction;
+
+/**
+ * Writes missions in the binary mission format through a reusable byte buffer. The plateau must be
+ * written first, then each rover in mission order.
+ */
+final class BinaryMissionWriter {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  // Longest varint of an int
+  private static final int MAX_VARINT_LENGTH = 5;
+
+  private final OutputStream output;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int count;
+  // Commands of the rover being written that do not fill a byte yet
+  private int packed;
+  private int slot;
+
+  /**
+   * Creates a writer over an output stream. The stream is not closed by the writer.
+   *
+   * @param output the stream receiving the binary mission
+   */
+  BinaryMissionWriter(OutputStream output) {
+    this.output = output;
+  }
+
+  /**
+   * Writes the format header and the plateau dimensions.
+   *
+   * @param plateau the plateau of the mission
+   * @throws IOException if the output cannot be written
+   */
+  void writePlateau(IPlateau plateau) throws IOException {
+    for (byte b : BinaryMissionFormat.MAGIC) {
+      writeByte(b);
+    }
+    writeByte(BinaryMissionFormat.VERSION);
+    writeVarint(plateau.getWidth());
+    writeVarint(plateau.getHeight());
+  }
+
+  /**
+   * Writes a rover and its commands. The binary format has no runs nor groups, so {@code kM} runs
+   * and {@code k(...)} groups are expanded into the packed commands.
+   *
+   * @param command the rover and its command string
+   * @throws IOException if the output cannot be written
+   * @throws IllegalArgumentException if the position is negative, the direction or a command is
+   *     unknown, or the expanded commands do not fit in the format
+   */
+  void writeRover(IRoverCommand command) throws IOException {
+    IRover rover = command.getRover();
+    IPosition position = rover.getPosition();
+    writeVarint(position.getX());
+    writeVarint(position.getY());
+    writeByte(Direction.fromValue(rover.getDirection().getValue()).ordinal());
+
+    String commands = command.getCommands();
+    // Compiling validates the commands and gives their expanded length
+    long length = CommandProgram.compile(commands).getCommandCount();
+    if (length > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "Too many commands for the binary format once expanded: " + length);
+    }
+    writeVarint((int) length);
+    packed = 0;
+    slot = 0;
+    CommandCursor cursor = new CommandCursor(commands);
+    for (char next = cursor.next(); next != 0; next = cursor.next()) {
+      writeCommand(BinaryMissionFormat.commandCode(next));
+    }
+    if (slot != 0) {
+      writeByte(packed);
+    }
+  }
+
+  private void writeCommand(int code) throws IOException {
+    packed |= code << (2 * slot);
+    if (++slot == BinaryMissionFormat.COMMANDS_PER_BYTE) {
+      writeByte(packed);
+      packed = 0;
+      slot = 0;
+    }
+  }
+
+  /**
+   * Writes the buffered bytes and flushes the output.
+   *
+   * @throws IOException if the output cannot be written
+   */
+  void flush() throws IOException {
+    flushBuffer();
+    output.flush();
+  }
+
+  private void writeVarint(int value) throws IOException {
+    if (value < 0) {
+      throw new IllegalArgumentException("Negative value cannot be encoded: " + value);
+    }
+    if (buffer.length - count < MAX_VARINT_LENGTH) {
+      flushBuffer();
+    }
+    int remaining = value;
+    while (remaining >= 0x80) {
+      buffer[count++] = (byte) (remaining | 0x80);
+      remaining >>>= 7;
+    }
+    buffer[count++] = (byte) remaining;
+  }
+
+  private void writeByte(int value) throws IOException {
+    if (count == buffer.length) {
+      flushBuffer();
+    }
+    buffer[count++] = (byte) value;
+  }
+
+  private void flushBuffer() throws IOException {
+    if (count > 0) {
+      output.write(buffer, 0, count);
+      count = 0;
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package com.nasa.rover.service.impl;
+
+import java.util.Arrays;
+
+/**
+ * Walks the commands of a command string one at a time, in execution order. Runs and groups are
+ * expanded on the fly: the cursor only keeps the run in progress and one entry per open group, so a
+ * command string of a few characters can drive billions of commands without being expanded.
+ *
+ * <p>The command string must be valid, which {@link CommandProgram#compile(String)} checks.
+ */
+final class CommandCursor {
+
+  private static final int INITIAL_DEPTH = 4;
+
+  private final String commands;
+  private int index;
+  private char runCommand;
+  private int runRemaining;
+  // Start index and remaining repetitions of each open group, innermost last
+  // Allocated with the first group, most command strings have none
+  private int[] groupStarts;
+  private int[] groupRemaining;
+  private int depth;
+
+  /**
+   * Creates a cursor positioned before the first command.
+   *
+   * @param commands a valid command string
+   */
+  CommandCursor(String commands) {
+    this.commands = commands;
+  }
+
+  /**
+   * Moves to the next command.
+   *
+   * @return the next command (L, R or M), or 0 once all the commands have been returned
+   */
+  char next() {
+    while (true) {
+      if (runRemaining > 0) {
+        runRemaining--;
+        return runCommand;
+      }
+      if (index == commands.length()) {
+        return 0;
+      }
+
+      char command = commands.charAt(index);
+      if (command == ')') {
+        if (--groupRemaining[depth - 1] > 0) {
+          index = groupStarts[depth - 1];
+        } else {
+          depth--;
+          index++;
+        }
+      } else if (command >= '0' && command <= '9') {
+        int countEnd = index;
+        while (commands.charAt(countEnd) >= '0' && commands.charAt(countEnd) <= '9') {
+          countEnd++;
+        }
+        int count = Integer.parseInt(commands, index, countEnd, 10);
+        if (commands.charAt(countEnd) != '(') {
+          runCommand = commands.charAt(countEnd);
+          runRemaining = count;
+          index = countEnd + 1;
+        } else if (count == 0) {
+          index = skipGroup(countEnd + 1);
+        } else {
+          openGroup(countEnd + 1, count);
+        }
+      } else {
+        index++;
+        return command;
+      }
+    }
+  }
+
+  /**
+   * Skips commands without returning them. Runs and whole repetitions of a group are skipped in one
+   * step, so the cost depends on the length of the command string rather than on the number of
+   * commands skipped.
+   *
+   * @param count the number of commands to skip
+   * @return the number of commands skipped, less than count only if the commands ran out
+   */
+  long skip(long count) {
+    long remaining = count;
+    while (remaining > 0) {
+      if (runRemaining > 0) {
+        int skipped = (int) Math.min(runRemaining, remaining);
+        runRemaining -= skipped;
+        remaining -= skipped;
+        continue;
+      }
+      if (index == commands.length()) {
+        break;
+      }
+
+      char command = commands.charAt(index);
+      if (command == ')') {
+        int start = groupStarts[depth - 1];
+        long period = expandedLength(start, index);
+        int left = groupRemaining[depth - 1] - 1;
+        long periods = period == 0 ? left : Math.min(left, remaining / period);
+        remaining -= periods * period;
+        groupRemaining[depth - 1] -= (int) periods;
+        if (--groupRemaining[depth - 1] > 0) {
+          index = start;
+        } else {
+          depth--;
+          index++;
+        }
+      } else if (command >= '0' && command <= '9') {
+        int countEnd = index;
+        while (commands.charAt(countEnd) >= '0' && commands.charAt(countEnd) <= '9') {
+          countEnd++;
+        }
+        int repeat = Integer.parseInt(commands, index, countEnd, 10);
+        if (commands.charAt(countEnd) != '(') {
+          runCommand = commands.charAt(countEnd);
+          runRemaining = repeat;
+          index = countEnd + 1;
+          continue;
+        }
+        int end = skipGroup(countEnd + 1);
+        long period = expandedLength(countEnd + 1, end - 1);
+        long periods = period == 0 ? repeat : Math.min(repeat, remaining / period);
+        remaining -= periods * period;
+        if (periods == repeat) {
+          index = end;
+        } else {
+          openGroup(countEnd + 1, repeat - (int) periods);
+        }
+      } else {
+        index++;
+        remaining--;
+      }
+    }
+    return count - remaining;
+  }
+
+  /** Returns the number of commands between start and end once expanded, groups included. */
+  private long expandedLength(int start, int end) {
+    long length = 0;
+    int i = start;
+    while (i < end) {
+      char command = commands.charAt(i);
+      if (command < '0' || command > '9') {
+        length++;
+        i++;
+        continue;
+      }
+      int countEnd = i;
+      while (commands.charAt(countEnd) >= '0' && commands.charAt(countEnd) <= '9') {
+        countEnd++;
+      }
+      int repeat = Integer.parseInt(commands, i, countEnd, 10);
+      if (commands.charAt(countEnd) == '(') {
+        int groupEnd = skipGroup(countEnd + 1);
+        // Valid command strings expand to at most 2^60 commands, so this cannot overflow
+        length += repeat * expandedLength(countEnd + 1, groupEnd - 1);
+        i = groupEnd;
+      } else {
+        length += repeat;
+        i = countEnd + 1;
+      }
+    }
+    return length;
+  }
+
+  private void openGroup(int start, int count) {
+    if (groupStarts == null) {
+      groupStarts = new int[INITIAL_DEPTH];
+      groupRemaining = new int[INITIAL_DEPTH];
+    } else if (depth == groupStarts.length) {
+      groupStarts = Arrays.copyOf(groupStarts, depth * 2);
+      groupRemaining = Arrays.copyOf(groupRemaining, depth * 2);
+    }
+    groupStarts[depth] = start;
+    groupRemaining[depth] = count;
+    depth++;
+    index = start;
+  }
+
+  /** Returns the index following the parenthesis that closes the group starting at start. */
+  private int skipGroup(int start) {
+    int i = start;
+    for (int open = 1; open > 0; i++) {
+      char c = commands.charAt(i);
+      open += c == '(' ? 1 : c == ')' ? -1 : 0;
+    }
+    return i;
+  }
+}
@@ -0,0 +1,810 @@
+package com.nasa.rover.service.impl;
+
+import java.util.Arrays;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IPosition;
+import com.nasa.rover.model.IRover;
+import com.nasa.rover.model.IWidePlateau;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.RoverFleet;
+import com.nasa.rover.model.impl.WidePosition;
+import com.nasa.rover.model.impl.WideRover;
+
+/**
+ * Compiled form of a rover command string. Consecutive turns are collapsed into one net rotation
+ * and consecutive moves into one straight segment, so a program is a list of (rotation, moves)
+ * segments that can be executed with one boundary check per segment.
+ *
+ * <p>A group written {@code k(commands)} repeats its commands k times and compiles to a segment
+ * holding a sub-program. On a rectangular plateau, repetitions are fast-forwarded: the net effect
+ * and bounding box of one period are computed once, and all the periods that stay within the bounds
+ * are applied in a single jump. Periods that reach a boundary are stepped through, and once a
+ * period leaves the rover where it started, the remaining ones are skipped. Execution time then
+ * depends on the length of the pattern rather than on the number of repetitions. Fast-forwarding
+ * relies on the quarter turns of {@link Direction}: rovers facing any other {@link
+ * com.nasa.rover.model.IDirection} execute every repetition through their own methods.
+ */
+final class CommandProgram {
+
+  private static final int INITIAL_CAPACITY = 8;
+
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  // Longest expanded command string, so that counts and coordinates cannot overflow a long
+  private static final long MAX_EXPANDED_LENGTH = 1L << 60;
+
+  // Net quarter turns to the right (0 to 3) applied before the moves of each segment
+  private byte[] rotations;
+  private int[] moves;
+  // Repeated sub-program of each segment, replacing its moves; null while there is none
+  private CommandProgram[] bodies;
+  private int[] repeats;
+  private int segmentCount;
+  private long turnCount;
+  private long commandCount;
+  private Summary summary;
+
+  private CommandProgram() {
+    rotations = new byte[INITIAL_CAPACITY];
+    moves = new int[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Compiles a command string.
+   *
+   * @param commands the command string (L, R, M, {@code kL}, {@code kR} and {@code kM} runs and
+   *     {@code k(...)} groups)
+   * @return the compiled program
+   * @throws IllegalArgumentException if an invalid command is encountered
+   */
+  static CommandProgram compile(String commands) {
+    CommandProgram program = new CommandProgram();
+    program.parse(commands, 0, false);
+    return program;
+  }
+
+  /**
+   * Parses commands into this program, up to the end of the string or, for a group, up to its
+   * closing parenthesis.
+   *
+   * @return the index following the parsed commands
+   */
+  private int parse(String commands, int start, boolean group) {
+    int rotation = 0;
+    int moveCount = 0;
+
+    int i = start;
+    while (i < commands.length()) {
+      char command = commands.charAt(i);
+      switch (command) {
+        case 'L':
+        case 'R':
+          if (moveCount > 0) {
+            addSegment(rotation, moveCount);
+            rotation = 0;
+            moveCount = 0;
+          }
+          rotation = (rotation + (command == 'R' ? 1 : 3)) & 3;
+          turnCount++;
+          commandCount++;
+          i++;
+          break;
+        case 'M':
+          if (moveCount == Integer.MAX_VALUE) {
+            addSegment(rotation, moveCount);
+            rotation = 0;
+            moveCount = 0;
+          }
+          moveCount++;
+          commandCount++;
+          i++;
+          break;
+        case ')':
+          if (!group) {
+            throw new IllegalArgumentException("Unbalanced parenthesis in commands: " + commands);
+          }
+          if (rotation != 0 || moveCount > 0) {
+            addSegment(rotation, moveCount);
+          }
+          return i + 1;
+        default:
+          if (command < '0' || command > '9') {
+            throw new IllegalArgumentException("Invalid command: " + command);
+          }
+          int countEnd = skipDigits(commands, i);
+          int count = parseCount(commands, i, countEnd);
+          char repeated = countEnd < commands.length() ? commands.charAt(countEnd) : 0;
+          if (repeated != '(' && count > MAX_EXPANDED_LENGTH - commandCount) {
+            throw new IllegalArgumentException(
+                "Command string too long once expanded: " + commands);
+          }
+          if (repeated == 'M') {
+            // A run of moves extends the current segment, split only at the int limit
+            long remaining = count;
+            while (remaining > 0) {
+              if (moveCount == Integer.MAX_VALUE) {
+                addSegment(rotation, moveCount);
+                rotation = 0;
+                moveCount = 0;
+              }
+              int run = (int) Math.min(remaining, Integer.MAX_VALUE - moveCount);
+              moveCount += run;
+              remaining -= run;
+            }
+            commandCount += count;
+            i = countEnd + 1;
+            break;
+          }
+          if (moveCount > 0) {
+            addSegment(rotation, moveCount);
+            rotation = 0;
+            moveCount = 0;
+          }
+          if (repeated == 'L' || repeated == 'R') {
+            // Only the count modulo four changes the direction
+            rotation = (rotation + (count & 3) * (repeated == 'R' ? 1 : 3)) & 3;
+            turnCount += count;
+            commandCount += count;
+            i = countEnd + 1;
+          } else if (repeated == '(') {
+            i = parseGroup(commands, countEnd + 1, rotation, count);
+            rotation = 0;
+          } else {
+            throw new IllegalArgumentException(
+                "Missing command after repeat count in commands: " + commands);
+          }
+          break;
+      }
+    }
+
+    if (group) {
+      throw new IllegalArgumentException("Unbalanced parenthesis in commands: " + commands);
+    }
+    if (rotation != 0 || moveCount > 0) {
+      addSegment(rotation, moveCount);
+    }
+    return i;
+  }
+
+  /**
+   * Parses the body of a {@code k(...)} group starting after its opening parenthesis.
+   *
+   * @return the index following the closing parenthesis
+   */
+  private int parseGroup(String commands, int start, int rotation, int count) {
+    CommandProgram body = new CommandProgram();
+    int end = body.parse(commands, start, true);
+    if (body.commandCount > 0 && count > (MAX_EXPANDED_LENGTH - commandCount) / body.commandCount) {
+      throw new IllegalArgumentException("Command string too long once expanded: " + commands);
+    }
+    addRepeat(rotation, body, count);
+    commandCount += count * body.commandCount;
+    turnCount += count * body.turnCount;
+    return end;
+  }
+
+  private static int skipDigits(String commands, int start) {
+    int i = start;
+    while (i < commands.length() && commands.charAt(i) >= '0' && commands.charAt(i) <= '9') {
+      i++;
+    }
+    return i;
+  }
+
+  private static int parseCount(String commands, int start, int end) {
+    long count = 0;
+    for (int i = start; i < end; i++) {
+      count = count * 10 + (commands.charAt(i) - '0');
+      if (count > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Repeat count too large in commands: " + commands);
+      }
+    }
+    return (int) count;
+  }
+
+  /**
+   * Gets the number of segments of the program.
+   *
+   * @return the number of (rotation, moves) segments
+   */
+  int getSegmentCount() {
+    return segmentCount;
+  }
+
+  /**
+   * Gets the number of commands the program was compiled from, with groups expanded.
+   *
+   * @return the number of L, R and M commands executed by the program
+   */
+  long getCommandCount() {
+    return commandCount;
+  }
+
+  /**
+   * Gets the number of turn commands the program was compiled from, with groups expanded.
+   *
+   * @return the number of L and R commands
+   */
+  long getTurnCount() {
+    return turnCount;
+  }
+
+  /**
+   * Executes the program on a rover.
+   *
+   * @param rover the rover to control
+   * @param plateau the plateau on which the rover is moving
+   * @return the number of move commands refused by the plateau
+   */
+  long execute(IRover rover, IPlateau plateau) {
+    if (bodies == null || !(rover.getDirection() instanceof Direction)) {
+      // Fast-forwarding assumes the quarter turns of Direction; other directions step through
+      return step(rover, plateau);
+    }
+
+    Walker walker = new RoverWalker(rover, plateau);
+    run(walker);
+    return walker.blockedMoves;
+  }
+
+  /** Executes the program segment by segment through the rover, expanding groups. */
+  private long step(IRover rover, IPlateau plateau) {
+    long blockedMoves = 0;
+    for (int i = 0; i < segmentCount; i++) {
+      rotate(rover, rotations[i]);
+      if (bodies != null && bodies[i] != null) {
+        for (int repeat = 0; repeat < repeats[i]; repeat++) {
+          blockedMoves += bodies[i].step(rover, plateau);
+        }
+      } else if (moves[i] > 0) {
+        blockedMoves += moves[i] - rover.moveForward(plateau, moves[i]);
+      }
+    }
+    return blockedMoves;
+  }
+
+  /**
+   * Executes the program on a rover of a fleet, updating the fleet arrays in place.
+   *
+   * @param fleet the fleet holding the rover
+   * @param rover the index of the rover in the fleet
+   * @param plateau the plateau on which the rover is moving
+   */
+  void execute(RoverFleet fleet, int rover, IPlateau plateau) {
+    int x = fleet.getX(rover);
+    int y = fleet.getY(rover);
+    int direction = fleet.getDirectionOrdinal(rover);
+
+    if (bodies != null) {
+      Walker walker = new FleetWalker(x, y, direction, plateau);
+      run(walker);
+      fleet.setPosition(rover, (int) walker.x, (int) walker.y);
+      fleet.setDirectionOrdinal(rover, walker.direction);
+      return;
+    }
+
+    for (int i = 0; i < segmentCount; i++) {
+      direction = (direction + rotations[i]) & 3;
+      if (moves[i] > 0) {
+        int dx = DIRECTIONS[direction].getDeltaX();
+        int dy = DIRECTIONS[direction].getDeltaY();
+        int moved = plateau.reachableSteps(x, y, dx, dy, moves[i]);
+        if (moved > 0) {
+          plateau.moveRover(x, y, x + dx * moved, y + dy * moved);
+          x += dx * moved;
+          y += dy * moved;
+        }
+      }
+    }
+
+    fleet.setPosition(rover, x, y);
+    fleet.setDirectionOrdinal(rover, direction);
+  }
+
+  /**
+   * Executes the program on a rover with long coordinates.
+   *
+   * @param rover the rover to control
+   * @param plateau the plateau on which the rover is moving
+   * @return the number of move commands refused by the plateau
+   */
+  long execute(WideRover rover, IWidePlateau plateau) {
+    if (!(rover.getDirection() instanceof Direction)) {
+      return step(rover, plateau);
+    }
+
+    Walker walker = new WideWalker(rover, plateau);
+    run(walker);
+    return walker.blockedMoves;
+  }
+
+  /** Executes the program segment by segment through the wide rover, expanding groups. */
+  private long step(WideRover rover, IWidePlateau plateau) {
+    long blockedMoves = 0;
+    for (int i = 0; i < segmentCount; i++) {
+      rotate(rover, rotations[i]);
+      if (bodies != null && bodies[i] != null) {
+        for (int repeat = 0; repeat < repeats[i]; repeat++) {
+          blockedMoves += bodies[i].step(rover, plateau);
+        }
+      } else if (moves[i] > 0) {
+        blockedMoves += moves[i] - rover.moveForward(plateau, moves[i]);
+      }
+    }
+    return blockedMoves;
+  }
+
+  private void run(Walker walker) {
+    for (int i = 0; i < segmentCount; i++) {
+      walker.rotate(rotations[i]);
+      if (bodies != null && bodies[i] != null) {
+        repeat(walker, bodies[i], repeats[i]);
+      } else if (moves[i] > 0) {
+        walker.move(moves[i]);
+      }
+    }
+  }
+
+  private static void repeat(Walker walker, CommandProgram body, long count) {
+    Summary period = body.summary();
+    int cycle = period.cycle();
+    long remaining = count;
+
+    if (walker.canJump()) {
+      // Whole cycles leave the rover facing its starting direction
+      Summary cycleSummary = period.repeat(cycle);
+      long cycles = count / cycle;
+      remaining = count % cycle;
+
+      while (cycles > 0) {
+        long fitting = cycleSummary.fittingRepeats(walker, cycles);
+        if (fitting > 0) {
+          Summary turned = cycleSummary.rotate(walker.direction);
+          if (!walker.jump(turned.endX * fitting, turned.endY * fitting)) {
+            remaining += cycles * cycle;
+            break;
+          }
+          cycles -= fitting;
+          continue;
+        }
+
+        // The next cycle reaches a boundary and is stepped through
+        long x = walker.x;
+        long y = walker.y;
+        long blockedMoves = walker.blockedMoves;
+        for (int i = 0; i < cycle; i++) {
+          body.run(walker);
+        }
+        cycles--;
+        if (walker.x == x && walker.y == y) {
+          // Pinned: every remaining cycle would repeat this one
+          walker.blockedMoves += (walker.blockedMoves - blockedMoves) * cycles;
+          cycles = 0;
+        }
+      }
+    }
+
+    for (long i = 0; i < remaining; i++) {
+      body.run(walker);
+    }
+  }
+
+  private Summary summary() {
+    if (summary == null) {
+      Summary result = Summary.IDENTITY;
+      for (int i = 0; i < segmentCount; i++) {
+        Summary segment =
+            bodies != null && bodies[i] != null
+                ? Summary.IDENTITY.turn(rotations[i]).then(bodies[i].summary().repeat(repeats[i]))
+                : Summary.segment(rotations[i], moves[i]);
+        result = result.then(segment);
+      }
+      summary = result;
+    }
+    return summary;
+  }
+
+  private static void rotate(IRover rover, int rotation) {
+    switch (rotation) {
+      case 1:
+        rover.turnRight();
+        break;
+      case 2:
+        rover.turnRight();
+        rover.turnRight();
+        break;
+      case 3:
+        rover.turnLeft();
+        break;
+      default:
+        break;
+    }
+  }
+
+  private static void rotate(WideRover rover, int rotation) {
+    if (rotation == 3) {
+      rover.turnLeft();
+      return;
+    }
+    for (int i = 0; i < rotation; i++) {
+      rover.turnRight();
+    }
+  }
+
+  private void addSegment(int rotation, int moveCount) {
+    if (segmentCount == moves.length) {
+      grow();
+    }
+    rotations[segmentCount] = (byte) rotation;
+    moves[segmentCount] = moveCount;
+    segmentCount++;
+  }
+
+  private void addRepeat(int rotation, CommandProgram body, int count) {
+    if (bodies == null) {
+      bodies = new CommandProgram[moves.length];
+      repeats = new int[moves.length];
+    }
+    if (segmentCount == moves.length) {
+      grow();
+    }
+    rotations[segmentCount] = (byte) rotation;
+    bodies[segmentCount] = body;
+    repeats[segmentCount] = count;
+    segmentCount++;
+  }
+
+  private void grow() {
+    rotations = Arrays.copyOf(rotations, segmentCount * 2);
+    moves = Arrays.copyOf(moves, segmentCount * 2);
+    if (bodies != null) {
+      bodies = Arrays.copyOf(bodies, segmentCount * 2);
+      repeats = Arrays.copyOf(repeats, segmentCount * 2);
+    }
+  }
+
+  /**
+   * Net effect of a program executed without any refused move, for a rover starting on (0, 0) and
+   * facing north: the net rotation, the final position and the bounding box of every position
+   * visited.
+   */
+  private static final class Summary {
+    static final Summary IDENTITY = new Summary(0, 0, 0, 0, 0, 0, 0);
+
+    final int rotation;
+    final long endX;
+    final long endY;
+    final long minX;
+    final long maxX;
+    final long minY;
+    final long maxY;
+
+    Summary(int rotation, long endX, long endY, long minX, long maxX, long minY, long maxY) {
+      this.rotation = rotation;
+      this.endX = endX;
+      this.endY = endY;
+      this.minX = minX;
+      this.maxX = maxX;
+      this.minY = minY;
+      this.maxY = maxY;
+    }
+
+    static Summary segment(int rotation, int moves) {
+      long endX = (long) DIRECTIONS[rotation].getDeltaX() * moves;
+      long endY = (long) DIRECTIONS[rotation].getDeltaY() * moves;
+      return new Summary(
+          rotation,
+          endX,
+          endY,
+          Math.min(0, endX),
+          Math.max(0, endX),
+          Math.min(0, endY),
+          Math.max(0, endY));
+    }
+
+    /** Number of periods after which the rover faces its starting direction again. */
+    int cycle() {
+      return rotation == 0 ? 1 : rotation == 2 ? 2 : 4;
+    }
+
+    Summary turn(int quarterTurns) {
+      return new Summary((rotation + quarterTurns) & 3, endX, endY, minX, maxX, minY, maxY);
+    }
+
+    /** Expresses this summary for a rover starting in the given direction instead of north. */
+    Summary rotate(int quarterTurns) {
+      Summary result = this;
+      for (int i = 0; i < (quarterTurns & 3); i++) {
+        // A right quarter turn maps (x, y) to (y, -x)
+        result =
+            new Summary(
+                result.rotation,
+                result.endY,
+                -result.endX,
+                result.minY,
+                result.maxY,
+                -result.maxX,
+                -result.minX);
+      }
+      return result;
+    }
+
+    /** Sequential composition: this program followed by the next one. */
+    Summary then(Summary next) {
+      Summary moved = next.rotate(rotation);
+      return new Summary(
+          (rotation + next.rotation) & 3,
+          endX + moved.endX,
+          endY + moved.endY,
+          Math.min(minX, endX + moved.minX),
+          Math.max(maxX, endX + moved.maxX),
+          Math.min(minY, endY + moved.minY),
+          Math.max(maxY, endY + moved.maxY));
+    }
+
+    Summary repeat(long count) {
+      if (count == 0) {
+        return IDENTITY;
+      }
+      if (rotation == 0) {
+        // Each period is the previous one shifted by the same displacement
+        long shiftX = endX * (count - 1);
+        long shiftY = endY * (count - 1);
+        return new Summary(
+            0,
+            endX * count,
+            endY * count,
+            Math.min(minX, minX + shiftX),
+            Math.max(maxX, maxX + shiftX),
+            Math.min(minY, minY + shiftY),
+            Math.max(maxY, maxY + shiftY));
+      }
+
+      // A whole cycle brings the rover back to its start, so later periods revisit the same cells
+      Summary visited = IDENTITY;
+      Summary last = IDENTITY;
+      for (long i = 0; i < Math.min(count, cycle()); i++) {
+        visited = visited.then(this);
+        if (i < count % cycle()) {
+          last = visited;
+        }
+      }
+      if (count < cycle()) {
+        return visited;
+      }
+      return new Summary(
+          last.rotation,
+          last.endX,
+          last.endY,
+          visited.minX,
+          visited.maxX,
+          visited.minY,
+          visited.maxY);
+    }
+
+    /**
+     * Counts how many consecutive repetitions of this program, which must end facing its starting
+     * direction, a walker can execute without leaving the plateau.
+     */
+    long fittingRepeats(Walker walker, long max) {
+      Summary turned = rotate(walker.direction);
+      long fitX =
+          fitting(walker.x + turned.minX, walker.x + turned.maxX, turned.endX, walker.width(), max);
+      long fitY =
+          fitting(
+              walker.y + turned.minY, walker.y + turned.maxY, turned.endY, walker.height(), max);
+      return Math.min(fitX, fitY);
+    }
+
+    private static long fitting(long low, long high, long shift, long limit, long max) {
+      if (low < 0 || high > limit) {
+        return 0;
+      }
+      if (shift > 0) {
+        return Math.min(max, (limit - high) / shift + 1);
+      }
+      if (shift < 0) {
+        return Math.min(max, low / -shift + 1);
+      }
+      return max;
+    }
+  }
+
+  /**
+   * Rover state a program with groups is executed against. Coordinates are longs so that the same
+   * fast-forward code drives rovers on int and on wide plateaus.
+   */
+  private abstract static class Walker {
+    long x;
+    long y;
+    int direction;
+    long blockedMoves;
+
+    Walker(long x, long y, int direction) {
+      this.x = x;
+      this.y = y;
+      this.direction = direction;
+    }
+
+    /** Checks if the rover can be moved by jumps on its plateau. */
+    abstract boolean canJump();
+
+    /** Gets the largest x coordinate of the plateau. */
+    abstract long width();
+
+    /** Gets the largest y coordinate of the plateau. */
+    abstract long height();
+
+    void rotate(int rotation) {
+      direction = (direction + rotation) & 3;
+    }
+
+    void move(int steps) {
+      int dx = DIRECTIONS[direction].getDeltaX();
+      int dy = DIRECTIONS[direction].getDeltaY();
+      int moved = advance(dx, dy, steps);
+      x += dx * moved;
+      y += dy * moved;
+      blockedMoves += steps - moved;
+    }
+
+    /** Moves the rover up to the given number of steps and returns the steps actually made. */
+    abstract int advance(int dx, int dy, int steps);
+
+    /** Moves the rover by a displacement whose path is known to be valid. */
+    abstract boolean jump(long dx, long dy);
+  }
+
+  /** Walker on a plateau with int coordinates. */
+  private abstract static class PlateauWalker extends Walker {
+    final IPlateau plateau;
+
+    PlateauWalker(int x, int y, int direction, IPlateau plateau) {
+      super(x, y, direction);
+      this.plateau = plateau;
+    }
+
+    @Override
+    boolean canJump() {
+      return plateau.isRectangular();
+    }
+
+    @Override
+    long width() {
+      return plateau.getWidth();
+    }
+
+    @Override
+    long height() {
+      return plateau.getHeight();
+    }
+  }
+
+  /** Walker driving a rover object facing a {@link Direction} through its own methods. */
+  private static final class RoverWalker extends PlateauWalker {
+    private final IRover rover;
+    private boolean jumps = true;
+
+    RoverWalker(IRover rover, IPlateau plateau) {
+      super(
+          rover.getPosition().getX(),
+          rover.getPosition().getY(),
+          ((Direction) rover.getDirection()).ordinal(),
+          plateau);
+      this.rover = rover;
+    }
+
+    @Override
+    boolean canJump() {
+      return jumps && super.canJump();
+    }
+
+    @Override
+    void rotate(int rotation) {
+      super.rotate(rotation);
+      CommandProgram.rotate(rover, rotation);
+    }
+
+    @Override
+    int advance(int dx, int dy, int steps) {
+      return rover.moveForward(plateau, steps);
+    }
+
+    @Override
+    boolean jump(long dx, long dy) {
+      if (dx == 0 && dy == 0) {
+        return true;
+      }
+      // Jumps stay on the plateau, so they fit in an int
+      jumps = rover.moveBy(plateau, (int) dx, (int) dy);
+      if (jumps) {
+        IPosition position = rover.getPosition();
+        x = position.getX();
+        y = position.getY();
+      }
+      return jumps;
+    }
+  }
+
+  /** Walker over the coordinates of a rover of a fleet. */
+  private static final class FleetWalker extends PlateauWalker {
+
+    FleetWalker(int x, int y, int direction, IPlateau plateau) {
+      super(x, y, direction, plateau);
+    }
+
+    @Override
+    int advance(int dx, int dy, int steps) {
+      int fromX = (int) x;
+      int fromY = (int) y;
+      int moved = plateau.reachableSteps(fromX, fromY, dx, dy, steps);
+      if (moved > 0) {
+        plateau.moveRover(fromX, fromY, fromX + dx * moved, fromY + dy * moved);
+      }
+      return moved;
+    }
+
+    @Override
+    boolean jump(long dx, long dy) {
+      if (dx != 0 || dy != 0) {
+        plateau.moveRover((int) x, (int) y, (int) (x + dx), (int) (y + dy));
+        x += dx;
+        y += dy;
+      }
+      return true;
+    }
+  }
+
+  /** Walker driving a rover with long coordinates facing a {@link Direction}. */
+  private static final class WideWalker extends Walker {
+    private final WideRover rover;
+    private final IWidePlateau plateau;
+
+    WideWalker(WideRover rover, IWidePlateau plateau) {
+      this(rover, rover.getPosition(), plateau);
+    }
+
+    private WideWalker(WideRover rover, WidePosition position, IWidePlateau plateau) {
+      super(position.getX(), position.getY(), ((Direction) rover.getDirection()).ordinal());
+      this.rover = rover;
+      this.plateau = plateau;
+    }
+
+    @Override
+    boolean canJump() {
+      return plateau.isRectangular();
+    }
+
+    @Override
+    long width() {
+      return plateau.getWidth();
+    }
+
+    @Override
+    long height() {
+      return plateau.getHeight();
+    }
+
+    @Override
+    void rotate(int rotation) {
+      super.rotate(rotation);
+      for (int i = 0; i < rotation; i++) {
+        rover.turnRight();
+      }
+    }
+
+    @Override
+    int advance(int dx, int dy, int steps) {
+      return (int) rover.moveForward(plateau, steps);
+    }
+
+    @Override
+    boolean jump(long dx, long dy) {
+      rover.moveBy(plateau, dx, dy);
+      x += dx;
+      y += dy;
+      return true;
+    }
+  }
+}
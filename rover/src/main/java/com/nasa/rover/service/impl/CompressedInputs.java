@@ -0,0 +1,113 @@
+package com.nasa.rover.service.impl;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Opens mission inputs that may be gzip compressed. Compressed inputs are recognised by the gzip
+ * magic bytes and decompressed on a {@link ReadAheadInputStream} thread, so decompression overlaps
+ * with parsing. Only the JDK gzip codec is supported.
+ */
+final class CompressedInputs {
+
+  private static final int GZIP_MAGIC_1 = 0x1f;
+  private static final int GZIP_MAGIC_2 = 0x8b;
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private CompressedInputs() {}
+
+  /**
+   * Opens a mission file, decompressing it if it is gzip compressed.
+   *
+   * @param filePath path to the mission file
+   * @return the mission bytes; closing the stream closes the file
+   * @throws IOException if the file cannot be opened
+   */
+  static InputStream open(String filePath) throws IOException {
+    FileInputStream file = new FileInputStream(filePath);
+    try {
+      return decompress(file);
+    } catch (IOException e) {
+      file.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Wraps a stream so that gzip compressed data is decompressed; other data is passed through.
+   *
+   * @param input the stream holding a mission
+   * @return the mission bytes; closing the stream closes the given input
+   * @throws IOException if the input cannot be read
+   */
+  static InputStream decompress(InputStream input) throws IOException {
+    BufferedInputStream buffered = new BufferedInputStream(input, BUFFER_SIZE);
+    buffered.mark(2);
+    int first = buffered.read();
+    int second = buffered.read();
+    buffered.reset();
+
+    if (first != GZIP_MAGIC_1 || second != GZIP_MAGIC_2) {
+      return buffered;
+    }
+    return new ReadAheadInputStream(new GZIPInputStream(buffered, BUFFER_SIZE));
+  }
+
+  /**
+   * Wraps a stream owned by the caller so that gzip compressed data is decompressed. Closing the
+   * returned stream releases the decompression resources but leaves the given input open.
+   *
+   * @param input the stream holding a mission
+   * @return the mission bytes
+   * @throws IOException if the input cannot be read
+   */
+  static InputStream decompressBorrowed(InputStream input) throws IOException {
+    return decompress(
+        new FilterInputStream(input) {
+          @Override
+          public void close() {
+            // The stream belongs to the caller
+          }
+        });
+  }
+
+  /**
+   * Reads the first bytes of a mission file, decompressing it if it is gzip compressed. Only the
+   * header is inflated, on the calling thread.
+   *
+   * @param filePath path to the mission file
+   * @param header the array receiving the first bytes of the mission
+   * @return the number of bytes read, less than the length of the array for shorter missions
+   * @throws IOException if the file cannot be read
+   */
+  static int readHeader(String filePath, byte[] header) throws IOException {
+    try (InputStream input = new BufferedInputStream(new FileInputStream(filePath))) {
+      input.mark(2);
+      boolean compressed = input.read() == GZIP_MAGIC_1 && input.read() == GZIP_MAGIC_2;
+      input.reset();
+      if (!compressed) {
+        return input.readNBytes(header, 0, header.length);
+      }
+      try (InputStream mission = new GZIPInputStream(input)) {
+        return mission.readNBytes(header, 0, header.length);
+      }
+    }
+  }
+
+  /**
+   * Checks if a file is gzip compressed.
+   *
+   * @param filePath path to the file
+   * @return true if the file starts with the gzip magic bytes
+   * @throws IOException if the file cannot be read
+   */
+  static boolean isCompressed(String filePath) throws IOException {
+    try (InputStream input = new FileInputStream(filePath)) {
+      return input.read() == GZIP_MAGIC_1 && input.read() == GZIP_MAGIC_2;
+    }
+  }
+}
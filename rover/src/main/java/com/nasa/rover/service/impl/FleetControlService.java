@@ -0,0 +1,21 @@
+package com.nasa.rover.service.impl;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.impl.RoverFleet;
+import com.nasa.rover.service.IFleetControlService;
+
+/**
+ * Implementation of the service that executes L, R and M commands directly against the arrays of a
+ * {@link RoverFleet}, without any per-rover object.
+ */
+public class FleetControlService implements IFleetControlService {
+
+  @Override
+  public void executeCommands(RoverFleet fleet, int rover, String commands, IPlateau plateau) {
+    if (commands == null || commands.isEmpty()) {
+      return; // Nothing to do with empty commands
+    }
+
+    CommandProgram.compile(commands).execute(fleet, rover, plateau);
+  }
+}
@@ -0,0 +1,233 @@
+package com.nasa.rover.service.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.RoverFleet;
+import com.nasa.rover.service.IFleetCheckpoint;
+
+/**
+ * Snapshot of a {@link RoverFleet} in a compact binary file, used as the checkpoint of long
+ * lock-step simulations. The file holds the number of ticks completed, which is the command cursor
+ * of every rover, and 9 bytes per rover:
+ *
+ * <pre>
+ * int   magic "ROVS"
+ * int   version
+ * int   rover count
+ * int   mission fingerprint
+ * long  total ticks of the simulation
+ * long  ticks completed
+ * then, for each rover: int x, int y, byte direction ordinal
+ * int   CRC-32C of everything above
+ * </pre>
+ *
+ * <p>The fingerprint identifies the mission the fleet belongs to, so that a snapshot left behind by
+ * another mission is refused instead of being resumed.
+ *
+ * <p>All values are little-endian. A snapshot is written to a temporary file through a {@link
+ * FileChannel}, forced to disk, then renamed over the previous one in a single atomic step, so a
+ * crash at any moment leaves either the previous snapshot or the new one, never a partial file.
+ * Reading checks the size and checksum before handing back the fleet.
+ */
+public class FleetSnapshotFile {
+
+  /** First bytes of a snapshot, "ROVS" in ASCII. */
+  public static final int MAGIC = 0x524f5653;
+
+  /** Version of the layout written by this class. */
+  public static final int VERSION = 2;
+
+  private static final int HEADER_SIZE = 32;
+  private static final int ROVER_SIZE = 9;
+  private static final int CHECKSUM_SIZE = 4;
+  // Whole rovers per buffer, so records never straddle two reads
+  private static final int BUFFER_SIZE = (1 << 20) / ROVER_SIZE * ROVER_SIZE;
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final Path file;
+
+  /**
+   * Creates a snapshot file. Nothing is read nor written until asked.
+   *
+   * @param file the path of the snapshot
+   */
+  public FleetSnapshotFile(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Checks if a snapshot has been saved.
+   *
+   * @return true if the snapshot file exists
+   */
+  public boolean exists() {
+    return Files.isRegularFile(file);
+  }
+
+  /**
+   * Discards the snapshot, if any, once the simulation it belongs to has completed.
+   *
+   * @throws IOException if the snapshot cannot be deleted
+   */
+  public void discard() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Gets the checkpoint saving the fleet of a mission to this file.
+   *
+   * @param mission the fingerprint of the mission
+   * @return a checkpoint writing snapshots of the mission
+   */
+  public IFleetCheckpoint checkpoint(int mission) {
+    return (fleet, tick, ticks) -> save(fleet, mission, tick, ticks);
+  }
+
+  /**
+   * Writes a snapshot of a fleet, replacing the previous one atomically.
+   *
+   * @param fleet the fleet to save
+   * @param mission the fingerprint of the mission the fleet belongs to
+   * @param tick the number of ticks completed
+   * @param ticks the total number of ticks of the simulation
+   * @throws IOException if the snapshot cannot be written
+   */
+  public void save(RoverFleet fleet, int mission, long tick, long ticks) throws IOException {
+    Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+    ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    CRC32C checksum = new CRC32C();
+    try (FileChannel channel =
+        FileChannel.open(
+            temporary,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      buffer.putInt(MAGIC).putInt(VERSION).putInt(fleet.size()).putInt(mission);
+      buffer.putLong(ticks).putLong(tick);
+      for (int rover = 0; rover < fleet.size(); rover++) {
+        if (buffer.remaining() < ROVER_SIZE) {
+          write(channel, buffer, checksum);
+        }
+        buffer.putInt(fleet.getX(rover));
+        buffer.putInt(fleet.getY(rover));
+        buffer.put((byte) fleet.getDirectionOrdinal(rover));
+      }
+      write(channel, buffer, checksum);
+      buffer.putInt((int) checksum.getValue());
+      write(channel, buffer, null);
+      channel.force(true);
+    }
+    Files.move(
+        temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    syncDirectory();
+  }
+
+  /**
+   * Reads the snapshot of a mission, adding its rovers to a fleet in their original order.
+   *
+   * @param fleet the fleet receiving the rovers, usually empty
+   * @param mission the fingerprint of the mission to resume
+   * @return the number of ticks completed when the snapshot was taken
+   * @throws IOException if the snapshot cannot be read, is corrupted, or belongs to another mission
+   */
+  public long restore(RoverFleet fleet, int mission) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      CRC32C checksum = new CRC32C();
+      // The format is identified before the rest of the header, whose size depends on the version
+      read(channel, buffer, Integer.BYTES * 2, checksum);
+      if (buffer.getInt() != MAGIC) {
+        throw new IOException("Not a fleet snapshot");
+      }
+      int version = buffer.getInt();
+      if (version != VERSION) {
+        throw new IOException("Unsupported fleet snapshot version: " + version);
+      }
+      read(channel, buffer, HEADER_SIZE - Integer.BYTES * 2, checksum);
+      int size = buffer.getInt();
+      int fingerprint = buffer.getInt();
+      long ticks = buffer.getLong();
+      long tick = buffer.getLong();
+      if (size < 0 || channel.size() != HEADER_SIZE + (long) size * ROVER_SIZE + CHECKSUM_SIZE) {
+        throw new IOException("Truncated fleet snapshot");
+      }
+      if (tick < 0 || tick > ticks) {
+        throw new IOException("Corrupted fleet snapshot: invalid tick count");
+      }
+      if (fingerprint != mission) {
+        throw new IOException("Fleet snapshot belongs to another mission");
+      }
+
+      for (long left = (long) size * ROVER_SIZE; left > 0; ) {
+        int length = (int) Math.min(left, BUFFER_SIZE);
+        read(channel, buffer, length, checksum);
+        while (buffer.hasRemaining()) {
+          int x = buffer.getInt();
+          int y = buffer.getInt();
+          int direction = buffer.get();
+          if (direction < 0 || direction >= DIRECTIONS.length) {
+            throw new IOException("Invalid direction ordinal: " + direction);
+          }
+          fleet.add(x, y, DIRECTIONS[direction]);
+        }
+        left -= length;
+      }
+
+      read(channel, buffer, CHECKSUM_SIZE, null);
+      if (buffer.getInt() != (int) checksum.getValue()) {
+        throw new IOException("Corrupted fleet snapshot: checksum mismatch");
+      }
+      return tick;
+    }
+  }
+
+  /** Writes the buffered bytes, adding them to the checksum unless it is null, and clears it. */
+  private static void write(FileChannel channel, ByteBuffer buffer, CRC32C checksum)
+      throws IOException {
+    buffer.flip();
+    if (checksum != null) {
+      checksum.update(buffer.duplicate());
+    }
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /** Reads exactly length bytes into the buffer, ready to be decoded. */
+  private static void read(FileChannel channel, ByteBuffer buffer, int length, CRC32C checksum)
+      throws IOException {
+    buffer.clear().limit(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        throw new IOException("Truncated fleet snapshot");
+      }
+    }
+    buffer.flip();
+    if (checksum != null) {
+      checksum.update(buffer.duplicate());
+    }
+  }
+
+  /** Makes the rename durable. Directories cannot be opened on every platform. */
+  private void syncDirectory() {
+    Path directory = file.toAbsolutePath().getParent();
+    if (directory == null) {
+      return;
+    }
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (IOException e) {
+      // The rename itself is atomic; only its durability across a power loss is weakened
+    }
+  }
+}
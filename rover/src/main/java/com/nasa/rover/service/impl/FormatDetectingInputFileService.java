@@ -0,0 +1,99 @@
+package com.nasa.rover.service.impl;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IRoverCommand;
+import com.nasa.rover.service.IInputFileService;
+
+/**
+ * Service that reads missions in either the text or the binary mission format. The format is picked
+ * from the first bytes of the input, after gzip decompression: binary missions start with a magic
+ * header, anything else is handed to the text service. Missions are opened and decompressed once,
+ * their header peeked at before the whole stream goes to the chosen reader, so text missions are
+ * read through {@link IInputFileService#readMission(InputStream, BiConsumer)}.
+ */
+public class FormatDetectingInputFileService implements IInputFileService {
+
+  private final IInputFileService textService;
+
+  /** Creates a new FormatDetectingInputFileService reading text missions with InputFileService. */
+  public FormatDetectingInputFileService() {
+    this(new InputFileService());
+  }
+
+  /**
+   * Creates a new FormatDetectingInputFileService.
+   *
+   * @param textService the service reading text missions
+   */
+  public FormatDetectingInputFileService(IInputFileService textService) {
+    this.textService = textService;
+  }
+
+  @Override
+  public IPlateau readPlateauFromFile(String filePath) throws Exception {
+    if (!isBinary(filePath)) {
+      return textService.readPlateauFromFile(filePath);
+    }
+    try (InputStream input = CompressedInputs.open(filePath)) {
+      return new BinaryMissionReader(input).readPlateau();
+    }
+  }
+
+  @Override
+  public List<IRoverCommand> readRoverCommandsFromFile(String filePath) throws Exception {
+    List<IRoverCommand> roverCommands = new ArrayList<>();
+    readMission(filePath, (plateau, roverCommand) -> roverCommands.add(roverCommand));
+    return roverCommands;
+  }
+
+  @Override
+  public IPlateau readMission(String filePath, BiConsumer<IPlateau, IRoverCommand> roverHandler)
+      throws Exception {
+    try (InputStream input = CompressedInputs.open(filePath)) {
+      return readDecompressed(input, roverHandler);
+    }
+  }
+
+  @Override
+  public IPlateau readMission(InputStream input, BiConsumer<IPlateau, IRoverCommand> roverHandler)
+      throws Exception {
+    try (InputStream decompressed = CompressedInputs.decompressBorrowed(input)) {
+      return readDecompressed(decompressed, roverHandler);
+    }
+  }
+
+  /** Reads a decompressed mission with the reader of its format. */
+  private IPlateau readDecompressed(
+      InputStream decompressed, BiConsumer<IPlateau, IRoverCommand> roverHandler) throws Exception {
+    // Peek at the header, then rewind so that the chosen reader sees the whole input
+    BufferedInputStream buffered = new BufferedInputStream(decompressed);
+    byte[] header = new byte[BinaryMissionFormat.MAGIC.length];
+    buffered.mark(header.length);
+    int length = buffered.readNBytes(header, 0, header.length);
+    buffered.reset();
+
+    if (BinaryMissionFormat.hasMagic(header, length)) {
+      return new BinaryMissionReader(buffered).readMission(roverHandler);
+    }
+    return textService.readMission(buffered, roverHandler);
+  }
+
+  /**
+   * Checks if a file holds a binary mission, possibly gzip compressed.
+   *
+   * @param filePath path to the mission file
+   * @return true if the file, once decompressed, starts with the binary mission magic
+   * @throws IOException if the file cannot be read
+   */
+  public static boolean isBinary(String filePath) throws IOException {
+    byte[] header = new byte[BinaryMissionFormat.MAGIC.length];
+    return BinaryMissionFormat.hasMagic(header, CompressedInputs.readHeader(filePath, header));
+  }
+}
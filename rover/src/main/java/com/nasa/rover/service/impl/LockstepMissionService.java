@@ -0,0 +1,293 @@
+package com.nasa.rover.service.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32C;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IPosition;
+import com.nasa.rover.model.IRover;
+import com.nasa.rover.model.IRoverCommand;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.RoverFleet;
+import com.nasa.rover.service.IInputFileService;
+import com.nasa.rover.service.IMissionService;
+import com.nasa.rover.service.ITickSimulationService;
+
+/**
+ * Service executing a mission with all rovers moving at the same time. Every rover lands before the
+ * first tick, then executes its i-th command during tick i, until the longest command string is
+ * exhausted; rovers that run out of commands stay where they are and keep blocking their cell.
+ *
+ * <p>The outcome of a tick never depends on the order in which rovers are processed: a move
+ * succeeds when the target cell is on the plateau, was free at the start of the tick and is not
+ * entered during the same tick by a rover listed before in the mission. A blocked move is lost, as
+ * a move off the plateau is. Rovers are held in a {@link RoverFleet} and moved by a {@link
+ * TickSimulationService}, which processes each tick in parallel on the executor when one is
+ * provided.
+ *
+ * <p>Missions read from a file run on the terrain map found next to it, if any, as in {@link
+ * MissionService}: an obstacle blocks moves as the edge of the plateau does.
+ *
+ * <p>With a {@link FleetSnapshotFile}, the fleet is saved at regular intervals of ticks and a
+ * mission interrupted by a crash resumes from the last snapshot; blocked moves are then only
+ * counted from there.
+ *
+ * <p>Reports are written in input order once all rovers have finished. Trajectories are not
+ * recorded in lock-step missions.
+ */
+public class LockstepMissionService implements IMissionService {
+
+  /** Number of ticks between two checkpoints of a simulation. */
+  public static final long DEFAULT_CHECKPOINT_INTERVAL = 1000;
+
+  private static final int FINGERPRINT_BUFFER_SIZE = 1 << 12;
+
+  private final IInputFileService inputFileService;
+  private final ITickSimulationService tickSimulationService;
+  private final MissionMetrics metrics;
+  private final FleetSnapshotFile snapshot;
+  private final long checkpointInterval;
+
+  /**
+   * Creates a new LockstepMissionService processing ticks on the mission thread.
+   *
+   * @param inputFileService the service for processing input files
+   */
+  public LockstepMissionService(IInputFileService inputFileService) {
+    this(inputFileService, null, null);
+  }
+
+  /**
+   * Creates a new LockstepMissionService. The executor is not shut down by this service.
+   *
+   * @param inputFileService the service for processing input files
+   * @param executor the executor running the chunks of each tick, or null to process ticks on the
+   *     mission thread
+   * @param metrics the metrics receiving mission counts and timings, or null to record nothing
+   */
+  public LockstepMissionService(
+      IInputFileService inputFileService, ExecutorService executor, MissionMetrics metrics) {
+    this(inputFileService, executor, metrics, null, 0);
+  }
+
+  /**
+   * Creates a new LockstepMissionService saving the state of its simulations in a snapshot file. A
+   * mission finding a snapshot resumes from it instead of starting over, saves a new one every
+   * checkpointInterval ticks, and deletes it once completed. A snapshot taken on another mission,
+   * told apart by a fingerprint of the plateau, rovers and commands, is refused.
+   *
+   * @param inputFileService the service for processing input files
+   * @param executor the executor running the chunks of each tick, or null to process ticks on the
+   *     mission thread
+   * @param metrics the metrics receiving mission counts and timings, or null to record nothing
+   * @param snapshot the snapshot of the simulation, or null to run without checkpoints
+   * @param checkpointInterval the number of ticks between two checkpoints
+   */
+  public LockstepMissionService(
+      IInputFileService inputFileService,
+      ExecutorService executor,
+      MissionMetrics metrics,
+      FleetSnapshotFile snapshot,
+      long checkpointInterval) {
+    this.inputFileService = inputFileService;
+    this.tickSimulationService = new TickSimulationService(executor, metrics);
+    this.metrics = metrics;
+    this.snapshot = snapshot;
+    this.checkpointInterval = checkpointInterval;
+  }
+
+  @Override
+  public String executeMission(String inputFilePath) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    executeMission(inputFilePath, output);
+
+    // Drop the line feed terminating the last report
+    return new String(output.toByteArray(), 0, output.size() - 1, StandardCharsets.US_ASCII);
+  }
+
+  @Override
+  public void executeMission(String inputFilePath, OutputStream output) throws Exception {
+    execute(
+        handler -> inputFileService.readMission(inputFilePath, handler),
+        TerrainReader.terrainFile(inputFilePath),
+        output);
+  }
+
+  @Override
+  public void executeMission(InputStream input, OutputStream output) throws Exception {
+    execute(handler -> inputFileService.readMission(input, handler), null, output);
+  }
+
+  private void execute(MissionReader reader, Path terrainFile, OutputStream output)
+      throws Exception {
+    ReportWriter writer = new ReportWriter(output);
+    Mission mission = new Mission(terrainFile);
+    long start = System.nanoTime();
+    boolean successful = false;
+    try {
+      reader.read(
+          (plateau, command) -> {
+            try {
+              mission.add(plateau, command);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+      if (mission.fleet.size() == 0) {
+        throw new Exception("No rover commands found in the input file");
+      }
+
+      RoverFleet fleet = mission.fleet;
+      long firstTick = 0;
+      int fingerprint = mission.fingerprint();
+      if (snapshot != null && snapshot.exists()) {
+        fleet = new RoverFleet(mission.fleet.size());
+        firstTick = resume(fleet, fingerprint, mission.fleet.size());
+      }
+
+      long parsed = System.nanoTime();
+      try {
+        tickSimulationService.simulate(
+            fleet,
+            mission.commands.toArray(new String[0]),
+            mission.plateau,
+            firstTick,
+            checkpointInterval,
+            snapshot == null ? null : snapshot.checkpoint(fingerprint));
+      } catch (UncheckedIOException e) {
+        // Only checkpoints write to a file during the simulation
+        throw new SnapshotException("Cannot save the fleet snapshot", e.getCause());
+      }
+      long executed = System.nanoTime();
+      for (int i = 0; i < fleet.size(); i++) {
+        writer.writeReport(fleet, i);
+      }
+      writer.flush();
+      if (snapshot != null) {
+        snapshot.discard();
+      }
+
+      if (metrics != null) {
+        metrics.recordParseTime(parsed - start);
+        metrics.recordExecuteTime(executed - parsed);
+        metrics.recordOutputTime(System.nanoTime() - executed);
+      }
+      successful = true;
+    } catch (SnapshotException e) {
+      throw e;
+    } catch (UncheckedIOException e) {
+      throw new Exception("No rover commands found in the input file", e.getCause());
+    } catch (Exception e) {
+      // Préserver l'exception d'origine comme cause
+      throw new Exception("No rover commands found in the input file", e);
+    } finally {
+      if (metrics != null) {
+        metrics.recordMission(writer.getReportCount(), successful);
+      }
+    }
+  }
+
+  /**
+   * Restores the snapshot of a mission into an empty fleet.
+   *
+   * @return the number of ticks completed when the snapshot was taken
+   * @throws SnapshotException if the snapshot cannot be read or belongs to another mission
+   */
+  private long resume(RoverFleet fleet, int fingerprint, int roverCount) throws SnapshotException {
+    try {
+      long tick = snapshot.restore(fleet, fingerprint);
+      if (fleet.size() != roverCount) {
+        throw new IOException(
+            "Fleet snapshot holds " + fleet.size() + " rovers, the mission has " + roverCount);
+      }
+      return tick;
+    } catch (IOException e) {
+      throw new SnapshotException("Cannot resume the mission from its fleet snapshot", e);
+    }
+  }
+
+  /** Failure of the fleet snapshot, reported as is rather than as an error of the mission file. */
+  private static final class SnapshotException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    SnapshotException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+
+  /** Reads a mission, handing each parsed rover to a handler. */
+  @FunctionalInterface
+  private interface MissionReader {
+    void read(BiConsumer<IPlateau, IRoverCommand> handler) throws Exception;
+  }
+
+  /**
+   * Rovers of one mission, collected before the first tick. The mission is fingerprinted along the
+   * way with a CRC-32C of the bounds of its plateau, and of the landing position, direction and
+   * command string of every rover in order, which tells its snapshots from those of other missions.
+   */
+  private static final class Mission {
+    private final RoverFleet fleet = new RoverFleet();
+    private final List<String> commands = new ArrayList<>();
+    private final MissionTerrain terrain;
+    private final CRC32C fingerprint = new CRC32C();
+    private final ByteBuffer digested =
+        ByteBuffer.allocate(FINGERPRINT_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private IPlateau plateau;
+
+    Mission(Path terrainFile) {
+      this.terrain = new MissionTerrain(terrainFile);
+    }
+
+    void add(IPlateau parsedPlateau, IRoverCommand command) throws IOException {
+      IRover rover = command.getRover();
+      IPosition position = rover.getPosition();
+      IPlateau landed = terrain.land(parsedPlateau, position.getX(), position.getY());
+      if (landed != plateau) {
+        plateau = landed;
+        digest(Integer.BYTES * 2).putInt(plateau.getWidth()).putInt(plateau.getHeight());
+      }
+      Direction direction = Direction.fromValue(rover.getDirection().getValue());
+      fleet.add(position.getX(), position.getY(), direction);
+
+      String roverCommands = command.getCommands();
+      commands.add(roverCommands);
+      digest(Integer.BYTES * 3 + 1)
+          .putInt(position.getX())
+          .putInt(position.getY())
+          .put((byte) direction.ordinal())
+          .putInt(roverCommands.length());
+      // Valid commands are ASCII, anything else is rejected before the first tick
+      for (int i = 0; i < roverCommands.length(); i++) {
+        digest(1).put((byte) roverCommands.charAt(i));
+      }
+    }
+
+    int fingerprint() {
+      digest(FINGERPRINT_BUFFER_SIZE);
+      return (int) fingerprint.getValue();
+    }
+
+    /** Makes room for length bytes in the digest buffer, feeding the checksum when it is full. */
+    private ByteBuffer digest(int length) {
+      if (digested.remaining() < length) {
+        digested.flip();
+        fingerprint.update(digested);
+        digested.clear();
+      }
+      return digested;
+    }
+  }
+}
@@ -0,0 +1,230 @@
+package com.nasa.rover.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IRoverCommand;
+import com.nasa.rover.service.IInputFileService;
+
+/**
+ * Service that processes Mars Rover instruction files through memory mapping. The file is mapped in
+ * windows of at most {@link #DEFAULT_WINDOW_SIZE} bytes, so files larger than a single 2 GB mapping
+ * are supported, and lines are scanned straight from the mapped bytes. Mission files are expected
+ * to be ASCII.
+ */
+public class MappedInputFileService implements IInputFileService {
+
+  /** Default size of a mapped window (1 GB). */
+  public static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+
+  private final long windowSize;
+
+  /** Creates a new MappedInputFileService using the default window size. */
+  public MappedInputFileService() {
+    this(DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * Creates a new MappedInputFileService with the specified window size.
+   *
+   * @param windowSize the maximum number of bytes mapped at once, which is also the maximum length
+   *     of a line
+   * @throws IllegalArgumentException if the window size is not between 1 and Integer.MAX_VALUE
+   */
+  public MappedInputFileService(long windowSize) {
+    if (windowSize < 1 || windowSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Window size must be between 1 and " + Integer.MAX_VALUE);
+    }
+    this.windowSize = windowSize;
+  }
+
+  @Override
+  public IPlateau readPlateauFromFile(String filePath) throws Exception {
+    if (CompressedInputs.isCompressed(filePath)) {
+      return new InputFileService().readPlateauFromFile(filePath);
+    }
+    try (MappedLines lines = new MappedLines(filePath, windowSize)) {
+      return new MissionLineScanner().scanPlateau(lines.readLine()); // Read the first line
+    } catch (Exception e) {
+      if (e.getMessage() != null && !e.getMessage().isEmpty()) {
+        throw e;
+      } else {
+        throw new Exception("Error reading plateau from file: " + e.getClass().getName(), e);
+      }
+    }
+  }
+
+  @Override
+  public List<IRoverCommand> readRoverCommandsFromFile(String filePath) throws Exception {
+    List<IRoverCommand> roverCommands = new ArrayList<>();
+    readMission(filePath, (plateau, roverCommand) -> roverCommands.add(roverCommand));
+    return roverCommands;
+  }
+
+  @Override
+  public IPlateau readMission(String filePath, BiConsumer<IPlateau, IRoverCommand> roverHandler)
+      throws Exception {
+    // Mapping only pays off for plain files; compressed ones are streamed through a decompressor
+    if (CompressedInputs.isCompressed(filePath)) {
+      return new InputFileService().readMission(filePath, roverHandler);
+    }
+    try (MappedLines lines = new MappedLines(filePath, windowSize)) {
+      MissionLineScanner scanner = new MissionLineScanner();
+      IPlateau plateau = scanner.scanPlateau(lines.readLine());
+      scanner.scanRovers(lines, plateau, roverHandler);
+      return plateau;
+    } catch (Exception e) {
+      if (e.getMessage() != null && !e.getMessage().isEmpty()) {
+        throw e;
+      } else {
+        throw new Exception("Error reading mission from file: " + e.getClass().getName(), e);
+      }
+    }
+  }
+
+  /** Streams cannot be mapped; they are read through {@link InputFileService}. */
+  @Override
+  public IPlateau readMission(InputStream input, BiConsumer<IPlateau, IRoverCommand> roverHandler)
+      throws Exception {
+    return new InputFileService().readMission(input, roverHandler);
+  }
+
+  /**
+   * Line reader over a file mapped window by window. Lines end with {@code \n}, {@code \r} or
+   * {@code \r\n}, as with {@link java.io.BufferedReader#readLine()}. Returned lines are views over
+   * the mapped bytes; two views are used alternately so that a position line stays valid while the
+   * following command line is scanned.
+   */
+  private static final class MappedLines implements MissionLineSource, AutoCloseable {
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long windowSize;
+    private final AsciiLine[] views = {new AsciiLine(), new AsciiLine()};
+
+    private ByteBuffer window;
+    private long windowStart;
+    private int position;
+    private int viewIndex;
+    private boolean pendingCarriageReturn;
+
+    MappedLines(String filePath, long windowSize) throws IOException {
+      this.channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ);
+      this.fileSize = channel.size();
+      this.windowSize = windowSize;
+      map(0);
+    }
+
+    @Override
+    public CharSequence readLine() throws IOException {
+      while (true) {
+        int limit = window.limit();
+        boolean lastWindow = windowStart + limit == fileSize;
+        if (position == limit) {
+          if (lastWindow) {
+            return null;
+          }
+          map(windowStart + position);
+          continue;
+        }
+
+        // Second half of a "\r\n" terminator that straddled two windows
+        if (pendingCarriageReturn) {
+          pendingCarriageReturn = false;
+          if (window.get(position) == '\n') {
+            position++;
+            continue;
+          }
+        }
+
+        int end = position;
+        while (end < limit) {
+          byte b = window.get(end);
+          if (b == '\n' || b == '\r') {
+            break;
+          }
+          end++;
+        }
+
+        // The line continues past this window: remap from the line start
+        if (end == limit && !lastWindow) {
+          if (position == 0) {
+            throw new IOException(
+                "Line longer than the mapping window of " + windowSize + " bytes");
+          }
+          map(windowStart + position);
+          continue;
+        }
+
+        AsciiLine line = views[viewIndex];
+        viewIndex ^= 1;
+        line.set(window, position, end - position);
+
+        position = end;
+        if (position < limit && window.get(position++) == '\r') {
+          if (position == limit) {
+            pendingCarriageReturn = true;
+          } else if (window.get(position) == '\n') {
+            position++;
+          }
+        }
+        return line;
+      }
+    }
+
+    private void map(long start) throws IOException {
+      long size = Math.min(windowSize, fileSize - start);
+      window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+      windowStart = start;
+      position = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
+
+  /** Character view over a run of ASCII bytes of a buffer. */
+  private static final class AsciiLine implements CharSequence {
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    void set(ByteBuffer buffer, int offset, int length) {
+      this.buffer = buffer;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    @Override
+    public int length() {
+      return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+      return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      byte[] bytes = new byte[end - start];
+      buffer.get(offset + start, bytes);
+      return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+      return subSequence(0, length).toString();
+    }
+  }
+}
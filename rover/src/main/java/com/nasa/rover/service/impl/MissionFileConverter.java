@@ -0,0 +1,107 @@
+package com.nasa.rover.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.nasa.rover.model.IRoverCommand;
+import com.nasa.rover.service.IInputFileService;
+
+/** Converts mission files between the text and the binary mission formats. */
+public class MissionFileConverter {
+
+  private final IInputFileService textService;
+
+  /** Creates a new MissionFileConverter reading text missions with InputFileService. */
+  public MissionFileConverter() {
+    this(new InputFileService());
+  }
+
+  /**
+   * Creates a new MissionFileConverter.
+   *
+   * @param textService the service reading text missions
+   */
+  public MissionFileConverter(IInputFileService textService) {
+    this.textService = textService;
+  }
+
+  /**
+   * Converts a text mission file to the binary mission format.
+   *
+   * @param textFile path to the text mission
+   * @param binaryFile path of the binary mission to write
+   * @return the number of rovers converted
+   * @throws Exception if the text mission is invalid or a file cannot be accessed
+   */
+  public long toBinary(String textFile, String binaryFile) throws Exception {
+    long[] rovers = {0};
+    try (OutputStream output = Files.newOutputStream(Path.of(binaryFile))) {
+      BinaryMissionWriter writer = new BinaryMissionWriter(output);
+      try {
+        textService.readMission(
+            textFile,
+            (plateau, command) -> {
+              try {
+                if (rovers[0]++ == 0) {
+                  writer.writePlateau(plateau);
+                }
+                writer.writeRover(command);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      writer.flush();
+    }
+    return rovers[0];
+  }
+
+  /**
+   * Converts a binary mission file back to the text mission format.
+   *
+   * @param binaryFile path to the binary mission
+   * @param textFile path of the text mission to write
+   * @return the number of rovers converted
+   * @throws Exception if the binary mission is invalid or a file cannot be accessed
+   */
+  public long toText(String binaryFile, String textFile) throws Exception {
+    long[] rovers = {0};
+    try (InputStream input = Files.newInputStream(Path.of(binaryFile));
+        BufferedWriter writer =
+            Files.newBufferedWriter(Path.of(textFile), StandardCharsets.UTF_8)) {
+      try {
+        new BinaryMissionReader(input)
+            .readMission(
+                (plateau, command) -> {
+                  try {
+                    if (rovers[0]++ == 0) {
+                      writer.write(plateau.getWidth() + " " + plateau.getHeight());
+                      writer.write('\n');
+                    }
+                    writeRover(writer, command);
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    }
+    return rovers[0];
+  }
+
+  private static void writeRover(BufferedWriter writer, IRoverCommand command) throws IOException {
+    writer.write(command.getRover().getPositionReport());
+    writer.write('\n');
+    writer.write(command.getCommands());
+    writer.write('\n');
+  }
+}
@@ -0,0 +1,434 @@
+package com.nasa.rover.service.impl;
+
+import java.util.function.BiConsumer;
+
+import com.nasa.rover.model.IDirection;
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IRover;
+import com.nasa.rover.model.IRoverCommand;
+import com.nasa.rover.model.IWidePlateau;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.Plateau;
+import com.nasa.rover.model.impl.Position;
+import com.nasa.rover.model.impl.Rover;
+import com.nasa.rover.model.impl.RoverCommand;
+import com.nasa.rover.model.impl.WidePlateau;
+import com.nasa.rover.model.impl.WidePosition;
+import com.nasa.rover.model.impl.WideRover;
+
+/**
+ * Hand-written scanner for the lines of a mission file. Validates and extracts the plateau
+ * dimensions, the rover position and the command span in a single pass over each line, without
+ * regular expressions or intermediate token strings. Error messages are the ones historically
+ * produced by the regex based parser.
+ *
+ * <p>Coordinates are ints, or longs for the wide variants of the methods, which build plateaus and
+ * rovers with long coordinates.
+ *
+ * <p>A scanner keeps the tokens of the last position line it has seen, so an instance must not be
+ * shared between threads, and a {@link MissionLineSource} must not recycle the character storage of
+ * a position line before the following command line has been scanned.
+ */
+final class MissionLineScanner {
+
+  // Offsets of the tokens of the plateau line
+  private int widthEnd;
+  private int heightStart;
+  private int heightEnd;
+
+  // Current position line and the offsets of its tokens
+  private CharSequence positionLine;
+  private int positionStart;
+  private int positionEnd;
+  private int xStart;
+  private int xEnd;
+  private int yStart;
+  private int yEnd;
+
+  /**
+   * Parses the plateau line. Equivalent to matching {@code ^-?\d+\s+-?\d+$} and parsing both
+   * integers.
+   *
+   * @param line the plateau line, or null if the file is empty
+   * @return the plateau described by the line
+   * @throws Exception if the line is missing or malformed
+   */
+  IPlateau scanPlateau(CharSequence line) throws Exception {
+    scanDimensions(line);
+    int width = parseInt(line, 0, widthEnd); // Parse width
+    int height = parseInt(line, heightStart, heightEnd); // Parse height
+    if (width < 0 || height < 0) {
+      throw new Exception("Plateau dimensions cannot be negative");
+    }
+
+    return new Plateau(width, height);
+  }
+
+  /**
+   * Parses the plateau line of a mission with long coordinates. The line has the same format as for
+   * {@link #scanPlateau(CharSequence)}.
+   *
+   * @param line the plateau line, or null if the file is empty
+   * @return the plateau described by the line
+   * @throws Exception if the line is missing or malformed, or a dimension is out of range
+   */
+  IWidePlateau scanWidePlateau(CharSequence line) throws Exception {
+    scanDimensions(line);
+    long width = parseLong(line, 0, widthEnd);
+    long height = parseLong(line, heightStart, heightEnd);
+    if (width < 0 || height < 0) {
+      throw new Exception("Plateau dimensions cannot be negative");
+    }
+    if (width > WidePlateau.MAX_DIMENSION || height > WidePlateau.MAX_DIMENSION) {
+      throw new Exception("Plateau dimensions cannot exceed " + WidePlateau.MAX_DIMENSION);
+    }
+
+    return new WidePlateau(width, height);
+  }
+
+  /** Validates the plateau line and records the offsets of its two numbers. */
+  private void scanDimensions(CharSequence line) throws Exception {
+    if (line == null || trimStart(line) == line.length()) {
+      throw new Exception("Input file is empty");
+    }
+
+    int length = line.length();
+    widthEnd = scanDigits(line, skipMinus(line, 0, length), length);
+    heightStart = widthEnd < 0 ? -1 : skipWhitespace(line, widthEnd, length);
+    heightEnd =
+        heightStart <= widthEnd
+            ? -1
+            : scanDigits(line, skipMinus(line, heightStart, length), length);
+    if (heightEnd != length) {
+      throw new Exception("Invalid plateau format. Expected two integers separated by space");
+    }
+  }
+
+  /**
+   * Reads the rover position and command lines that follow the plateau line, handing each rover to
+   * the handler as soon as it has been parsed.
+   *
+   * @param lines source positioned just after the plateau line
+   * @param plateau the plateau used to validate rover positions
+   * @param roverHandler receives each rover command, in file order
+   * @throws Exception if a rover block is malformed or no rover is found
+   */
+  void scanRovers(
+      MissionLineSource lines, IPlateau plateau, BiConsumer<IPlateau, IRoverCommand> roverHandler)
+      throws Exception {
+    // Process rover positions and commands
+    CharSequence positionLine;
+    boolean foundRovers = false;
+
+    while ((positionLine = lines.readLine()) != null) {
+      if (!scanPosition(positionLine)) {
+        continue; // Skip blank lines
+      }
+
+      // Read the next line for commands
+      String commandLine = scanCommands(lines.readLine());
+
+      IRover rover = createRover(plateau);
+      roverHandler.accept(plateau, new RoverCommand(rover, commandLine));
+      foundRovers = true;
+    }
+
+    if (!foundRovers) {
+      throw new Exception("No rover instructions found in the file");
+    }
+  }
+
+  /**
+   * Reads the rover blocks of a mission with long coordinates, as {@link
+   * #scanRovers(MissionLineSource, IPlateau, BiConsumer)} does for int coordinates.
+   *
+   * @param lines source positioned just after the plateau line
+   * @param plateau the plateau used to validate rover positions
+   * @param roverHandler receives each rover and its command string, in file order
+   * @throws Exception if a rover block is malformed or no rover is found
+   */
+  void scanWideRovers(
+      MissionLineSource lines, IWidePlateau plateau, BiConsumer<WideRover, String> roverHandler)
+      throws Exception {
+    CharSequence positionLine;
+    boolean foundRovers = false;
+
+    while ((positionLine = lines.readLine()) != null) {
+      if (!scanPosition(positionLine)) {
+        continue; // Skip blank lines
+      }
+
+      String commandLine = scanCommands(lines.readLine());
+      roverHandler.accept(createWideRover(plateau), commandLine);
+      foundRovers = true;
+    }
+
+    if (!foundRovers) {
+      throw new Exception("No rover instructions found in the file");
+    }
+  }
+
+  /**
+   * Scans a rover position line. Equivalent to trimming the line and matching {@code
+   * ^\d+\s+\d+\s+.$}; numbers are only parsed later by {@link #createRover(IPlateau)}.
+   *
+   * @param line the candidate position line
+   * @return false if the line is blank and must be skipped, true otherwise
+   * @throws Exception if the line is not a valid position line
+   */
+  boolean scanPosition(CharSequence line) throws Exception {
+    int start = trimStart(line);
+    int end = trimEnd(line, start);
+    if (start == end) {
+      return false;
+    }
+
+    positionLine = line;
+    positionStart = start;
+    positionEnd = end;
+
+    xStart = start;
+    xEnd = scanDigits(line, xStart, end);
+    yStart = xEnd < 0 ? -1 : skipWhitespace(line, xEnd, end);
+    yEnd = yStart <= xEnd ? -1 : scanDigits(line, yStart, end);
+    int directionStart = yEnd < 0 ? -1 : skipWhitespace(line, yEnd, end);
+    if (directionStart <= yEnd
+        || directionStart != end - 1
+        || isLineTerminator(line.charAt(directionStart))) {
+      throw new Exception("Invalid rover position format: " + positionText());
+    }
+    return true;
+  }
+
+  /**
+   * Scans the command line of the current rover. Equivalent to trimming the line and matching
+   * {@code ^[LRM]+$}, where a command may also be a run {@code kL}, {@code kR} or {@code kM}
+   * repeating one command k times, or a group {@code k(...)} repeating non-empty commands k times,
+   * k being at most {@link Integer#MAX_VALUE}. Groups can be nested.
+   *
+   * @param line the command line, or null at end of file
+   * @return the trimmed command string
+   * @throws Exception if the commands are missing, contain an unknown command, a count without a
+   *     command or a malformed group
+   */
+  String scanCommands(CharSequence line) throws Exception {
+    int start = line == null ? 0 : trimStart(line);
+    int end = line == null ? 0 : trimEnd(line, start);
+    if (start == end) {
+      throw new Exception("Missing commands for rover at position: " + positionText());
+    }
+
+    int depth = 0;
+    for (int i = start; i < end; i++) {
+      char command = line.charAt(i);
+      if (command == 'L' || command == 'R' || command == 'M') {
+        continue;
+      }
+      if (command == ')' && depth > 0 && line.charAt(i - 1) != '(') {
+        depth--;
+        continue;
+      }
+      int countEnd = scanDigits(line, i, end);
+      if (countEnd < 0 || countEnd == end || !isRepeatCount(line, i, countEnd)) {
+        throw new Exception(
+            "Invalid rover command format: " + line.subSequence(start, end).toString());
+      }
+      char repeated = line.charAt(countEnd);
+      if (repeated == '(') {
+        depth++;
+      } else if (repeated != 'L' && repeated != 'R' && repeated != 'M') {
+        throw new Exception(
+            "Invalid rover command format: " + line.subSequence(start, end).toString());
+      }
+      i = countEnd;
+    }
+    if (depth > 0) {
+      throw new Exception(
+          "Invalid rover command format: " + line.subSequence(start, end).toString());
+    }
+    return line.subSequence(start, end).toString();
+  }
+
+  /**
+   * Creates the rover described by the last scanned position line.
+   *
+   * @param plateau the plateau used to validate the rover position
+   * @return the new rover
+   * @throws Exception if the position is outside the plateau or the direction is unknown
+   */
+  IRover createRover(IPlateau plateau) throws Exception {
+    int x = parseInt(positionLine, xStart, xEnd);
+    int y = parseInt(positionLine, yStart, yEnd);
+
+    // Validate position
+    if (!plateau.isValidPosition(x, y)) {
+      throw new Exception(
+          "Invalid rover position: position ("
+              + x
+              + ","
+              + y
+              + ") is outside of plateau boundaries");
+    }
+
+    return new Rover(new Position(x, y), scanDirection());
+  }
+
+  /**
+   * Creates the rover with long coordinates described by the last scanned position line.
+   *
+   * @param plateau the plateau used to validate the rover position
+   * @return the new rover
+   * @throws Exception if the position is outside the plateau or the direction is unknown
+   */
+  WideRover createWideRover(IWidePlateau plateau) throws Exception {
+    long x = parseLong(positionLine, xStart, xEnd);
+    long y = parseLong(positionLine, yStart, yEnd);
+    if (!plateau.isValidPosition(x, y)) {
+      throw new Exception(
+          "Invalid rover position: position ("
+              + x
+              + ","
+              + y
+              + ") is outside of plateau boundaries");
+    }
+
+    return new WideRover(new WidePosition(x, y), scanDirection());
+  }
+
+  private IDirection scanDirection() throws Exception {
+    char directionValue = positionLine.charAt(positionEnd - 1);
+    IDirection direction = toDirection(directionValue);
+    if (direction == null) {
+      throw new Exception(
+          "Invalid direction: direction '"
+              + directionValue
+              + "' is not valid (must be one of N, E, S, W)");
+    }
+    return direction;
+  }
+
+  private String positionText() {
+    return positionLine.subSequence(positionStart, positionEnd).toString();
+  }
+
+  private static IDirection toDirection(char value) {
+    switch (value) {
+      case 'N':
+        return Direction.N;
+      case 'E':
+        return Direction.E;
+      case 'S':
+        return Direction.S;
+      case 'W':
+        return Direction.W;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Parses a run of ASCII digits, optionally preceded by a minus sign, with the same overflow
+   * behaviour as {@link Integer#parseInt(String)}.
+   */
+  private static int parseInt(CharSequence line, int start, int end) {
+    boolean negative = line.charAt(start) == '-';
+    long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+    long value = 0;
+    for (int i = negative ? start + 1 : start; i < end; i++) {
+      value = value * 10 + (line.charAt(i) - '0');
+      if (value > limit) {
+        throw new NumberFormatException(
+            "For input string: \"" + line.subSequence(start, end).toString() + "\"");
+      }
+    }
+    return (int) (negative ? -value : value);
+  }
+
+  /**
+   * Parses a run of ASCII digits, optionally preceded by a minus sign, with the same overflow
+   * behaviour as {@link Long#parseLong(String)}.
+   */
+  private static long parseLong(CharSequence line, int start, int end) {
+    boolean negative = line.charAt(start) == '-';
+    long value = 0;
+    for (int i = negative ? start + 1 : start; i < end; i++) {
+      int digit = line.charAt(i) - '0';
+      // Accumulate negatively, as Long.MIN_VALUE has no positive counterpart
+      if (value < (Long.MIN_VALUE + digit) / 10) {
+        throw new NumberFormatException(
+            "For input string: \"" + line.subSequence(start, end).toString() + "\"");
+      }
+      value = value * 10 - digit;
+    }
+    if (!negative && value == Long.MIN_VALUE) {
+      throw new NumberFormatException(
+          "For input string: \"" + line.subSequence(start, end).toString() + "\"");
+    }
+    return negative ? value : -value;
+  }
+
+  /** Returns the index after a run of at least one digit, or -1 if there is no digit at start. */
+  private static int scanDigits(CharSequence line, int start, int end) {
+    int i = start;
+    while (i < end && isDigit(line.charAt(i))) {
+      i++;
+    }
+    return i == start ? -1 : i;
+  }
+
+  private static boolean isRepeatCount(CharSequence line, int start, int end) {
+    long value = 0;
+    for (int i = start; i < end; i++) {
+      value = value * 10 + (line.charAt(i) - '0');
+      if (value > Integer.MAX_VALUE) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int skipMinus(CharSequence line, int start, int end) {
+    return start < end && line.charAt(start) == '-' ? start + 1 : start;
+  }
+
+  /** Returns the index after a run of regex whitespace ({@code \s}) starting at start. */
+  private static int skipWhitespace(CharSequence line, int start, int end) {
+    int i = start;
+    while (i < end && isWhitespace(line.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  /** Same boundaries as {@link String#trim()}. */
+  private static int trimStart(CharSequence line) {
+    int i = 0;
+    int length = line.length();
+    while (i < length && line.charAt(i) <= ' ') {
+      i++;
+    }
+    return i;
+  }
+
+  /** Same boundaries as {@link String#trim()}. */
+  private static int trimEnd(CharSequence line, int start) {
+    int i = line.length();
+    while (i > start && line.charAt(i - 1) <= ' ') {
+      i--;
+    }
+    return i;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+  }
+
+  /** Characters that the regex {@code .} does not match. */
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+}
@@ -0,0 +1,16 @@
+package com.nasa.rover.service.impl;
+
+import java.io.IOException;
+
+/** Source of the lines of a mission file, as consumed by {@link MissionLineScanner}. */
+@FunctionalInterface
+interface MissionLineSource {
+
+  /**
+   * Reads the next line, without its line terminator.
+   *
+   * @return the next line, or null at end of input
+   * @throws IOException if the underlying input cannot be read
+   */
+  CharSequence readLine() throws IOException;
+}
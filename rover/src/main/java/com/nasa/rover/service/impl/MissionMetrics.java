@@ -0,0 +1,247 @@
+package com.nasa.rover.service.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.nasa.rover.service.IMissionMetrics;
+
+/**
+ * Execution metrics shared by the services running missions. Every counter is a {@link LongAdder},
+ * so worker threads record concurrently without contending on a single memory location; reading a
+ * value sums the adder cells and is only exact once no mission is running.
+ */
+public class MissionMetrics implements IMissionMetrics {
+
+  /** Name under which the metrics are registered with the platform MBean server. */
+  public static final String OBJECT_NAME = "com.nasa.rover:type=MissionMetrics";
+
+  private final LongAdder missionsCompleted = new LongAdder();
+  private final LongAdder missionsFailed = new LongAdder();
+  private final LongAdder roversProcessed = new LongAdder();
+  private final LongAdder roversBlocked = new LongAdder();
+  private final LongAdder commandsExecuted = new LongAdder();
+  private final LongAdder turns = new LongAdder();
+  private final LongAdder movesBlocked = new LongAdder();
+  private final LongAdder parseTimeNanos = new LongAdder();
+  private final LongAdder executeTimeNanos = new LongAdder();
+  private final LongAdder outputTimeNanos = new LongAdder();
+  private final QueueDepth executeQueue = new QueueDepth();
+  private final QueueDepth outputQueue = new QueueDepth();
+
+  /**
+   * Registers the metrics with the platform MBean server under {@link #OBJECT_NAME}.
+   *
+   * @throws JMException if metrics are already registered under this name
+   */
+  public void register() throws JMException {
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+  }
+
+  /**
+   * Unregisters the metrics from the platform MBean server.
+   *
+   * @throws JMException if the metrics are not registered
+   */
+  public void unregister() throws JMException {
+    ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(OBJECT_NAME));
+  }
+
+  /**
+   * Records the commands executed for one rover.
+   *
+   * @param commands the number of commands
+   * @param turns the number of turn commands
+   * @param blockedMoves the number of move commands refused by the plateau
+   */
+  public void recordCommands(long commands, long turns, long blockedMoves) {
+    commandsExecuted.add(commands);
+    this.turns.add(turns);
+    if (blockedMoves > 0) {
+      movesBlocked.add(blockedMoves);
+      roversBlocked.increment();
+    }
+  }
+
+  /**
+   * Records the end of a mission.
+   *
+   * @param rovers the number of rovers whose report was written
+   * @param successful true if the mission completed
+   */
+  public void recordMission(long rovers, boolean successful) {
+    roversProcessed.add(rovers);
+    (successful ? missionsCompleted : missionsFailed).increment();
+  }
+
+  /**
+   * Records time spent reading and parsing a mission.
+   *
+   * @param nanos the elapsed time in nanoseconds
+   */
+  public void recordParseTime(long nanos) {
+    parseTimeNanos.add(nanos);
+  }
+
+  /**
+   * Records time spent executing rover commands.
+   *
+   * @param nanos the elapsed time in nanoseconds
+   */
+  public void recordExecuteTime(long nanos) {
+    executeTimeNanos.add(nanos);
+  }
+
+  /**
+   * Records time spent writing position reports.
+   *
+   * @param nanos the elapsed time in nanoseconds
+   */
+  public void recordOutputTime(long nanos) {
+    outputTimeNanos.add(nanos);
+  }
+
+  /**
+   * Records the depth of the queue of parsed batches waiting for a worker.
+   *
+   * @param depth the number of queued batches
+   */
+  public void recordExecuteQueueDepth(long depth) {
+    executeQueue.record(depth);
+  }
+
+  /**
+   * Records the depth of the queue of executed batches waiting for the writer.
+   *
+   * @param depth the number of queued batches
+   */
+  public void recordOutputQueueDepth(long depth) {
+    outputQueue.record(depth);
+  }
+
+  @Override
+  public long getMissionsCompleted() {
+    return missionsCompleted.sum();
+  }
+
+  @Override
+  public long getMissionsFailed() {
+    return missionsFailed.sum();
+  }
+
+  @Override
+  public long getRoversProcessed() {
+    return roversProcessed.sum();
+  }
+
+  @Override
+  public long getRoversBlocked() {
+    return roversBlocked.sum();
+  }
+
+  @Override
+  public long getCommandsExecuted() {
+    return commandsExecuted.sum();
+  }
+
+  @Override
+  public long getTurns() {
+    return turns.sum();
+  }
+
+  @Override
+  public long getMovesBlocked() {
+    return movesBlocked.sum();
+  }
+
+  @Override
+  public long getParseTimeNanos() {
+    return parseTimeNanos.sum();
+  }
+
+  @Override
+  public long getExecuteTimeNanos() {
+    return executeTimeNanos.sum();
+  }
+
+  @Override
+  public long getOutputTimeNanos() {
+    return outputTimeNanos.sum();
+  }
+
+  @Override
+  public long getExecuteQueueMaxDepth() {
+    return executeQueue.max.get();
+  }
+
+  @Override
+  public double getExecuteQueueMeanDepth() {
+    return executeQueue.mean();
+  }
+
+  @Override
+  public long getOutputQueueMaxDepth() {
+    return outputQueue.max.get();
+  }
+
+  @Override
+  public double getOutputQueueMeanDepth() {
+    return outputQueue.mean();
+  }
+
+  @Override
+  public String getSummary() {
+    return "missions completed: "
+        + getMissionsCompleted()
+        + "\nmissions failed: "
+        + getMissionsFailed()
+        + "\nrovers processed: "
+        + getRoversProcessed()
+        + "\nrovers blocked: "
+        + getRoversBlocked()
+        + "\ncommands executed: "
+        + getCommandsExecuted()
+        + "\nturns: "
+        + getTurns()
+        + "\nmoves blocked: "
+        + getMovesBlocked()
+        + "\nparse time: "
+        + TimeUnit.NANOSECONDS.toMillis(getParseTimeNanos())
+        + " ms\nexecute time: "
+        + TimeUnit.NANOSECONDS.toMillis(getExecuteTimeNanos())
+        + " ms\noutput time: "
+        + TimeUnit.NANOSECONDS.toMillis(getOutputTimeNanos())
+        + " ms\nexecute queue depth: "
+        + executeQueue
+        + "\noutput queue depth: "
+        + outputQueue;
+  }
+
+  /** Samples of the depth of one pipeline queue. */
+  private static final class QueueDepth {
+    final LongAdder samples = new LongAdder();
+    final LongAdder total = new LongAdder();
+    final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    void record(long depth) {
+      samples.increment();
+      total.add(depth);
+      max.accumulate(depth);
+    }
+
+    double mean() {
+      long count = samples.sum();
+      return count == 0 ? 0 : (double) total.sum() / count;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.ROOT, "%.1f mean, %d max", mean(), max.get());
+    }
+  }
+}
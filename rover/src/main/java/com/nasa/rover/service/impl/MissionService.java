@@ -1,22 +1,73 @@
 package com.nasa.rover.service.impl;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 
 import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IPosition;
+import com.nasa.rover.model.IRover;
 import com.nasa.rover.model.IRoverCommand;
+import com.nasa.rover.model.impl.CollisionAwarePlateau;
+import com.nasa.rover.model.impl.RecordingRover;
+import com.nasa.rover.model.impl.RoverCommand;
+import com.nasa.rover.model.impl.Trajectory;
 import com.nasa.rover.service.IInputFileService;
-import com.nasa.rover.service.IMissionService;
+import com.nasa.rover.service.IMissionSession;
 import com.nasa.rover.service.IRoverControlService;
+import com.nasa.rover.service.ITrajectoryMissionService;
 
 /**
  * Service that orchestrates a complete Mars Rover mission. Reads input files, processes commands,
- * and returns results.
+ * and streams results. Rovers are executed one after another, or in batches on an executor when one
+ * is provided; reports are always written in input order. In the latter case the mission runs as a
+ * pipeline: parsing, execution and output overlap, each on its own threads.
+ *
+ * <p>With collision detection enabled, each rover lands on the plateau when its turn comes and
+ * stays on its final cell afterwards, so later rovers stop in front of it. Rovers then depend on
+ * each other and are always executed sequentially.
+ *
+ * <p>Missions read from a file run on the terrain map found next to it, if any: the map of {@code
+ * survey.txt} is {@code survey.terrain}, and rovers can neither land on nor enter the cells it
+ * blocks.
+ *
+ * <p>A mission can also be opened as an {@link IMissionSession}, which keeps its rovers after the
+ * first execution so that commands sent later only cost their own execution.
+ *
+ * <p>When trajectories are requested, each rover is driven through a {@link RecordingRover} into a
+ * single {@link Trajectory} buffer that is written out and reset after every rover, so recording
+ * costs a few bytes of buffer per step whatever the number of rovers. Turns are recorded as the net
+ * rotation executed between two moves.
+ *
+ * <p>When metrics are provided, each mission adds its rover count, its outcome and the time spent
+ * parsing, executing and writing reports. Parse time is the time the mission thread spent outside
+ * of rovers; execute and output times are extrapolated from a sample of the rovers. Pipelined
+ * missions also record the depth of the queues feeding the workers and the writer.
  */
-public class MissionService implements IMissionService {
+public class MissionService implements ITrajectoryMissionService {
+
+  /** Number of rovers executed by a single task in parallel mode. */
+  public static final int DEFAULT_BATCH_SIZE = 1024;
 
   private final IInputFileService inputFileService;
   private final IRoverControlService roverControlService;
+  private final ExecutorService executor;
+  private final boolean detectCollisions;
+  private final int workerCount;
+  private final int queueCapacity;
+  private final MissionMetrics metrics;
 
   /**
    * Creates a new MissionService with the specified dependencies.
@@ -26,38 +77,545 @@ public class MissionService implements IMissionService {
    */
   public MissionService(
       IInputFileService inputFileService, IRoverControlService roverControlService) {
+    this(inputFileService, roverControlService, null);
+  }
+
+  /**
+   * Creates a new MissionService that executes rovers in parallel on the given executor. Rovers do
+   * not interact with each other, so batches of rovers can run on any thread; the control service
+   * must therefore be thread-safe. The executor is not shut down by this service.
+   *
+   * <p>Each mission submits one long-running worker per available processor, capped by the maximum
+   * pool size of a {@link ThreadPoolExecutor}, and the mission thread waits on them: the executor
+   * must run them alongside the mission thread rather than behind it. An executor shared with other
+   * work, for instance the missions of a batch, must keep that many threads free for every mission
+   * running at the same time, or the pipeline stalls once all threads wait for queued workers.
+   *
+   * @param inputFileService the service for processing input files
+   * @param roverControlService the thread-safe service for controlling rovers
+   * @param executor the executor running rover batches, or null to execute rovers sequentially
+   */
+  public MissionService(
+      IInputFileService inputFileService,
+      IRoverControlService roverControlService,
+      ExecutorService executor) {
+    this(inputFileService, roverControlService, executor, false);
+  }
+
+  /**
+   * Creates a new MissionService, optionally detecting collisions between rovers. When collisions
+   * are detected the executor is not used, as rovers must move one after another.
+   *
+   * @param inputFileService the service for processing input files
+   * @param roverControlService the service for controlling rovers
+   * @param executor the executor running rover batches, or null to execute rovers sequentially
+   * @param detectCollisions true to prevent rovers from moving onto a cell held by another rover
+   */
+  public MissionService(
+      IInputFileService inputFileService,
+      IRoverControlService roverControlService,
+      ExecutorService executor,
+      boolean detectCollisions) {
+    this(inputFileService, roverControlService, executor, detectCollisions, null);
+  }
+
+  /**
+   * Creates a new MissionService recording mission metrics. Command metrics are recorded by the
+   * control service, which should share the same metrics.
+   *
+   * @param inputFileService the service for processing input files
+   * @param roverControlService the service for controlling rovers
+   * @param executor the executor running rover batches, with a free thread per worker of each
+   *     concurrent mission (see {@link #MissionService(IInputFileService, IRoverControlService,
+   *     ExecutorService)}), or null to execute rovers sequentially
+   * @param detectCollisions true to prevent rovers from moving onto a cell held by another rover
+   * @param metrics the metrics receiving mission counts and timings, or null to record nothing
+   */
+  public MissionService(
+      IInputFileService inputFileService,
+      IRoverControlService roverControlService,
+      ExecutorService executor,
+      boolean detectCollisions,
+      MissionMetrics metrics) {
     this.inputFileService = inputFileService;
     this.roverControlService = roverControlService;
+    this.executor = executor;
+    this.detectCollisions = detectCollisions;
+    this.workerCount = workerCount(executor);
+    this.queueCapacity = 4 * workerCount;
+    this.metrics = metrics;
+  }
+
+  /** Sizes the pipeline workers from the processors and, when it is known, the pool size. */
+  private static int workerCount(ExecutorService executor) {
+    int processors = Runtime.getRuntime().availableProcessors();
+    if (executor instanceof ThreadPoolExecutor) {
+      return Math.max(
+          1, Math.min(processors, ((ThreadPoolExecutor) executor).getMaximumPoolSize()));
+    }
+    return processors;
   }
 
   @Override
   public String executeMission(String inputFilePath) throws Exception {
-    try {
-      // Read the plateau dimensions from the file
-      IPlateau plateau = inputFileService.readPlateauFromFile(inputFilePath);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    executeMission(inputFilePath, output);
+
+    // Drop the line feed terminating the last report
+    return new String(output.toByteArray(), 0, output.size() - 1, StandardCharsets.US_ASCII);
+  }
+
+  @Override
+  public void executeMission(String inputFilePath, OutputStream output) throws Exception {
+    execute(
+        handler -> inputFileService.readMission(inputFilePath, handler),
+        TerrainReader.terrainFile(inputFilePath),
+        output,
+        null);
+  }
+
+  @Override
+  public void executeMission(String inputFilePath, OutputStream output, OutputStream trajectories)
+      throws Exception {
+    execute(
+        handler -> inputFileService.readMission(inputFilePath, handler),
+        TerrainReader.terrainFile(inputFilePath),
+        output,
+        trajectories);
+  }
+
+  @Override
+  public void executeMission(InputStream input, OutputStream output) throws Exception {
+    execute(handler -> inputFileService.readMission(input, handler), null, output, null);
+  }
 
-      // Read rover commands from the file
-      List<IRoverCommand> roverCommands = inputFileService.readRoverCommandsFromFile(inputFilePath);
+  /**
+   * Opens a session on a mission file. The mission is executed once, sequentially, as {@link
+   * #executeMission(String, OutputStream)} would; its rovers are then kept with their final state
+   * so that commands sent later run from there. With collision detection enabled every rover stays
+   * on the plateau and blocks the others during later updates.
+   *
+   * @param inputFilePath path to the instruction file
+   * @return the session holding the rovers of the mission
+   * @throws Exception if the mission cannot be read or executed
+   */
+  public IMissionSession openSession(String inputFilePath) throws Exception {
+    return openSession(
+        handler -> inputFileService.readMission(inputFilePath, handler),
+        TerrainReader.terrainFile(inputFilePath));
+  }
 
-      if (roverCommands.isEmpty()) {
+  /**
+   * Opens a session on a mission read from a stream, as {@link #openSession(String)} does. The
+   * stream is not closed.
+   *
+   * @param input the stream holding the mission
+   * @return the session holding the rovers of the mission
+   * @throws Exception if the mission cannot be read or executed
+   */
+  public IMissionSession openSession(InputStream input) throws Exception {
+    return openSession(handler -> inputFileService.readMission(input, handler), null);
+  }
+
+  private IMissionSession openSession(MissionReader reader, Path terrainFile) throws Exception {
+    MissionPlateau missionPlateau = new MissionPlateau(terrainFile);
+    List<IRover> rovers = new ArrayList<>();
+    try {
+      reader.read(
+          (plateau, command) -> {
+            IRover rover = command.getRover();
+            roverControlService.executeCommands(
+                rover, command.getCommands(), missionPlateau.land(plateau, rover));
+            rovers.add(rover);
+          });
+      if (rovers.isEmpty()) {
         throw new Exception("No rover commands found in the input file");
       }
+    } catch (UncheckedIOException e) {
+      throw new Exception("No rover commands found in the input file", e.getCause());
+    } catch (Exception e) {
+      // Préserver l'exception d'origine comme cause
+      throw new Exception("No rover commands found in the input file", e);
+    }
+    return new MissionSession(missionPlateau.plateau, rovers, roverControlService);
+  }
 
-      // Execute commands for each rover
-      for (IRoverCommand command : roverCommands) {
-        roverControlService.executeCommands(command.getRover(), command.getCommands(), plateau);
+  private void execute(
+      MissionReader reader, Path terrainFile, OutputStream output, OutputStream trajectories)
+      throws Exception {
+    ReportWriter writer = new ReportWriter(output);
+    ExecutionTimes times = metrics == null ? null : new ExecutionTimes();
+    long start = metrics == null ? 0 : System.nanoTime();
+    boolean successful = false;
+    try {
+      // Read the file once, executing each rover as soon as it has been parsed
+      MissionPlateau missionPlateau = new MissionPlateau(terrainFile);
+      if (trajectories != null) {
+        TrajectoryRecording recording = new TrajectoryRecording(writer, trajectories, times);
+        reader.read(
+            (plateau, command) ->
+                recording.executeRover(missionPlateau.land(plateau, command.getRover()), command));
+        recording.flush();
+      } else if (executor == null || detectCollisions) {
+        reader.read(
+            (plateau, command) ->
+                executeRover(
+                    missionPlateau.land(plateau, command.getRover()), command, writer, times));
+      } else {
+        new MissionPipeline(writer, missionPlateau, times).run(reader);
       }
 
-      // Collect and format the final positions of all rovers
-      String result =
-          roverCommands.stream()
-              .map(command -> command.getRover().getPositionReport())
-              .collect(Collectors.joining("\n"));
+      if (writer.getReportCount() == 0) {
+        throw new Exception("No rover commands found in the input file");
+      }
 
-      return result;
+      long flushStart = metrics == null ? 0 : System.nanoTime();
+      writer.flush();
+      if (times != null) {
+        times.outputNanos += System.nanoTime() - flushStart;
+      }
+      successful = true;
+    } catch (UncheckedIOException e) {
+      throw new Exception("No rover commands found in the input file", e.getCause());
     } catch (Exception e) {
       // Préserver l'exception d'origine comme cause
       throw new Exception("No rover commands found in the input file", e);
+    } finally {
+      if (metrics != null) {
+        // Whatever this thread did not spend on rovers went into reading the mission
+        metrics.recordParseTime(System.nanoTime() - start - times.total());
+        times.addTo(metrics);
+        metrics.recordMission(writer.getReportCount(), successful);
+      }
+    }
+  }
+
+  /** Reads a mission, handing each parsed rover to a handler. */
+  @FunctionalInterface
+  private interface MissionReader {
+    void read(BiConsumer<IPlateau, IRoverCommand> handler) throws Exception;
+  }
+
+  /**
+   * Executes the commands of a rover and writes its position report.
+   *
+   * @param times the times of the calling thread to add to, or null if metrics are not recorded
+   */
+  private void executeRover(
+      IPlateau plateau, IRoverCommand command, ReportWriter writer, ExecutionTimes times) {
+    boolean timed = times != null && times.sampleRover();
+    long start = timed ? System.nanoTime() : 0;
+    roverControlService.executeCommands(command.getRover(), command.getCommands(), plateau);
+    long executed = timed ? System.nanoTime() : 0;
+    try {
+      writer.writeReport(command.getRover());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (timed) {
+      times.sampledExecuteNanos += executed - start;
+      times.sampledOutputNanos += System.nanoTime() - executed;
+    }
+  }
+
+  /**
+   * Times spent by one thread on a mission, accumulated in plain fields and added to the shared
+   * metrics once. Reading the clock costs more than executing a short rover, so only one rover in
+   * {@link #SAMPLE_INTERVAL} is timed and rover times are extrapolated from the sampled ones.
+   */
+  private static final class ExecutionTimes {
+    static final int SAMPLE_INTERVAL = 16;
+
+    long rovers;
+    long sampledRovers;
+    long sampledExecuteNanos;
+    long sampledOutputNanos;
+    // Output time measured outside of rovers: flushes and parallel batch reports
+    long outputNanos;
+    // Time spent waiting for worker threads in parallel mode
+    long waitNanos;
+
+    boolean sampleRover() {
+      if (rovers++ % SAMPLE_INTERVAL != 0) {
+        return false;
+      }
+      sampledRovers++;
+      return true;
+    }
+
+    long executeNanos() {
+      return extrapolate(sampledExecuteNanos);
+    }
+
+    long outputNanos() {
+      return extrapolate(sampledOutputNanos) + outputNanos;
+    }
+
+    long total() {
+      return executeNanos() + outputNanos() + waitNanos;
+    }
+
+    void addTo(MissionMetrics metrics) {
+      metrics.recordExecuteTime(executeNanos());
+      metrics.recordOutputTime(outputNanos());
+    }
+
+    private long extrapolate(long sampledNanos) {
+      return sampledRovers == 0 ? 0 : (long) ((double) sampledNanos * rovers / sampledRovers);
+    }
+  }
+
+  /**
+   * Records the trajectory of each rover of a mission into one reusable {@link Trajectory} and
+   * writes it to the trajectory log once the rover has finished.
+   */
+  private final class TrajectoryRecording {
+    private final ReportWriter reportWriter;
+    private final TrajectoryWriter trajectoryWriter;
+    private final Trajectory trajectory = new Trajectory();
+    private final ExecutionTimes times;
+
+    TrajectoryRecording(
+        ReportWriter reportWriter, OutputStream trajectories, ExecutionTimes times) {
+      this.reportWriter = reportWriter;
+      this.trajectoryWriter = new TrajectoryWriter(trajectories);
+      this.times = times;
+    }
+
+    void executeRover(IPlateau plateau, IRoverCommand command) {
+      IRover rover = command.getRover();
+      IPosition position = rover.getPosition();
+      trajectory.reset(position.getX(), position.getY(), rover.getDirection());
+      MissionService.this.executeRover(
+          plateau,
+          new RoverCommand(new RecordingRover(rover, trajectory), command.getCommands()),
+          reportWriter,
+          times);
+      try {
+        trajectoryWriter.write(trajectory);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    void flush() throws IOException {
+      trajectoryWriter.flush();
+    }
+  }
+
+  /**
+   * Executes the commands of a batch of rovers.
+   *
+   * @return the position reports of the batch, in batch order
+   */
+  private byte[] executeBatch(IPlateau plateau, List<IRoverCommand> batch) {
+    ByteArrayOutputStream reports = new ByteArrayOutputStream(batch.size() * 16);
+    ReportWriter writer = new ReportWriter(reports, batch.size() * 16);
+    ExecutionTimes times = metrics == null ? null : new ExecutionTimes();
+    for (IRoverCommand command : batch) {
+      executeRover(plateau, command, writer, times);
+    }
+    if (times != null) {
+      times.addTo(metrics);
+    }
+    try {
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return reports.toByteArray();
+  }
+
+  /**
+   * Plateau the rovers of one mission run on: the parsed plateau, with the terrain of the mission
+   * laid over it when there is one, wrapped in a {@link CollisionAwarePlateau} when collisions are
+   * detected.
+   */
+  private final class MissionPlateau {
+    private final MissionTerrain terrain;
+    private IPlateau ground;
+    private IPlateau plateau;
+
+    MissionPlateau(Path terrainFile) {
+      this.terrain = new MissionTerrain(terrainFile);
+    }
+
+    /**
+     * Lands a rover on the mission plateau.
+     *
+     * @return the plateau to execute the rover on
+     * @throws IllegalStateException if an obstacle or another rover already occupies the landing
+     *     cell
+     * @throws UncheckedIOException if the terrain of the mission cannot be read
+     */
+    IPlateau land(IPlateau parsedPlateau, IRover rover) {
+      IPosition position = rover.getPosition();
+      IPlateau landed;
+      try {
+        landed = terrain.land(parsedPlateau, position.getX(), position.getY());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      if (landed != ground) {
+        ground = landed;
+        plateau = detectCollisions ? new CollisionAwarePlateau(ground) : ground;
+      }
+      if (!plateau.landRover(position.getX(), position.getY())) {
+        throw new IllegalStateException(
+            "Invalid rover position: cell ("
+                + position.getX()
+                + ","
+                + position.getY()
+                + ") is already occupied by another rover");
+      }
+      return plateau;
+    }
+  }
+
+  /**
+   * Three-stage pipeline executing the rovers of a mission. The mission thread parses rovers into
+   * batches, workers running on the executor execute the batches, and a writer thread writes their
+   * reports in input order. Stages are linked by two {@link BatchRing}s, so each stage is held back
+   * when the next one falls behind and memory stays flat whatever the size of the mission, while
+   * reading, executing and writing proceed at the same time.
+   *
+   * <p>The first failure of any stage closes both rings, which stops the other stages, and is
+   * rethrown on the mission thread.
+   */
+  private final class MissionPipeline implements BiConsumer<IPlateau, IRoverCommand> {
+    private final ReportWriter writer;
+    private final MissionPlateau missionPlateau;
+    private final ExecutionTimes times;
+    private final ExecutionTimes writerTimes;
+    private final BatchRing<ParsedBatch> parsed = new BatchRing<>(queueCapacity);
+    private final BatchRing<ExecutedBatch> executed = new BatchRing<>(queueCapacity);
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private List<IRoverCommand> batch = new ArrayList<>(DEFAULT_BATCH_SIZE);
+    private IPlateau plateau;
+    private long sequence;
+
+    MissionPipeline(ReportWriter writer, MissionPlateau missionPlateau, ExecutionTimes times) {
+      this.writer = writer;
+      this.missionPlateau = missionPlateau;
+      this.times = times;
+      this.writerTimes = times == null ? null : new ExecutionTimes();
+    }
+
+    /**
+     * Runs the mission, parsing it on the calling thread.
+     *
+     * @throws Exception the first failure of any stage
+     */
+    void run(MissionReader reader) throws Exception {
+      Thread writerThread = new Thread(this::write, "mission-writer");
+      writerThread.setDaemon(true);
+      writerThread.start();
+      try {
+        for (int i = 0; i < workerCount; i++) {
+          executor.execute(this::work);
+        }
+        reader.read(this);
+        publish();
+        parsed.finish(sequence);
+        executed.finish(sequence);
+      } catch (Throwable e) {
+        fail(e);
+      }
+
+      long start = times == null ? 0 : System.nanoTime();
+      try {
+        writerThread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        fail(new CompletionException("Mission execution interrupted", e));
+      }
+      if (times != null) {
+        times.waitNanos += System.nanoTime() - start;
+        writerTimes.addTo(metrics);
+      }
+
+      Throwable cause = failure.get();
+      if (cause instanceof Exception) {
+        throw (Exception) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+    }
+
+    @Override
+    public void accept(IPlateau plateau, IRoverCommand command) {
+      this.plateau = missionPlateau.land(plateau, command.getRover());
+      batch.add(command);
+      if (batch.size() == DEFAULT_BATCH_SIZE) {
+        publish();
+      }
+    }
+
+    /** Hands the current batch to the workers, waiting while the parsed ring is full. */
+    private void publish() {
+      if (batch.isEmpty()) {
+        return;
+      }
+      long start = times == null ? 0 : System.nanoTime();
+      long depth = parsed.put(sequence++, new ParsedBatch(plateau, batch));
+      if (times != null) {
+        times.waitNanos += System.nanoTime() - start;
+        metrics.recordExecuteQueueDepth(depth);
+      }
+      batch = new ArrayList<>(DEFAULT_BATCH_SIZE);
+    }
+
+    /** Body of a worker: executes parsed batches until the end of the mission. */
+    private void work() {
+      try {
+        for (long next = claimed.getAndIncrement(); ; next = claimed.getAndIncrement()) {
+          ParsedBatch rovers = parsed.take(next);
+          if (rovers == null) {
+            return;
+          }
+          byte[] reports = executeBatch(rovers.plateau(), rovers.commands());
+          long depth = executed.put(next, new ExecutedBatch(reports, rovers.commands().size()));
+          if (metrics != null) {
+            metrics.recordOutputQueueDepth(depth);
+          }
+        }
+      } catch (Throwable e) {
+        fail(e);
+      }
+    }
+
+    /** Body of the writer thread: writes the reports of executed batches in input order. */
+    private void write() {
+      try {
+        for (long next = 0; ; next++) {
+          ExecutedBatch reports = executed.take(next);
+          if (reports == null) {
+            return;
+          }
+          long start = writerTimes == null ? 0 : System.nanoTime();
+          writer.writeReports(reports.reports(), reports.size());
+          if (writerTimes != null) {
+            writerTimes.outputNanos += System.nanoTime() - start;
+          }
+        }
+      } catch (Throwable e) {
+        fail(e);
+      }
+    }
+
+    /** Records the first failure and stops all the stages. */
+    private void fail(Throwable e) {
+      failure.compareAndSet(null, e);
+      parsed.close();
+      executed.close();
     }
   }
+
+  /** Rovers parsed into a batch, with the plateau they run on. */
+  private record ParsedBatch(IPlateau plateau, List<IRoverCommand> commands) {}
+
+  /** Reports of an executed batch, with the number of rovers in the batch. */
+  private record ExecutedBatch(byte[] reports, int size) {}
 }
@@ -0,0 +1,73 @@
+package com.nasa.rover.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IRover;
+import com.nasa.rover.service.IMissionSession;
+import com.nasa.rover.service.IRoverControlService;
+
+/**
+ * Mission session opened by {@link MissionService#openSession(String)}. Holds the rovers of the
+ * mission and the plateau they were executed on, with its terrain and, when collisions are
+ * detected, the cells held by the other rovers. Appending commands to a rover costs as much as
+ * executing those commands alone, whatever the length of its history.
+ *
+ * <p>Methods are synchronized: updates sent from several threads are executed one at a time, which
+ * also keeps the occupancy of a collision-aware plateau consistent.
+ */
+public class MissionSession implements IMissionSession {
+
+  private final IPlateau plateau;
+  private final List<IRover> rovers;
+  private final IRoverControlService roverControlService;
+
+  /**
+   * Creates a session over rovers that already executed their initial commands.
+   *
+   * @param plateau the plateau the rovers stand on
+   * @param rovers the rovers, in mission order; the list is owned by the session
+   * @param roverControlService the service executing appended commands
+   */
+  MissionSession(IPlateau plateau, List<IRover> rovers, IRoverControlService roverControlService) {
+    this.plateau = plateau;
+    this.rovers = rovers;
+    this.roverControlService = roverControlService;
+  }
+
+  @Override
+  public synchronized int getRoverCount() {
+    return rovers.size();
+  }
+
+  @Override
+  public synchronized String appendCommands(int roverId, String commands) {
+    IRover rover = rover(roverId);
+    // Commands are compiled before the first one runs, so invalid updates leave the rover intact
+    roverControlService.executeCommands(rover, commands, plateau);
+    return rover.getPositionReport();
+  }
+
+  @Override
+  public synchronized String getPositionReport(int roverId) {
+    return rover(roverId).getPositionReport();
+  }
+
+  @Override
+  public synchronized void writeReports(OutputStream output) throws IOException {
+    ReportWriter writer = new ReportWriter(output);
+    for (IRover rover : rovers) {
+      writer.writeReport(rover);
+    }
+    writer.flush();
+  }
+
+  private IRover rover(int roverId) {
+    if (roverId < 0 || roverId >= rovers.size()) {
+      throw new IllegalArgumentException("Unknown rover: " + roverId);
+    }
+    return rovers.get(roverId);
+  }
+}
@@ -0,0 +1,52 @@
+package com.nasa.rover.service.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.impl.ObstaclePlateau;
+
+/**
+ * Ground the rovers of one mission land on: the parsed plateau, with the terrain map of the mission
+ * laid over it when there is one. The map is read by {@link TerrainReader} once per parsed plateau,
+ * and every landing is checked against it, whichever service executes the mission.
+ */
+final class MissionTerrain {
+  private final Path terrainFile;
+  private IPlateau parsed;
+  private ObstaclePlateau terrain;
+  private IPlateau ground;
+
+  /**
+   * Creates the ground of a mission.
+   *
+   * @param terrainFile the terrain map of the mission, or null if it has none
+   */
+  MissionTerrain(Path terrainFile) {
+    this.terrainFile = terrainFile;
+  }
+
+  /**
+   * Lands a rover on the ground of a parsed plateau.
+   *
+   * @param parsedPlateau the plateau the rover was parsed with
+   * @param x the x coordinate of the landing cell
+   * @param y the y coordinate of the landing cell
+   * @return the plateau with the terrain laid over it, the same instance for every rover of the
+   *     parsed plateau
+   * @throws IOException if the terrain map cannot be read
+   * @throws IllegalStateException if an obstacle blocks the landing cell
+   */
+  IPlateau land(IPlateau parsedPlateau, int x, int y) throws IOException {
+    if (parsedPlateau != parsed) {
+      terrain = terrainFile == null ? null : TerrainReader.read(terrainFile, parsedPlateau);
+      ground = terrain == null ? parsedPlateau : terrain;
+      parsed = parsedPlateau;
+    }
+    if (terrain != null && terrain.isBlocked(x, y)) {
+      throw new IllegalStateException(
+          "Invalid rover position: cell (" + x + "," + y + ") is blocked by an obstacle");
+    }
+    return ground;
+  }
+}
@@ -0,0 +1,166 @@
+package com.nasa.rover.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Input stream reading its source ahead on a background thread. The source is read in chunks handed
+ * over through a bounded queue, so an expensive source such as a decompressor runs concurrently
+ * with the consumer, at most {@link #CHUNKS} chunks ahead of it. Chunk buffers are recycled.
+ *
+ * <p>Only one thread may read the stream. The source belongs to the background thread, which closes
+ * it on its way out: a decompressor must not be closed while a read is still running inside it.
+ * Closing the stream asks the background thread to stop and waits for it, so the source is closed
+ * when {@link #close()} returns.
+ */
+final class ReadAheadInputStream extends InputStream {
+
+  static final int CHUNK_SIZE = 1 << 16;
+  static final int CHUNKS = 4;
+
+  private static final Chunk END = new Chunk(new byte[0], 0, null);
+
+  private final InputStream source;
+  private final BlockingQueue<Chunk> filled = new ArrayBlockingQueue<>(CHUNKS + 1);
+  private final BlockingQueue<byte[]> free = new ArrayBlockingQueue<>(CHUNKS + 1);
+  private final Thread reader;
+
+  private Chunk current;
+  private int position;
+  private volatile boolean closed;
+  // Set by the background thread before it ends, read after joining it
+  private IOException closeError;
+
+  /**
+   * Starts reading a source ahead.
+   *
+   * @param source the stream to read on the background thread
+   */
+  ReadAheadInputStream(InputStream source) {
+    this.source = source;
+    for (int i = 0; i <= CHUNKS; i++) {
+      free.add(new byte[CHUNK_SIZE]);
+    }
+    reader = new Thread(this::readAhead, "mission-read-ahead");
+    reader.setDaemon(true);
+    reader.start();
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!nextChunk()) {
+      return -1;
+    }
+    return current.data[position++] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+    if (!nextChunk()) {
+      return -1;
+    }
+    int count = Math.min(length, current.length - position);
+    System.arraycopy(current.data, position, buffer, offset, count);
+    position += count;
+    return count;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    reader.interrupt();
+    boolean interrupted = false;
+    while (reader.isAlive()) {
+      try {
+        reader.join();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    if (closeError != null) {
+      throw closeError;
+    }
+  }
+
+  /** Makes sure the current chunk has unread bytes, returning false at end of stream. */
+  private boolean nextChunk() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+    while (current == null || position == current.length) {
+      if (current == END) {
+        return false;
+      }
+      if (current != null) {
+        free.add(current.data);
+      }
+      try {
+        current = filled.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for input");
+      }
+      position = 0;
+      if (current.error != null) {
+        IOException error = current.error;
+        current = END;
+        throw error;
+      }
+    }
+    return true;
+  }
+
+  /** Body of the background thread. */
+  private void readAhead() {
+    try (InputStream input = source) {
+      Chunk chunk;
+      do {
+        chunk = readChunk(input);
+        filled.put(chunk);
+      } while (chunk != END && chunk.error == null && !closed);
+    } catch (InterruptedException e) {
+      // Closed by the consumer
+    } catch (IOException e) {
+      closeError = e;
+    }
+  }
+
+  /** Reads the next chunk of the source, END at end of stream, or the read error. */
+  private Chunk readChunk(InputStream input) throws InterruptedException {
+    byte[] data = free.take();
+    try {
+      int length = input.readNBytes(data, 0, data.length);
+      return length == 0 ? END : new Chunk(data, length, null);
+    } catch (IOException e) {
+      return new Chunk(null, 0, e);
+    } catch (RuntimeException e) {
+      // Handed over as well, the consumer would otherwise wait forever for the next chunk
+      return new Chunk(null, 0, new IOException("Failed to read ahead", e));
+    }
+  }
+
+  /** Bytes read from the source, or the error that stopped the reading. */
+  private static final class Chunk {
+    final byte[] data;
+    final int length;
+    final IOException error;
+
+    Chunk(byte[] data, int length, IOException error) {
+      this.data = data;
+      this.length = length;
+      this.error = error;
+    }
+  }
+}
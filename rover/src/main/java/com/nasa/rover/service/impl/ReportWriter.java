@@ -0,0 +1,181 @@
+package com.nasa.rover.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.nasa.rover.model.IRover;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.Rover;
+import com.nasa.rover.model.impl.RoverFleet;
+import com.nasa.rover.model.impl.WideRover;
+
+/**
+ * Writes rover position reports to an output stream through a reusable byte buffer, one per line.
+ * The reports of the built-in rovers with the built-in directions are formatted straight into the
+ * buffer from their coordinates, so writing them allocates nothing. Any other rover may override
+ * its report, so the output of {@link IRover#getPositionReport()} is written as is, in UTF-8, which
+ * is ASCII for the built-in direction values.
+ */
+final class ReportWriter {
+
+  /** Size of the buffer used when none is given. */
+  static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+  // Sign and digits of the longest long, twice, plus two spaces and the line feed
+  private static final int MAX_COORDINATES_LENGTH = 2 * 20 + 3;
+
+  private final OutputStream output;
+  private final byte[] buffer;
+  private int count;
+  private long reportCount;
+
+  ReportWriter(OutputStream output) {
+    this(output, DEFAULT_BUFFER_SIZE);
+  }
+
+  ReportWriter(OutputStream output, int bufferSize) {
+    this.output = output;
+    this.buffer = new byte[Math.max(bufferSize, MAX_COORDINATES_LENGTH)];
+  }
+
+  /**
+   * Writes the report of a rover in the format "x y direction".
+   *
+   * @param rover the rover to report
+   * @throws IOException if the output cannot be written
+   */
+  void writeReport(IRover rover) throws IOException {
+    if (rover.getClass() == Rover.class && rover.getDirection() instanceof Direction) {
+      // Reads the coordinates in place, getPosition() returns a defensive copy
+      Rover builtIn = (Rover) rover;
+      writeReport(builtIn.getX(), builtIn.getY(), rover.getDirection().getValue());
+    } else {
+      writeText(rover.getPositionReport());
+    }
+  }
+
+  /**
+   * Writes the report of a rover of a fleet in the format "x y direction".
+   *
+   * @param fleet the fleet holding the rover
+   * @param rover the index of the rover in the fleet
+   * @throws IOException if the output cannot be written
+   */
+  void writeReport(RoverFleet fleet, int rover) throws IOException {
+    writeReport(fleet.getX(rover), fleet.getY(rover), fleet.getDirection(rover).getValue());
+  }
+
+  /**
+   * Writes the report of a rover with long coordinates in the format "x y direction".
+   *
+   * @param rover the rover to report
+   * @throws IOException if the output cannot be written
+   */
+  void writeReport(WideRover rover) throws IOException {
+    if (rover.getClass() == WideRover.class && rover.getDirection() instanceof Direction) {
+      writeReport(rover.getX(), rover.getY(), rover.getDirection().getValue());
+    } else {
+      writeText(rover.getPositionReport());
+    }
+  }
+
+  private void writeReport(long x, long y, String direction) throws IOException {
+    if (buffer.length - count < MAX_COORDINATES_LENGTH + direction.length()) {
+      flushBuffer();
+    }
+    writeLong(x);
+    buffer[count++] = ' ';
+    writeLong(y);
+    buffer[count++] = ' ';
+    for (int i = 0; i < direction.length(); i++) {
+      if (count == buffer.length) {
+        flushBuffer();
+      }
+      buffer[count++] = (byte) direction.charAt(i);
+    }
+    if (count == buffer.length) {
+      flushBuffer();
+    }
+    buffer[count++] = '\n';
+    reportCount++;
+  }
+
+  private void writeText(String report) throws IOException {
+    byte[] bytes = (report + '\n').getBytes(StandardCharsets.UTF_8);
+    writeReports(bytes, 1);
+  }
+
+  /**
+   * Writes reports already formatted by another writer.
+   *
+   * @param reports the formatted reports, each terminated by a line feed
+   * @param reportsCount the number of reports
+   * @throws IOException if the output cannot be written
+   */
+  void writeReports(byte[] reports, long reportsCount) throws IOException {
+    if (reports.length > buffer.length - count) {
+      flushBuffer();
+    }
+    if (reports.length > buffer.length) {
+      output.write(reports);
+    } else {
+      System.arraycopy(reports, 0, buffer, count, reports.length);
+      count += reports.length;
+    }
+    reportCount += reportsCount;
+  }
+
+  /**
+   * Gets the number of reports written so far.
+   *
+   * @return the number of reports
+   */
+  long getReportCount() {
+    return reportCount;
+  }
+
+  /**
+   * Writes the buffered reports and flushes the output.
+   *
+   * @throws IOException if the output cannot be written
+   */
+  void flush() throws IOException {
+    flushBuffer();
+    output.flush();
+  }
+
+  private void flushBuffer() throws IOException {
+    if (count > 0) {
+      output.write(buffer, 0, count);
+      count = 0;
+    }
+  }
+
+  /** Writes a coordinate; coordinates are never Long.MIN_VALUE, whose negation overflows. */
+  private void writeLong(long value) {
+    long remaining = value;
+    if (remaining < 0) {
+      buffer[count++] = '-';
+      remaining = -remaining;
+    }
+    int end = count + digits(remaining);
+    int index = end;
+    do {
+      buffer[--index] = (byte) ('0' + remaining % 10);
+      remaining /= 10;
+    } while (remaining != 0);
+    count = end;
+  }
+
+  private static int digits(long value) {
+    int digits = 1;
+    for (long bound = 10; value >= bound; bound *= 10) {
+      digits++;
+      if (bound > Long.MAX_VALUE / 10) {
+        break; // Nineteen digits, the next bound would overflow
+      }
+    }
+    return digits;
+  }
+}
@@ -7,29 +7,41 @@ import com.nasa.rover.service.IRoverControlService;
 /**
  * Implementation of the service that manages rover movements by executing commands. This service
  * interprets and executes L (turn left), R (turn right) and M (move forward) commands on a rover.
+ * Command strings are first compiled into a {@link CommandProgram}, so the cost of executing them
+ * grows with the number of straight segments rather than with the number of commands.
+ *
+ * <p>When metrics are provided, the commands, turns and moves refused by the plateau of every rover
+ * are added to them.
  */
 public class RoverControlService implements IRoverControlService {
 
+  private final MissionMetrics metrics;
+
+  /** Creates a new RoverControlService without metrics. */
+  public RoverControlService() {
+    this(null);
+  }
+
+  /**
+   * Creates a new RoverControlService recording command metrics.
+   *
+   * @param metrics the metrics receiving the command counts, or null to record nothing
+   */
+  public RoverControlService(MissionMetrics metrics) {
+    this.metrics = metrics;
+  }
+
   @Override
   public void executeCommands(IRover rover, String commands, IPlateau plateau) {
     if (commands == null || commands.isEmpty()) {
       return; // Nothing to do with empty commands
     }
 
-    for (char command : commands.toCharArray()) {
-      switch (command) {
-        case 'L':
-          rover.turnLeft();
-          break;
-        case 'R':
-          rover.turnRight();
-          break;
-        case 'M':
-          rover.moveForward(plateau);
-          break;
-        default:
-          throw new IllegalArgumentException("Invalid command: " + command);
-      }
+    // Turn runs and move runs are executed as whole segments
+    CommandProgram program = CommandProgram.compile(commands);
+    long blockedMoves = program.execute(rover, plateau);
+    if (metrics != null) {
+      metrics.recordCommands(program.getCommandCount(), program.getTurnCount(), blockedMoves);
     }
   }
 }
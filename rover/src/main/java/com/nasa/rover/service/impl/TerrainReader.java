@@ -0,0 +1,128 @@
+package com.nasa.rover.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.nasa.rover.model.IOccupancyIndex;
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.impl.ObstaclePlateau;
+
+/**
+ * Reads the terrain map of a mission: the cells of the plateau that rovers cannot enter. The map of
+ * {@code survey.txt} is the file {@code survey.terrain} in the same directory; missions without one
+ * run on the bare plateau.
+ *
+ * <p>Each line of a terrain map blocks either a single cell, given as {@code x y}, or a rectangle
+ * of cells, given as the coordinates of two opposite corners {@code x1 y1 x2 y2}. Blank lines and
+ * lines starting with {@code #} are ignored. The map is read twice: once to size the obstacle
+ * index, then to fill it, so no list of obstacles is held in memory besides the index.
+ */
+final class TerrainReader {
+
+  /** Extension of terrain maps. */
+  static final String TERRAIN_EXTENSION = ".terrain";
+
+  private TerrainReader() {}
+
+  /**
+   * Gets the terrain map of a mission file.
+   *
+   * @param missionFilePath path to the mission file
+   * @return the terrain map, or null if the mission has none
+   */
+  static Path terrainFile(String missionFilePath) {
+    Path mission = Path.of(missionFilePath);
+    Path fileName = mission.getFileName();
+    if (fileName == null) {
+      return null;
+    }
+    String name = fileName.toString();
+    int extension = name.lastIndexOf('.');
+    String terrainName = (extension > 0 ? name.substring(0, extension) : name) + TERRAIN_EXTENSION;
+    Path terrain = mission.resolveSibling(terrainName);
+    return Files.isRegularFile(terrain) ? terrain : null;
+  }
+
+  /**
+   * Reads a terrain map and lays it over a plateau.
+   *
+   * @param terrainFile path to the terrain map
+   * @param plateau the plateau the terrain belongs to
+   * @return the plateau with the cells of the map blocked
+   * @throws IOException if the map cannot be read, is malformed, or blocks cells outside of the
+   *     plateau
+   */
+  static ObstaclePlateau read(Path terrainFile, IPlateau plateau) throws IOException {
+    long[] cellCount = new long[1];
+    readAreas(
+        terrainFile,
+        plateau,
+        (fromX, fromY, toX, toY) ->
+            cellCount[0] += ((long) toX - fromX + 1) * ((long) toY - fromY + 1));
+
+    IOccupancyIndex obstacles = ObstaclePlateau.createIndex(plateau, cellCount[0]);
+    readAreas(
+        terrainFile,
+        plateau,
+        (fromX, fromY, toX, toY) -> {
+          for (int y = fromY; y <= toY; y++) {
+            for (int x = fromX; x <= toX; x++) {
+              obstacles.occupy(x, y);
+            }
+          }
+        });
+    return new ObstaclePlateau(plateau, obstacles);
+  }
+
+  /** Receives a rectangle of blocked cells, corners included. */
+  @FunctionalInterface
+  private interface AreaHandler {
+    void accept(int fromX, int fromY, int toX, int toY);
+  }
+
+  private static void readAreas(Path terrainFile, IPlateau plateau, AreaHandler handler)
+      throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(terrainFile, StandardCharsets.UTF_8)) {
+      String line;
+      for (int lineNumber = 1; (line = reader.readLine()) != null; lineNumber++) {
+        String trimmed = line.strip();
+        if (trimmed.isEmpty() || trimmed.charAt(0) == '#') {
+          continue;
+        }
+        int[] coordinates = parseCoordinates(trimmed, lineNumber);
+        int last = coordinates.length - 2;
+        int fromX = Math.min(coordinates[0], coordinates[last]);
+        int fromY = Math.min(coordinates[1], coordinates[last + 1]);
+        int toX = Math.max(coordinates[0], coordinates[last]);
+        int toY = Math.max(coordinates[1], coordinates[last + 1]);
+        if (!plateau.isValidPosition(fromX, fromY) || !plateau.isValidPosition(toX, toY)) {
+          throw new IOException(
+              "Invalid terrain line " + lineNumber + ": " + trimmed + " is outside of the plateau");
+        }
+        handler.accept(fromX, fromY, toX, toY);
+      }
+    }
+  }
+
+  private static int[] parseCoordinates(String line, int lineNumber) throws IOException {
+    String[] tokens = line.split("\\s+");
+    if (tokens.length != 2 && tokens.length != 4) {
+      throw new IOException(
+          "Invalid terrain line " + lineNumber + ": expected a cell or a rectangle, got " + line);
+    }
+    int[] coordinates = new int[tokens.length];
+    try {
+      for (int i = 0; i < tokens.length; i++) {
+        coordinates[i] = Integer.parseInt(tokens[i]);
+      }
+    } catch (NumberFormatException e) {
+      throw new IOException(
+          "Invalid terrain line " + lineNumber + ": expected a cell or a rectangle, got " + line,
+          e);
+    }
+    return coordinates;
+  }
+}
@@ -0,0 +1,398 @@
+package com.nasa.rover.service.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.nasa.rover.model.IOccupancyIndex;
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.impl.CollisionAwarePlateau;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.RoverFleet;
+import com.nasa.rover.service.IFleetCheckpoint;
+import com.nasa.rover.service.ITickSimulationService;
+
+/**
+ * Implementation of the service that moves all the rovers of a fleet at the same time, one command
+ * per rover and per tick. Rover state is copied out of the fleet into primitive arrays for the
+ * duration of the simulation, and the commands of each rover are decoded {@link #WINDOW_SIZE} at a
+ * time into a packed word, so a tick reads a few bytes per rover sequentially instead of one
+ * character from each of the command strings.
+ *
+ * <p>Occupancy is double-buffered: during a tick, rovers read the cells held at the start of the
+ * tick from the current grid and write the cell they end the tick on into the next grid, which
+ * becomes the current grid of the following tick. A rover only claims a cell free in the current
+ * grid, so the only conflicts are between rovers entering the same cell; a second claim on a cell
+ * of the next grid marks it as contested, and contested cells, which are rare, are handed to the
+ * lowest rover index once all the rovers have been processed. Grids are updated with atomic bit
+ * operations, and each rover clears its own cell of the current grid, so swapping the buffers costs
+ * nothing whatever the size of the plateau.
+ *
+ * <p>Checkpoints copy the state of the rovers back into the fleet between two ticks. A resumed
+ * simulation skips the commands of the ticks already done through its command cursors, which jump
+ * over whole runs and group repetitions.
+ *
+ * <p>When an executor is provided, each tick is processed as a data-parallel pass over chunks of
+ * rovers. Results do not depend on the number of threads.
+ *
+ * <p>When metrics are provided, the commands, turns and moves refused to every rover are added to
+ * them once the simulation completes, from the counts taken when its commands were compiled.
+ */
+public class TickSimulationService implements ITickSimulationService {
+
+  /** Smallest number of rovers handled by one task of a tick. */
+  public static final int MIN_CHUNK_SIZE = 1024;
+
+  /** Number of commands of a rover decoded in one go. */
+  static final int WINDOW_SIZE = 32;
+
+  // Two bit command codes of a window, zero meaning that no command is left
+  private static final int TURN_LEFT = 1;
+  private static final int TURN_RIGHT = 2;
+  private static final int MOVE = 3;
+
+  private static final int[] DELTA_X = new int[4];
+  private static final int[] DELTA_Y = new int[4];
+
+  static {
+    for (Direction direction : Direction.values()) {
+      DELTA_X[direction.ordinal()] = direction.getDeltaX();
+      DELTA_Y[direction.ordinal()] = direction.getDeltaY();
+    }
+  }
+
+  private final ExecutorService executor;
+  private final MissionMetrics metrics;
+
+  /** Creates a new TickSimulationService processing ticks on the calling thread. */
+  public TickSimulationService() {
+    this(null);
+  }
+
+  /**
+   * Creates a new TickSimulationService without metrics. The executor is not shut down by this
+   * service.
+   *
+   * @param executor the executor running the chunks of each tick, or null to process ticks on the
+   *     calling thread
+   */
+  public TickSimulationService(ExecutorService executor) {
+    this(executor, null);
+  }
+
+  /**
+   * Creates a new TickSimulationService recording command metrics. The executor is not shut down by
+   * this service.
+   *
+   * @param executor the executor running the chunks of each tick, or null to process ticks on the
+   *     calling thread
+   * @param metrics the metrics receiving the command counts, or null to record nothing
+   */
+  public TickSimulationService(ExecutorService executor, MissionMetrics metrics) {
+    this.executor = executor;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public long[] simulate(
+      RoverFleet fleet,
+      String[] commands,
+      IPlateau plateau,
+      long firstTick,
+      long checkpointInterval,
+      IFleetCheckpoint checkpoint) {
+    if (commands.length != fleet.size()) {
+      throw new IllegalArgumentException(
+          "Expected " + fleet.size() + " command strings, got " + commands.length);
+    }
+    if (firstTick < 0 || checkpointInterval < 0) {
+      throw new IllegalArgumentException("Tick counts cannot be negative");
+    }
+    Simulation simulation = new Simulation(fleet, commands, plateau, firstTick);
+    try {
+      simulation.run(checkpoint == null ? 0 : checkpointInterval, checkpoint);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (Exception e) {
+      throw new IllegalStateException("Simulation interrupted", e);
+    }
+    simulation.copyTo(fleet);
+    if (metrics != null) {
+      simulation.recordCommands(metrics);
+    }
+    return simulation.blockedMoves;
+  }
+
+  /** State of the rovers and of the tick in progress. */
+  private final class Simulation {
+    private final RoverFleet fleet;
+    private final IPlateau plateau;
+    private final long firstTick;
+    private final int size;
+    private final int[] xs;
+    private final int[] ys;
+    private final byte[] directions;
+    private final CommandCursor[] cursors;
+    private final long[] windows;
+    private final byte[] windowSizes;
+    private final long[] blockedMoves;
+    // Expanded command and turn counts of each rover, only kept for metrics
+    private final long[] commandCounts;
+    private final long[] turnCounts;
+    private long ticks;
+
+    private final int[] targetX;
+    private final int[] targetY;
+    private final boolean[] moving;
+
+    private IOccupancyIndex current;
+    private IOccupancyIndex next;
+    private final IOccupancyIndex contested;
+
+    Simulation(RoverFleet fleet, String[] commands, IPlateau plateau, long firstTick) {
+      this.fleet = fleet;
+      this.plateau = plateau;
+      this.firstTick = firstTick;
+      size = fleet.size();
+      xs = new int[size];
+      ys = new int[size];
+      directions = new byte[size];
+      cursors = new CommandCursor[size];
+      windows = new long[size];
+      windowSizes = new byte[size];
+      blockedMoves = new long[size];
+      commandCounts = metrics == null ? null : new long[size];
+      turnCounts = metrics == null ? null : new long[size];
+      targetX = new int[size];
+      targetY = new int[size];
+      moving = new boolean[size];
+      current = createIndex(plateau);
+      next = createIndex(plateau);
+      contested = createIndex(plateau);
+
+      for (int i = 0; i < size; i++) {
+        xs[i] = fleet.getX(i);
+        ys[i] = fleet.getY(i);
+        directions[i] = (byte) fleet.getDirectionOrdinal(i);
+        if (!plateau.isValidPosition(xs[i], ys[i])) {
+          throw new IllegalArgumentException(
+              "Invalid rover position: " + xs[i] + " " + ys[i] + " is outside of the plateau");
+        }
+        if (!current.occupy(xs[i], ys[i])) {
+          throw new IllegalArgumentException(
+              "Invalid rover position: cell ("
+                  + xs[i]
+                  + ","
+                  + ys[i]
+                  + ") is already occupied by another rover");
+        }
+        // Compiling validates the commands and gives their expanded length
+        CommandProgram program = CommandProgram.compile(commands[i]);
+        ticks = Math.max(ticks, program.getCommandCount());
+        if (commandCounts != null) {
+          commandCounts[i] = program.getCommandCount();
+          turnCounts[i] = program.getTurnCount();
+        }
+        cursors[i] = new CommandCursor(commands[i]);
+        // Resuming: the commands of the ticks already done are skipped without being decoded
+        cursors[i].skip(firstTick);
+      }
+      if (firstTick > ticks) {
+        throw new IllegalArgumentException(
+            "Cannot resume after tick " + firstTick + ", the simulation has " + ticks + " ticks");
+      }
+    }
+
+    void run(long checkpointInterval, IFleetCheckpoint checkpoint) throws Exception {
+      int chunkSize = chunkSize();
+      int chunkCount = (size + chunkSize - 1) / chunkSize;
+      List<Callable<Void>> planTasks = new ArrayList<>(chunkCount);
+      List<Callable<Void>> moveTasks = new ArrayList<>(chunkCount);
+      int[][] contestedRovers = new int[chunkCount][];
+      int[] contestedCounts = new int[chunkCount];
+      for (int chunk = 0; chunk < chunkCount; chunk++) {
+        int from = chunk * chunkSize;
+        int to = Math.min(size, from + chunkSize);
+        int index = chunk;
+        contestedRovers[chunk] = new int[to - from];
+        planTasks.add(
+            () -> {
+              plan(from, to);
+              return null;
+            });
+        moveTasks.add(
+            () -> {
+              contestedCounts[index] = move(from, to, contestedRovers[index]);
+              return null;
+            });
+      }
+
+      for (long tick = firstTick; tick < ticks; tick++) {
+        runAll(planTasks);
+        runAll(moveTasks);
+        // Chunks are in rover order, so the first claim seen on a contested cell wins it
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+          for (int k = 0; k < contestedCounts[chunk]; k++) {
+            resolve(contestedRovers[chunk][k]);
+          }
+        }
+
+        IOccupancyIndex swapped = current;
+        current = next;
+        next = swapped;
+
+        long done = tick + 1;
+        if (checkpointInterval > 0 && done % checkpointInterval == 0 && done < ticks) {
+          copyTo(fleet);
+          checkpoint.save(fleet, done, ticks);
+        }
+      }
+    }
+
+    void recordCommands(MissionMetrics metrics) {
+      for (int i = 0; i < size; i++) {
+        metrics.recordCommands(commandCounts[i], turnCounts[i], blockedMoves[i]);
+      }
+    }
+
+    void copyTo(RoverFleet fleet) {
+      for (int i = 0; i < size; i++) {
+        fleet.setPosition(i, xs[i], ys[i]);
+        fleet.setDirectionOrdinal(i, directions[i]);
+      }
+    }
+
+    /**
+     * First pass: executes turns, and claims the target cell of each move in the next grid. Rovers
+     * that do not move already hold their cell in the next grid, as no other rover can claim it.
+     */
+    private void plan(int from, int to) {
+      for (int i = from; i < to; i++) {
+        int command = nextCommand(i);
+        int x = xs[i];
+        int y = ys[i];
+        if (command == MOVE) {
+          int direction = directions[i];
+          int toX = x + DELTA_X[direction];
+          int toY = y + DELTA_Y[direction];
+          if (plateau.isValidPosition(toX, toY) && !current.isOccupied(toX, toY)) {
+            targetX[i] = toX;
+            targetY[i] = toY;
+            moving[i] = true;
+            if (!next.occupy(toX, toY)) {
+              contested.occupy(toX, toY);
+            }
+            continue;
+          }
+          blockedMoves[i]++;
+        } else if (command == TURN_LEFT) {
+          directions[i] = (byte) ((directions[i] + 3) & 3);
+        } else if (command == TURN_RIGHT) {
+          directions[i] = (byte) ((directions[i] + 1) & 3);
+        }
+        next.occupy(x, y);
+      }
+    }
+
+    /**
+     * Second pass: clears the current grid for reuse and moves the rovers holding an uncontested
+     * claim.
+     *
+     * @return the number of rovers stored in contestedRovers
+     */
+    private int move(int from, int to, int[] contestedRovers) {
+      int count = 0;
+      for (int i = from; i < to; i++) {
+        current.release(xs[i], ys[i]);
+        if (!moving[i]) {
+          continue;
+        }
+        if (contested.isOccupied(targetX[i], targetY[i])) {
+          contestedRovers[count++] = i;
+        } else {
+          xs[i] = targetX[i];
+          ys[i] = targetY[i];
+          moving[i] = false;
+        }
+      }
+      return count;
+    }
+
+    /** Gives a contested cell to its first claimant; later claimants stay where they are. */
+    private void resolve(int rover) {
+      moving[rover] = false;
+      if (contested.isOccupied(targetX[rover], targetY[rover])) {
+        contested.release(targetX[rover], targetY[rover]);
+        xs[rover] = targetX[rover];
+        ys[rover] = targetY[rover];
+      } else {
+        blockedMoves[rover]++;
+        next.occupy(xs[rover], ys[rover]);
+      }
+    }
+
+    private int nextCommand(int rover) {
+      if (windowSizes[rover] == 0) {
+        fillWindow(rover);
+      }
+      long window = windows[rover];
+      windows[rover] = window >>> 2;
+      windowSizes[rover]--;
+      return (int) window & 3;
+    }
+
+    private void fillWindow(int rover) {
+      long window = 0;
+      CommandCursor cursor = cursors[rover];
+      for (int slot = 0; cursor != null && slot < WINDOW_SIZE; slot++) {
+        char command = cursor.next();
+        if (command == 0) {
+          cursors[rover] = null; // Exhausted, the next windows hold no command
+          break;
+        }
+        int code = command == 'M' ? MOVE : command == 'L' ? TURN_LEFT : TURN_RIGHT;
+        window |= (long) code << (2 * slot);
+      }
+      windows[rover] = window;
+      windowSizes[rover] = WINDOW_SIZE;
+    }
+
+    private IOccupancyIndex createIndex(IPlateau plateau) {
+      return executor == null
+          ? CollisionAwarePlateau.createIndex(plateau)
+          : CollisionAwarePlateau.createConcurrentIndex(plateau);
+    }
+
+    private int chunkSize() {
+      if (executor == null) {
+        return Math.max(size, 1);
+      }
+      int tasks = 4 * Runtime.getRuntime().availableProcessors();
+      return Math.max(MIN_CHUNK_SIZE, (size + tasks - 1) / tasks);
+    }
+
+    private void runAll(List<Callable<Void>> tasks) throws Exception {
+      if (tasks.size() == 1) {
+        tasks.get(0).call();
+        return;
+      }
+      try {
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+          future.get();
+        }
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof Exception) {
+          throw (Exception) e.getCause();
+        }
+        throw e;
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.nasa.rover.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.nasa.rover.model.ITrajectory;
+
+/**
+ * Exports trajectory logs as comma-separated values for analysis tools. Each rover contributes one
+ * row for its starting state followed by one row per step, under the header {@value #HEADER}. The
+ * command column holds L, R, M, or B for a move refused by the plateau, and is empty on the
+ * starting row.
+ */
+public class TrajectoryExporter {
+
+  /** Header line of the exported file. */
+  public static final String HEADER = "rover,step,command,x,y,direction";
+
+  private static final char[] STEPS = {'L', 'R', 'M', 'B'};
+
+  /**
+   * Exports a trajectory log file.
+   *
+   * @param trajectoryFilePath path to the trajectory log
+   * @param csvFilePath path to the file to write
+   * @return the number of rovers exported
+   * @throws IOException if a file cannot be read or written, or the log is malformed
+   */
+  public long toCsv(String trajectoryFilePath, String csvFilePath) throws IOException {
+    try (InputStream input = Files.newInputStream(Path.of(trajectoryFilePath));
+        Writer output = Files.newBufferedWriter(Path.of(csvFilePath), StandardCharsets.UTF_8)) {
+      return toCsv(input, output);
+    }
+  }
+
+  /**
+   * Exports a trajectory log. Neither the stream nor the writer is closed.
+   *
+   * @param input the stream holding the trajectory log
+   * @param output the writer receiving the rows
+   * @return the number of rovers exported
+   * @throws IOException if the log cannot be read or is malformed, or the output cannot be written
+   */
+  public long toCsv(InputStream input, Writer output) throws IOException {
+    TrajectoryReader reader = new TrajectoryReader(input);
+    BufferedWriter writer =
+        output instanceof BufferedWriter ? (BufferedWriter) output : new BufferedWriter(output);
+    writer.write(HEADER);
+    writer.write('\n');
+
+    long rovers = 0;
+    while (reader.nextRover()) {
+      writeRow(writer, reader);
+      while (reader.nextStep()) {
+        writeRow(writer, reader);
+      }
+      rovers++;
+    }
+    writer.flush();
+    return rovers;
+  }
+
+  private static void writeRow(Writer writer, TrajectoryReader reader) throws IOException {
+    writer.write(Long.toString(reader.getRoverIndex()));
+    writer.write(',');
+    writer.write(Long.toString(reader.getStepIndex()));
+    writer.write(',');
+    if (reader.getStep() >= ITrajectory.TURN_LEFT) {
+      writer.write(STEPS[reader.getStep()]);
+    }
+    writer.write(',');
+    writer.write(Integer.toString(reader.getX()));
+    writer.write(',');
+    writer.write(Integer.toString(reader.getY()));
+    writer.write(',');
+    writer.write(reader.getDirection().getValue());
+    writer.write('\n');
+  }
+}
@@ -0,0 +1,244 @@
+package com.nasa.rover.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.nasa.rover.model.ITrajectory;
+import com.nasa.rover.model.impl.Direction;
+
+/**
+ * Replays a trajectory log written during a mission. The reader is a cursor: {@link #nextRover()}
+ * moves to the starting state of the next rover and {@link #nextStep()} applies its steps one by
+ * one, so the getters always describe the current state. No object is allocated per rover or per
+ * step. A reader must not be shared between threads.
+ *
+ * <pre>{@code
+ * TrajectoryReader reader = new TrajectoryReader(input);
+ * while (reader.nextRover()) {
+ *   while (reader.nextStep()) {
+ *     plot(reader.getRoverIndex(), reader.getX(), reader.getY());
+ *   }
+ * }
+ * }</pre>
+ */
+public final class TrajectoryReader {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final InputStream input;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position;
+  private int limit;
+  private boolean headerRead;
+
+  private long roverIndex = -1;
+  private long stepCount;
+  private long stepIndex;
+  private int packed;
+  private int step = -1;
+  private int x;
+  private int y;
+  private int direction;
+
+  /**
+   * Creates a reader over an input stream. The stream is not closed by the reader.
+   *
+   * @param input the stream holding the trajectory log
+   */
+  public TrajectoryReader(InputStream input) {
+    this.input = input;
+  }
+
+  /**
+   * Moves to the next rover of the log, skipping the steps of the current one that were not read.
+   *
+   * @return true if a rover was read, false at the end of the log
+   * @throws IOException if the log cannot be read or is malformed
+   */
+  public boolean nextRover() throws IOException {
+    if (!headerRead) {
+      readHeader();
+    }
+    skipSteps();
+    if (position == limit && !fill()) {
+      return false;
+    }
+
+    x = readInt();
+    y = readInt();
+    direction = readByte();
+    if (direction >= DIRECTIONS.length) {
+      throw new IOException("Invalid direction ordinal: " + direction);
+    }
+    stepCount = readVarint();
+    stepIndex = 0;
+    step = -1;
+    roverIndex++;
+    return true;
+  }
+
+  /**
+   * Applies the next step of the current rover.
+   *
+   * @return true if a step was applied, false after the last step of the rover
+   * @throws IOException if the log cannot be read or is truncated
+   */
+  public boolean nextStep() throws IOException {
+    if (stepIndex == stepCount) {
+      return false;
+    }
+    int slot = (int) (stepIndex % 4);
+    if (slot == 0) {
+      packed = readByte();
+    }
+    step = (packed >>> (2 * slot)) & 3;
+    stepIndex++;
+
+    switch (step) {
+      case ITrajectory.TURN_LEFT:
+        direction = (direction + 3) & 3;
+        break;
+      case ITrajectory.TURN_RIGHT:
+        direction = (direction + 1) & 3;
+        break;
+      case ITrajectory.MOVE:
+        x += DIRECTIONS[direction].getDeltaX();
+        y += DIRECTIONS[direction].getDeltaY();
+        break;
+      default:
+        break;
+    }
+    return true;
+  }
+
+  /**
+   * Gets the index of the current rover in mission order.
+   *
+   * @return the rover index, starting at 0
+   */
+  public long getRoverIndex() {
+    return roverIndex;
+  }
+
+  /**
+   * Gets the number of steps recorded for the current rover.
+   *
+   * @return the number of steps
+   */
+  public long getStepCount() {
+    return stepCount;
+  }
+
+  /**
+   * Gets the number of steps of the current rover applied so far.
+   *
+   * @return the number of applied steps, 0 at the starting state
+   */
+  public long getStepIndex() {
+    return stepIndex;
+  }
+
+  /**
+   * Gets the last applied step.
+   *
+   * @return the step code from {@link ITrajectory}, or -1 at the starting state
+   */
+  public int getStep() {
+    return step;
+  }
+
+  /**
+   * Gets the current x coordinate.
+   *
+   * @return the x coordinate
+   */
+  public int getX() {
+    return x;
+  }
+
+  /**
+   * Gets the current y coordinate.
+   *
+   * @return the y coordinate
+   */
+  public int getY() {
+    return y;
+  }
+
+  /**
+   * Gets the current direction.
+   *
+   * @return the direction
+   */
+  public Direction getDirection() {
+    return DIRECTIONS[direction];
+  }
+
+  private void readHeader() throws IOException {
+    if (!fill()) {
+      throw new IOException("Trajectory log is empty");
+    }
+    for (byte b : TrajectoryWriter.MAGIC) {
+      if (readByte() != (b & 0xff)) {
+        throw new IOException("Not a trajectory log");
+      }
+    }
+    int version = readByte();
+    if (version != TrajectoryWriter.VERSION) {
+      throw new IOException("Unsupported trajectory log version: " + version);
+    }
+    headerRead = true;
+  }
+
+  private void skipSteps() throws IOException {
+    // Steps of the current byte are already consumed
+    long remainingBytes = (stepCount + 3) / 4 - (stepIndex + 3) / 4;
+    while (remainingBytes > 0) {
+      if (position == limit && !fill()) {
+        throw new IOException("Truncated trajectory log");
+      }
+      int skipped = (int) Math.min(remainingBytes, limit - position);
+      position += skipped;
+      remainingBytes -= skipped;
+    }
+    stepIndex = stepCount;
+  }
+
+  private int readInt() throws IOException {
+    long value = readVarint();
+    if (value > Integer.MAX_VALUE) {
+      throw new IOException("Malformed trajectory log: coordinate out of range");
+    }
+    return (int) value;
+  }
+
+  private long readVarint() throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = readByte();
+      value |= (long) (b & 0x7f) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed trajectory log: varint too long");
+  }
+
+  private int readByte() throws IOException {
+    if (position == limit && !fill()) {
+      throw new IOException("Truncated trajectory log");
+    }
+    return buffer[position++] & 0xff;
+  }
+
+  private boolean fill() throws IOException {
+    int read = input.read(buffer, 0, buffer.length);
+    if (read <= 0) {
+      return false;
+    }
+    position = 0;
+    limit = read;
+    return true;
+  }
+}
@@ -0,0 +1,121 @@
+package com.nasa.rover.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.Trajectory;
+
+/**
+ * Writes trajectory logs through a reusable byte buffer. A log starts with the {@link #MAGIC} bytes
+ * and a version byte; each rover then takes its starting x and y coordinates as unsigned LEB128
+ * varints, one byte holding the starting {@link Direction} ordinal, the number of steps as a varint
+ * and the steps packed four per byte as recorded by {@link Trajectory}. Rovers are written in
+ * mission order.
+ */
+final class TrajectoryWriter {
+
+  /** Leading bytes identifying a trajectory log. */
+  static final byte[] MAGIC = {'R', 'O', 'V', 'T'};
+
+  /** Version of the format written by this writer. */
+  static final int VERSION = 1;
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  // Longest varint of a long
+  private static final int MAX_VARINT_LENGTH = 10;
+
+  private final OutputStream output;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int count;
+  private boolean headerWritten;
+
+  /**
+   * Creates a writer over an output stream. The stream is not closed by the writer.
+   *
+   * @param output the stream receiving the trajectory log
+   */
+  TrajectoryWriter(OutputStream output) {
+    this.output = output;
+  }
+
+  /**
+   * Writes the trajectory of the next rover, preceded by the log header for the first one.
+   *
+   * @param trajectory the recorded trajectory
+   * @throws IOException if the output cannot be written
+   * @throws IllegalArgumentException if the starting position is negative
+   */
+  void write(Trajectory trajectory) throws IOException {
+    if (!headerWritten) {
+      writeHeader();
+    }
+    writeVarint(trajectory.getStartX());
+    writeVarint(trajectory.getStartY());
+    writeByte(Direction.fromValue(trajectory.getStartDirection().getValue()).ordinal());
+    writeVarint(trajectory.getStepCount());
+
+    ByteBuffer steps = trajectory.getPackedSteps();
+    while (steps.hasRemaining()) {
+      if (count == buffer.length) {
+        flushBuffer();
+      }
+      int length = Math.min(steps.remaining(), buffer.length - count);
+      steps.get(buffer, count, length);
+      count += length;
+    }
+  }
+
+  /**
+   * Writes the log header if no trajectory was written, then the buffered bytes, and flushes the
+   * output.
+   *
+   * @throws IOException if the output cannot be written
+   */
+  void flush() throws IOException {
+    if (!headerWritten) {
+      writeHeader();
+    }
+    flushBuffer();
+    output.flush();
+  }
+
+  private void writeHeader() throws IOException {
+    for (byte b : MAGIC) {
+      writeByte(b);
+    }
+    writeByte(VERSION);
+    headerWritten = true;
+  }
+
+  private void writeVarint(long value) throws IOException {
+    if (value < 0) {
+      throw new IllegalArgumentException("Negative value cannot be encoded: " + value);
+    }
+    if (buffer.length - count < MAX_VARINT_LENGTH) {
+      flushBuffer();
+    }
+    long remaining = value;
+    while (remaining >= 0x80) {
+      buffer[count++] = (byte) (remaining | 0x80);
+      remaining >>>= 7;
+    }
+    buffer[count++] = (byte) remaining;
+  }
+
+  private void writeByte(int value) throws IOException {
+    if (count == buffer.length) {
+      flushBuffer();
+    }
+    buffer[count++] = (byte) value;
+  }
+
+  private void flushBuffer() throws IOException {
+    if (count > 0) {
+      output.write(buffer, 0, count);
+      count = 0;
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.nasa.rover.service.impl;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import com.nasa.rover.model.IWidePlateau;
+import com.nasa.rover.model.impl.WideRover;
+import com.nasa.rover.service.IMissionService;
+
+/**
+ * Service executing missions on plateaus whose coordinates do not fit in an int, up to {@link
+ * com.nasa.rover.model.impl.WidePlateau#MAX_DIMENSION} per side. Missions use the text format,
+ * plain or gzip compressed, with the same validation and error messages as other missions; each
+ * rover is a {@link WideRover} executed as soon as it has been parsed, and its report streamed in
+ * input order. Runs and groups are fast-forwarded as on int plateaus.
+ *
+ * <p>Rovers are executed sequentially and do not interact with each other. Trajectories are not
+ * recorded in wide missions, and a mission file with a {@link TerrainReader terrain map} next to it
+ * is refused before any rover is executed.
+ */
+public class WideMissionService implements IMissionService {
+
+  private final MissionMetrics metrics;
+
+  /** Creates a new WideMissionService without metrics. */
+  public WideMissionService() {
+    this(null);
+  }
+
+  /**
+   * Creates a new WideMissionService recording mission metrics.
+   *
+   * @param metrics the metrics receiving mission counts and timings, or null to record nothing
+   */
+  public WideMissionService(MissionMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public String executeMission(String inputFilePath) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    executeMission(inputFilePath, output);
+
+    // Drop the line feed terminating the last report
+    return new String(output.toByteArray(), 0, output.size() - 1, StandardCharsets.US_ASCII);
+  }
+
+  @Override
+  public void executeMission(String inputFilePath, OutputStream output) throws Exception {
+    Path terrainFile = TerrainReader.terrainFile(inputFilePath);
+    if (terrainFile != null) {
+      // Rovers would drive through the obstacles of the map rather than stop in front of them
+      throw new Exception("Terrain maps are not supported in wide missions: " + terrainFile);
+    }
+    execute(() -> CompressedInputs.open(inputFilePath), output);
+  }
+
+  @Override
+  public void executeMission(InputStream input, OutputStream output) throws Exception {
+    // Closing the reader leaves the caller's stream open
+    execute(() -> CompressedInputs.decompressBorrowed(input), output);
+  }
+
+  private void execute(MissionInput input, OutputStream output) throws Exception {
+    ReportWriter writer = new ReportWriter(output);
+    long start = System.nanoTime();
+    long[] executeNanos = new long[1];
+    boolean successful = false;
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(input.open(), StandardCharsets.UTF_8))) {
+      MissionLineScanner scanner = new MissionLineScanner();
+      IWidePlateau plateau = scanner.scanWidePlateau(reader.readLine());
+      scanner.scanWideRovers(
+          reader::readLine,
+          plateau,
+          (rover, commands) -> {
+            long executeStart = metrics == null ? 0 : System.nanoTime();
+            executeRover(rover, commands, plateau);
+            if (metrics != null) {
+              executeNanos[0] += System.nanoTime() - executeStart;
+            }
+            try {
+              writer.writeReport(rover);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+      writer.flush();
+      successful = true;
+    } catch (UncheckedIOException e) {
+      throw new Exception("No rover commands found in the input file", e.getCause());
+    } catch (Exception e) {
+      // Préserver l'exception d'origine comme cause
+      throw new Exception("No rover commands found in the input file", e);
+    } finally {
+      if (metrics != null) {
+        // Reports are formatted straight into the buffer, so output is counted with parsing
+        metrics.recordParseTime(System.nanoTime() - start - executeNanos[0]);
+        metrics.recordExecuteTime(executeNanos[0]);
+        metrics.recordMission(writer.getReportCount(), successful);
+      }
+    }
+  }
+
+  /** Opens the text of a mission. */
+  @FunctionalInterface
+  private interface MissionInput {
+    InputStream open() throws IOException;
+  }
+
+  private void executeRover(WideRover rover, String commands, IWidePlateau plateau) {
+    CommandProgram program = CommandProgram.compile(commands);
+    long blockedMoves = program.execute(rover, plateau);
+    if (metrics != null) {
+      metrics.recordCommands(program.getCommandCount(), program.getTurnCount(), blockedMoves);
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package com.nasa.rover;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for the command line options of the ApplicationRunner. */
+public class ApplicationRunnerTest {
+
+  @TempDir Path tempDir;
+
+  private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream errContent = new ByteArrayOutputStream();
+  private final PrintStream originalOut = System.out;
+  private final PrintStream originalErr = System.err;
+
+  @BeforeEach
+  public void setUp() {
+    System.setOut(new PrintStream(outContent, true, StandardCharsets.UTF_8));
+    System.setErr(new PrintStream(errContent, true, StandardCharsets.UTF_8));
+  }
+
+  @AfterEach
+  public void restoreStreams() {
+    System.setOut(originalOut);
+    System.setErr(originalErr);
+  }
+
+  @Test
+  public void testTrajectoriesRecordedBySequentialMissions() throws Exception {
+    // Given
+    Path mission = tempDir.resolve("input.txt");
+    Files.writeString(mission, "5 5\n1 2 N\nLMLMLMLMM\n");
+    Path trajectories = tempDir.resolve("input.rovt");
+
+    // When
+    int exitCode =
+        new ApplicationRunner()
+            .run(new String[] {"--trajectories", trajectories.toString(), mission.toString()});
+
+    // Then
+    assertEquals(RoverApplication.EXIT_CODE_SUCCESS, exitCode);
+    assertEquals("1 3 N\n", outContent.toString(StandardCharsets.UTF_8));
+    assertTrue(Files.size(trajectories) > 0);
+  }
+
+  @Test
+  public void testTrajectoriesRejectedInLockstepMissions() throws Exception {
+    // Given
+    Path mission = tempDir.resolve("input.txt");
+    Files.writeString(mission, "5 5\n1 2 N\nLMLMLMLMM\n");
+    Path trajectories = tempDir.resolve("input.rovt");
+
+    // When
+    int exitCode =
+        new ApplicationRunner()
+            .run(
+                new String[] {
+                  "--lockstep", "--trajectories", trajectories.toString(), mission.toString()
+                });
+
+    // Then - the usage is printed before the trajectory file is opened
+    assertEquals(RoverApplication.EXIT_CODE_ERROR, exitCode);
+    assertTrue(errContent.toString(StandardCharsets.UTF_8).startsWith("Usage:"));
+    assertFalse(Files.exists(trajectories));
+  }
+
+  @Test
+  public void testTrajectoriesRejectedInWideMissions() throws Exception {
+    // Given
+    Path mission = tempDir.resolve("input.txt");
+    Files.writeString(mission, "5000000000 5\n1 2 N\nM\n");
+    Path trajectories = tempDir.resolve("input.rovt");
+
+    // When
+    int exitCode =
+        new ApplicationRunner()
+            .run(
+                new String[] {
+                  "--wide", "--trajectories", trajectories.toString(), mission.toString()
+                });
+
+    // Then
+    assertEquals(RoverApplication.EXIT_CODE_ERROR, exitCode);
+    assertTrue(errContent.toString(StandardCharsets.UTF_8).startsWith("Usage:"));
+    assertEquals("", outContent.toString(StandardCharsets.UTF_8));
+    assertFalse(Files.exists(trajectories));
+  }
+
+  @Test
+  public void testTerrainMapsRejectedInWideMissions() throws Exception {
+    // Given - an obstacle in front of the rover
+    Path mission = tempDir.resolve("survey.txt");
+    Files.writeString(mission, "5000000000 5\n1 2 N\nM\n");
+    Files.writeString(tempDir.resolve("survey.terrain"), "1 3\n");
+
+    // When
+    int exitCode = new ApplicationRunner().run(new String[] {"--wide", mission.toString()});
+
+    // Then - the map is reported instead of being driven through
+    assertEquals(RoverApplication.EXIT_CODE_ERROR, exitCode);
+    assertTrue(
+        errContent
+            .toString(StandardCharsets.UTF_8)
+            .contains("Terrain maps are not supported in wide missions"));
+    assertEquals("", outContent.toString(StandardCharsets.UTF_8));
+  }
+}
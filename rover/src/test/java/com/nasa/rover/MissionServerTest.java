@@ -0,0 +1,104 @@
+package com.nasa.rover;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nasa.rover.service.impl.InputFileService;
+import com.nasa.rover.service.impl.MissionService;
+import com.nasa.rover.service.impl.RoverControlService;
+
+/** Tests for the MissionServer HTTP endpoint. */
+public class MissionServerTest {
+
+  private MissionServer server;
+  private HttpClient client;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    server =
+        new MissionServer(
+            new MissionService(new InputFileService(), new RoverControlService()),
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+            2);
+    server.start();
+    client = HttpClient.newHttpClient();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    server.close();
+  }
+
+  @Test
+  public void testPostMissionReturnsReports() throws Exception {
+    // When
+    HttpResponse<String> response =
+        send(
+            HttpRequest.newBuilder(uri(MissionServer.MISSION_PATH))
+                .POST(
+                    HttpRequest.BodyPublishers.ofString("5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM"))
+                .build());
+
+    // Then
+    assertEquals(200, response.statusCode());
+    assertEquals("1 3 N\n5 1 E\n", response.body());
+  }
+
+  @Test
+  public void testServerStaysUpAcrossRequests() throws Exception {
+    // When/Then - successive missions are served by the same JVM
+    for (int i = 0; i < 5; i++) {
+      HttpResponse<String> response =
+          send(
+              HttpRequest.newBuilder(uri(MissionServer.MISSION_PATH))
+                  .POST(HttpRequest.BodyPublishers.ofString("5 5\n" + i + " 0 N\nM"))
+                  .build());
+      assertEquals(i + " 1 N\n", response.body());
+    }
+  }
+
+  @Test
+  public void testInvalidMissionIsBadRequest() throws Exception {
+    // When
+    HttpResponse<String> response =
+        send(
+            HttpRequest.newBuilder(uri(MissionServer.MISSION_PATH))
+                .POST(HttpRequest.BodyPublishers.ofString("5 5\n1 2 N\nLMLX"))
+                .build());
+
+    // Then
+    assertEquals(400, response.statusCode());
+    assertTrue(response.body().contains("Invalid rover command format: LMLX"));
+  }
+
+  @Test
+  public void testOnlyPostIsAccepted() throws Exception {
+    // When
+    HttpResponse<String> mission =
+        send(HttpRequest.newBuilder(uri(MissionServer.MISSION_PATH)).GET().build());
+    HttpResponse<String> health =
+        send(HttpRequest.newBuilder(uri(MissionServer.HEALTH_PATH)).GET().build());
+
+    // Then
+    assertEquals(405, mission.statusCode());
+    assertEquals(200, health.statusCode());
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://127.0.0.1:" + server.getPort() + path);
+  }
+
+  private HttpResponse<String> send(HttpRequest request) throws Exception {
+    return client.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+}
@@ -0,0 +1,76 @@
+package com.nasa.rover.model.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the CollisionAwarePlateau class implementation. */
+public class CollisionAwarePlateauTest {
+
+  @Test
+  public void testIndexChosenFromPlateauSize() {
+    // When/Then
+    assertTrue(CollisionAwarePlateau.createIndex(new Plateau(5, 5)) instanceof DenseOccupancyIndex);
+    assertTrue(
+        CollisionAwarePlateau.createIndex(new Plateau(1_000_000_000, 1_000_000_000))
+            instanceof SparseOccupancyIndex);
+  }
+
+  @Test
+  public void testOccupiedCellIsNotValid() {
+    // Given
+    CollisionAwarePlateau plateau = new CollisionAwarePlateau(new Plateau(5, 5));
+
+    // When
+    boolean landed = plateau.landRover(2, 2);
+
+    // Then
+    assertTrue(landed);
+    assertTrue(plateau.tracksOccupancy());
+    assertFalse(plateau.isValidPosition(2, 2), "An occupied cell should not be valid");
+    assertTrue(plateau.isValidPosition(2, 3));
+    assertFalse(plateau.isValidPosition(6, 3), "Plateau boundaries should still apply");
+    assertFalse(plateau.landRover(2, 2), "A rover cannot land on an occupied cell");
+  }
+
+  @Test
+  public void testRoverStopsInFrontOfAnotherRover() {
+    // Given
+    CollisionAwarePlateau plateau = new CollisionAwarePlateau(new Plateau(5, 5));
+    Rover blocker = new Rover(new Position(1, 4), Direction.S);
+    Rover rover = new Rover(new Position(1, 0), Direction.N);
+    plateau.landRover(1, 4);
+    plateau.landRover(1, 0);
+
+    // When
+    int moved = rover.moveForward(plateau, 10);
+    boolean blockerMoved = blocker.moveForward(plateau);
+
+    // Then
+    assertEquals(3, moved);
+    assertEquals("1 3 N", rover.getPositionReport());
+    assertFalse(blockerMoved, "The cell in front of the blocker is now occupied");
+    assertFalse(plateau.getOccupancy().isOccupied(1, 0), "The start cell should be released");
+    assertTrue(plateau.getOccupancy().isOccupied(1, 3));
+    assertEquals(2, plateau.getOccupancy().size());
+  }
+
+  @Test
+  public void testSingleStepsUpdateOccupancy() {
+    // Given
+    CollisionAwarePlateau plateau =
+        new CollisionAwarePlateau(new Plateau(1_000_000_000, 1_000_000_000));
+    Rover rover = new Rover(new Position(999_999_999, 5), Direction.E);
+    plateau.landRover(999_999_999, 5);
+
+    // When
+    boolean moved = rover.moveForward(plateau);
+    boolean movedOutside = rover.moveForward(plateau);
+
+    // Then
+    assertTrue(moved);
+    assertFalse(movedOutside);
+    assertTrue(plateau.getOccupancy().isOccupied(1_000_000_000, 5));
+    assertFalse(plateau.getOccupancy().isOccupied(999_999_999, 5));
+  }
+}
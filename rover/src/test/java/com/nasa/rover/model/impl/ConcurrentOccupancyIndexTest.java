@@ -0,0 +1,92 @@
+package com.nasa.rover.model.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.nasa.rover.model.IOccupancyIndex;
+import com.nasa.rover.model.IPlateau;
+
+/** Unit tests for the thread-safe ConcurrentOccupancyIndex and StripedOccupancyIndex classes. */
+public class ConcurrentOccupancyIndexTest {
+
+  @Test
+  public void testOccupyAndRelease() {
+    for (IOccupancyIndex index :
+        new IOccupancyIndex[] {new ConcurrentOccupancyIndex(64, 2), new StripedOccupancyIndex(3)}) {
+      // When
+      boolean firstLanding = index.occupy(64, 2);
+      boolean secondLanding = index.occupy(64, 2);
+      index.occupy(0, 1);
+
+      // Then
+      assertTrue(firstLanding, "A free cell should be occupied");
+      assertFalse(secondLanding, "An occupied cell should not be occupied twice");
+      assertTrue(index.isOccupied(64, 2));
+      assertFalse(index.isOccupied(64, 0));
+      assertEquals(2, index.size());
+
+      // When
+      index.release(64, 2);
+      index.release(64, 2);
+
+      // Then
+      assertFalse(index.isOccupied(64, 2));
+      assertEquals(1, index.size());
+    }
+  }
+
+  @Test
+  public void testConcurrentOccupyHasOneWinnerPerCell() throws Exception {
+    // Given - every thread tries to occupy every cell of the same rows
+    IOccupancyIndex[] indexes = {new ConcurrentOccupancyIndex(99, 99), new StripedOccupancyIndex()};
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      for (IOccupancyIndex index : indexes) {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+          tasks.add(
+              () -> {
+                int won = 0;
+                for (int cell = 0; cell < 10_000; cell++) {
+                  won += index.occupy(cell % 100, cell / 100) ? 1 : 0;
+                }
+                return won;
+              });
+        }
+
+        // When
+        int won = 0;
+        for (Future<Integer> future : executor.invokeAll(tasks)) {
+          won += future.get();
+        }
+
+        // Then
+        assertEquals(10_000, won);
+        assertEquals(10_000, index.size());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCreateConcurrentIndexFromPlateauSize() {
+    // Given
+    IPlateau small = new Plateau(1000, 1000);
+    IPlateau huge = new Plateau(1_000_000, 1_000_000);
+
+    // When/Then
+    assertInstanceOf(
+        ConcurrentOccupancyIndex.class, CollisionAwarePlateau.createConcurrentIndex(small));
+    assertInstanceOf(
+        StripedOccupancyIndex.class, CollisionAwarePlateau.createConcurrentIndex(huge));
+  }
+}
@@ -0,0 +1,98 @@
+package com.nasa.rover.model.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the DenseOccupancyIndex class implementation. */
+public class DenseOccupancyIndexTest {
+
+  @Test
+  public void testOccupyAndRelease() {
+    // Given
+    DenseOccupancyIndex index = new DenseOccupancyIndex(9, 9);
+
+    // When
+    boolean firstLanding = index.occupy(3, 7);
+    boolean secondLanding = index.occupy(3, 7);
+
+    // Then
+    assertTrue(firstLanding, "A free cell should be occupied");
+    assertFalse(secondLanding, "An occupied cell should not be occupied twice");
+    assertTrue(index.isOccupied(3, 7));
+    assertFalse(index.isOccupied(7, 3));
+    assertEquals(1, index.size());
+
+    // When
+    index.release(3, 7);
+    index.release(3, 7);
+
+    // Then
+    assertFalse(index.isOccupied(3, 7));
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  public void testCornersUseDistinctBits() {
+    // Given - 65 x 3 cells, so rows straddle word boundaries
+    DenseOccupancyIndex index = new DenseOccupancyIndex(64, 2);
+
+    // When
+    index.occupy(0, 0);
+    index.occupy(64, 2);
+
+    // Then
+    assertTrue(index.isOccupied(0, 0));
+    assertTrue(index.isOccupied(64, 2));
+    assertFalse(index.isOccupied(64, 0));
+    assertFalse(index.isOccupied(0, 1));
+    assertEquals(2, index.size());
+  }
+
+  @Test
+  public void testFreeStepsScanRowsAcrossWords() {
+    // Given - rows of 200 cells spanning several words, with a few occupied cells
+    DenseOccupancyIndex index = new DenseOccupancyIndex(199, 2);
+    index.occupy(0, 1);
+    index.occupy(70, 1);
+    index.occupy(190, 1);
+    index.occupy(130, 0);
+
+    // When/Then - the word scan agrees with a cell by cell walk
+    for (int x = 0; x < 200; x += 3) {
+      for (int dx = -1; dx <= 1; dx += 2) {
+        int steps = dx > 0 ? 199 - x : x;
+        int free = 0;
+        while (free < steps && !index.isOccupied(x + dx * (free + 1), 1)) {
+          free++;
+        }
+        assertEquals(free, index.freeSteps(x, 1, dx, 0, steps), "from " + x + " by " + dx);
+      }
+    }
+    assertEquals(69, index.freeSteps(0, 1, 1, 0, 199));
+    assertEquals(50, index.freeSteps(120, 1, 1, 0, 50));
+    assertEquals(59, index.freeSteps(130, 1, -1, 0, 100));
+    assertEquals(1, index.freeSteps(130, 2, 0, -1, 2), "Columns are walked cell by cell");
+    assertEquals(0, index.freeSteps(70, 2, 0, -1, 1));
+  }
+
+  @Test
+  public void testCellsOutsideOfGrid() {
+    // Given
+    DenseOccupancyIndex index = new DenseOccupancyIndex(5, 5);
+
+    // When/Then
+    assertFalse(index.isOccupied(6, 0), "Cells outside of the grid are never occupied");
+    assertFalse(index.isOccupied(-1, 0), "Cells outside of the grid are never occupied");
+    assertThrows(IndexOutOfBoundsException.class, () -> index.occupy(0, 6));
+  }
+
+  @Test
+  public void testGridTooLarge() {
+    // When/Then
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new DenseOccupancyIndex(Integer.MAX_VALUE, Integer.MAX_VALUE));
+    assertThrows(IllegalArgumentException.class, () -> new DenseOccupancyIndex(-1, 5));
+  }
+}
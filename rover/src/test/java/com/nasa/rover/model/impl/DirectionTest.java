@@ -43,6 +43,19 @@ public class DirectionTest {
     assertEquals("W", Direction.W.getValue());
   }
 
+  @Test
+  public void testDeltas() {
+    // Given/When/Then
+    assertEquals(0, Direction.N.getDeltaX());
+    assertEquals(1, Direction.N.getDeltaY());
+    assertEquals(1, Direction.E.getDeltaX());
+    assertEquals(0, Direction.E.getDeltaY());
+    assertEquals(0, Direction.S.getDeltaX());
+    assertEquals(-1, Direction.S.getDeltaY());
+    assertEquals(-1, Direction.W.getDeltaX());
+    assertEquals(0, Direction.W.getDeltaY());
+  }
+
   @Test
   public void testFromValue() {
     // Given/When/Then
@@ -0,0 +1,72 @@
+package com.nasa.rover.model.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.nasa.rover.model.IOccupancyIndex;
+import com.nasa.rover.service.impl.RoverControlService;
+
+/** Unit tests for the ObstaclePlateau class implementation. */
+public class ObstaclePlateauTest {
+
+  @Test
+  public void testIndexChosenFromPlateauSizeAndObstacleCount() {
+    // Given
+    Plateau small = new Plateau(5, 5);
+    Plateau large = new Plateau(19_999, 19_999);
+
+    // When/Then
+    assertTrue(ObstaclePlateau.createIndex(small, 0) instanceof DenseOccupancyIndex);
+    assertTrue(ObstaclePlateau.createIndex(large, 1_000) instanceof SparseOccupancyIndex);
+    assertTrue(ObstaclePlateau.createIndex(large, 2_000_000) instanceof DenseOccupancyIndex);
+    assertTrue(
+        ObstaclePlateau.createIndex(new Plateau(1_000_000_000, 1_000_000_000), 1L << 40)
+            instanceof SparseOccupancyIndex,
+        "A grid too large for a bitset falls back to a hash set");
+  }
+
+  @Test
+  public void testBlockedCellIsNotValid() {
+    // Given
+    IOccupancyIndex obstacles = new DenseOccupancyIndex(5, 5);
+    obstacles.occupy(2, 2);
+
+    // When
+    ObstaclePlateau plateau = new ObstaclePlateau(new Plateau(5, 5), obstacles);
+
+    // Then
+    assertTrue(plateau.isBlocked(2, 2));
+    assertFalse(plateau.isValidPosition(2, 2), "A blocked cell should not be valid");
+    assertTrue(plateau.isValidPosition(2, 3));
+    assertFalse(plateau.isValidPosition(6, 3), "Plateau boundaries should still apply");
+    assertFalse(plateau.isRectangular(), "Obstacles prevent fast-forwarding on bounds alone");
+    assertFalse(plateau.tracksOccupancy());
+    assertEquals(5, plateau.getWidth());
+    assertEquals(5, plateau.getHeight());
+  }
+
+  @Test
+  public void testRoversStopInFrontOfObstacles() {
+    // Given - a wall across column 3, with a gap in row 4, on a sparse index
+    IOccupancyIndex obstacles = new SparseOccupancyIndex();
+    for (int y = 0; y <= 3; y++) {
+      obstacles.occupy(3, y);
+    }
+    ObstaclePlateau plateau = new ObstaclePlateau(new Plateau(9, 9), obstacles);
+    RoverControlService control = new RoverControlService();
+    Rover runner = new Rover(new Position(0, 1), Direction.E);
+    Rover looper = new Rover(new Position(0, 0), Direction.E);
+    Rover climber = new Rover(new Position(0, 3), Direction.N);
+
+    // When
+    control.executeCommands(runner, "1000M", plateau);
+    control.executeCommands(looper, "6(MLMR)", plateau);
+    control.executeCommands(climber, "MR20M", plateau);
+
+    // Then - groups are executed step by step rather than fast-forwarded over the wall
+    assertEquals("2 1 E", runner.getPositionReport());
+    assertEquals("4 6 E", looper.getPositionReport());
+    assertEquals("9 4 E", climber.getPositionReport());
+  }
+}
@@ -57,4 +57,17 @@ public class PlateauTest {
         () -> new Plateau(5, -1),
         "Creating plateau with negative height should throw IllegalArgumentException");
   }
+
+  @Test
+  public void testReachableSteps() {
+    // Given
+    Plateau plateau = new Plateau(5, 5);
+
+    // When/Then
+    assertEquals(3, plateau.reachableSteps(1, 2, 0, 1, 10), "North should stop at the top edge");
+    assertEquals(2, plateau.reachableSteps(1, 2, 0, 1, 2), "Requested steps should be honoured");
+    assertEquals(4, plateau.reachableSteps(1, 2, 1, 0, 10), "East should stop at the right edge");
+    assertEquals(2, plateau.reachableSteps(1, 2, 0, -1, 10), "South should stop at the bottom");
+    assertEquals(0, plateau.reachableSteps(0, 2, -1, 0, 10), "West edge should block moves");
+  }
 }
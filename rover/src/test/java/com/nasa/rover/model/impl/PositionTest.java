@@ -2,6 +2,9 @@ package com.nasa.rover.model.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 /** Unit tests for the Position class implementation. */
@@ -61,4 +64,21 @@ public class PositionTest {
     // Then
     assertEquals(expected, result, "toString should return coordinates in format 'x y'");
   }
+
+  @Test
+  public void testHashCodesSpreadOverGrid() {
+    // Given - every cell of a 1000 x 1000 grid
+    Set<Integer> hashes = new HashSet<>();
+
+    // When
+    for (int x = 0; x < 1000; x++) {
+      for (int y = 0; y < 1000; y++) {
+        hashes.add(new Position(x, y).hashCode());
+      }
+    }
+
+    // Then - 31 * x + y gave fewer than 32000 distinct values
+    assertTrue(hashes.size() > 999_000, "Too many collisions: " + (1_000_000 - hashes.size()));
+    assertEquals(new Position(4, 2).hashCode(), new Position(4, 2).hashCode());
+  }
 }
@@ -0,0 +1,54 @@
+package com.nasa.rover.model.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the RoverFleet store. */
+public class RoverFleetTest {
+
+  @Test
+  public void testAddRovers() {
+    // Given
+    RoverFleet fleet = new RoverFleet(1);
+
+    // When - adding past the initial capacity grows the arrays
+    int first = fleet.add(1, 2, Direction.N);
+    int second = fleet.add(3, 3, Direction.E);
+
+    // Then
+    assertEquals(0, first);
+    assertEquals(1, second);
+    assertEquals(2, fleet.size());
+    assertEquals("1 2 N", fleet.getPositionReport(first));
+    assertEquals("3 3 E", fleet.getPositionReport(second));
+  }
+
+  @Test
+  public void testUpdateRover() {
+    // Given
+    RoverFleet fleet = new RoverFleet();
+    int rover = fleet.add(1, 2, Direction.N);
+
+    // When
+    fleet.setPosition(rover, 4, 5);
+    fleet.setDirectionOrdinal(rover, Direction.W.ordinal() + 1);
+
+    // Then - ordinals wrap around modulo four
+    assertEquals(4, fleet.getX(rover));
+    assertEquals(5, fleet.getY(rover));
+    assertEquals(Direction.N, fleet.getDirection(rover));
+  }
+
+  @Test
+  public void testInvalidIndex() {
+    // Given
+    RoverFleet fleet = new RoverFleet();
+    fleet.add(0, 0, Direction.S);
+
+    // When/Then
+    assertThrows(IndexOutOfBoundsException.class, () -> fleet.getX(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> fleet.setPosition(-1, 0, 0));
+    assertThrows(IllegalArgumentException.class, () -> new RoverFleet(-1));
+  }
+}
@@ -32,6 +32,8 @@ public class RoverTest {
     // Then
     assertEquals(initialPosition, rover.getPosition());
     assertEquals(initialDirection, rover.getDirection());
+    assertEquals(1, ((Rover) rover).getX());
+    assertEquals(2, ((Rover) rover).getY());
   }
 
   @Test
@@ -145,6 +147,50 @@ public class RoverTest {
     assertEquals(edgePosition.getY(), rover.getPosition().getY());
   }
 
+  @Test
+  public void testMoveForwardSeveralSteps() {
+    // Given
+    IRover rover = new Rover(initialPosition, Direction.E);
+
+    // When - only 4 of the 10 requested moves fit on the plateau
+    int moved = rover.moveForward(plateau, 10);
+
+    // Then
+    assertEquals(4, moved);
+    assertEquals(5, rover.getPosition().getX());
+    assertEquals(initialPosition.getY(), rover.getPosition().getY());
+  }
+
+  @Test
+  public void testMoveForwardWithCustomDirection() {
+    // Given - a direction that only provides its value relies on the default deltas
+    IDirection custom =
+        new IDirection() {
+          @Override
+          public IDirection turnLeft() {
+            return this;
+          }
+
+          @Override
+          public IDirection turnRight() {
+            return this;
+          }
+
+          @Override
+          public String getValue() {
+            return "E";
+          }
+        };
+    IRover rover = new Rover(initialPosition, custom);
+
+    // When
+    boolean result = rover.moveForward(plateau);
+
+    // Then
+    assertTrue(result);
+    assertEquals("2 2 E", rover.getPositionReport());
+  }
+
   @Test
   public void testGetPositionReport() {
     // Given
@@ -156,4 +202,18 @@ public class RoverTest {
     // Then
     assertEquals("1 2 N", report);
   }
+
+  @Test
+  public void testMoveBy() {
+    // Given
+    IRover rover = new Rover(initialPosition, Direction.N);
+
+    // When
+    boolean jumped = rover.moveBy(plateau, 3, -2);
+
+    // Then - the rover jumps without turning
+    assertTrue(jumped);
+    assertEquals("4 0 N", rover.getPositionReport());
+    assertThrows(IllegalArgumentException.class, () -> rover.moveBy(plateau, 0, -1));
+  }
 }
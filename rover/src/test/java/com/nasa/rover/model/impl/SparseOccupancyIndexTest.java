@@ -0,0 +1,84 @@
+package com.nasa.rover.model.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the SparseOccupancyIndex class implementation. */
+public class SparseOccupancyIndexTest {
+
+  @Test
+  public void testOccupyAndReleaseOnHugePlateau() {
+    // Given
+    SparseOccupancyIndex index = new SparseOccupancyIndex();
+
+    // When
+    boolean firstLanding = index.occupy(999_999_999, 1_000_000_000);
+    boolean secondLanding = index.occupy(999_999_999, 1_000_000_000);
+
+    // Then
+    assertTrue(firstLanding);
+    assertFalse(secondLanding);
+    assertTrue(index.isOccupied(999_999_999, 1_000_000_000));
+    assertFalse(index.isOccupied(1_000_000_000, 999_999_999));
+
+    // When
+    index.release(999_999_999, 1_000_000_000);
+
+    // Then
+    assertFalse(index.isOccupied(999_999_999, 1_000_000_000));
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  public void testFreeSlotMarkerCellCanBeOccupied() {
+    // Given
+    SparseOccupancyIndex index = new SparseOccupancyIndex();
+
+    // When/Then
+    assertFalse(index.isOccupied(-1, -1));
+    assertTrue(index.occupy(-1, -1));
+    assertFalse(index.occupy(-1, -1));
+    assertTrue(index.isOccupied(-1, -1));
+    assertEquals(1, index.size());
+    index.release(-1, -1);
+    assertFalse(index.isOccupied(-1, -1));
+  }
+
+  @Test
+  public void testMatchesHashSetUnderRandomMoves() {
+    // Given - a small coordinate range forces long probe chains and many removals
+    SparseOccupancyIndex index = new SparseOccupancyIndex();
+    Set<Long> expected = new HashSet<>();
+    Random random = new Random(42);
+
+    // When/Then
+    for (int i = 0; i < 200_000; i++) {
+      int x = random.nextInt(300);
+      int y = random.nextInt(300);
+      long cell = ((long) x << 32) | y;
+      if (random.nextInt(3) == 0) {
+        index.release(x, y);
+        expected.remove(cell);
+      } else {
+        assertEquals(expected.add(cell), index.occupy(x, y));
+      }
+      assertEquals(expected.size(), index.size());
+    }
+    for (int x = 0; x < 300; x++) {
+      for (int y = 0; y < 300; y++) {
+        assertEquals(expected.contains(((long) x << 32) | y), index.isOccupied(x, y));
+      }
+    }
+  }
+
+  @Test
+  public void testInvalidExpectedCells() {
+    // When/Then
+    assertThrows(IllegalArgumentException.class, () -> new SparseOccupancyIndex(-1));
+  }
+}
@@ -0,0 +1,115 @@
+package com.nasa.rover.model.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import com.nasa.rover.model.ITrajectory;
+
+/** Unit tests for the Trajectory class implementation. */
+public class TrajectoryTest {
+
+  @Test
+  public void testRecordSteps() {
+    // Given
+    Trajectory trajectory = new Trajectory();
+    trajectory.reset(1, 2, Direction.N);
+
+    // When
+    trajectory.recordTurnLeft();
+    trajectory.recordMoves(1);
+    trajectory.recordTurnRight();
+    trajectory.recordBlocked();
+    trajectory.recordMoves(2);
+
+    // Then
+    assertEquals(6, trajectory.getStepCount());
+    assertEquals(ITrajectory.TURN_LEFT, trajectory.getStep(0));
+    assertEquals(ITrajectory.MOVE, trajectory.getStep(1));
+    assertEquals(ITrajectory.TURN_RIGHT, trajectory.getStep(2));
+    assertEquals(ITrajectory.BLOCKED, trajectory.getStep(3));
+    assertEquals(ITrajectory.MOVE, trajectory.getStep(5));
+    assertEquals(1, trajectory.getStartX());
+    assertEquals(2, trajectory.getStartY());
+    assertEquals(Direction.N, trajectory.getStartDirection());
+    assertThrows(IndexOutOfBoundsException.class, () -> trajectory.getStep(6));
+  }
+
+  @Test
+  public void testPackedSteps() {
+    // Given
+    Trajectory trajectory = new Trajectory();
+
+    // When - L M R B fills one byte, the last move starts the next one
+    trajectory.recordTurnLeft();
+    trajectory.recordMoves(1);
+    trajectory.recordTurnRight();
+    trajectory.recordBlocked();
+    trajectory.recordMoves(1);
+    ByteBuffer packed = trajectory.getPackedSteps();
+
+    // Then
+    assertEquals(2, packed.remaining());
+    assertEquals((byte) 0b11_01_10_00, packed.get(0));
+    assertEquals((byte) 0b10, packed.get(1));
+    assertTrue(packed.isReadOnly());
+  }
+
+  @Test
+  public void testLongMoveRunsGrowBuffer() {
+    // Given - a one-byte buffer
+    Trajectory trajectory = new Trajectory(1);
+    trajectory.recordTurnRight();
+
+    // When
+    trajectory.recordMoves(1001);
+    trajectory.recordTurnLeft();
+
+    // Then
+    assertEquals(1003, trajectory.getStepCount());
+    assertEquals(ITrajectory.TURN_RIGHT, trajectory.getStep(0));
+    for (long i = 1; i <= 1001; i++) {
+      assertEquals(ITrajectory.MOVE, trajectory.getStep(i), "Step " + i);
+    }
+    assertEquals(ITrajectory.TURN_LEFT, trajectory.getStep(1002));
+  }
+
+  @Test
+  public void testGrowWithPendingSteps() {
+    // Given - a one-byte buffer holding four steps
+    Trajectory trajectory = new Trajectory(1);
+    trajectory.recordMoves(4);
+    trajectory.recordTurnLeft();
+
+    // When - the bulk path grows the buffer while a step is pending
+    trajectory.recordMoves(7);
+
+    // Then
+    assertEquals(12, trajectory.getStepCount());
+    assertEquals(ITrajectory.TURN_LEFT, trajectory.getStep(4));
+    assertEquals(ITrajectory.MOVE, trajectory.getStep(11));
+  }
+
+  @Test
+  public void testResetReusesBuffer() {
+    // Given
+    Trajectory trajectory = new Trajectory();
+    trajectory.recordMoves(3);
+
+    // When
+    trajectory.reset(4, 5, Direction.W);
+    trajectory.recordTurnLeft();
+
+    // Then - steps of the previous trajectory do not leak into the new one
+    assertEquals(1, trajectory.getStepCount());
+    assertEquals(ITrajectory.TURN_LEFT, trajectory.getStep(0));
+    assertEquals(Direction.W, trajectory.getStartDirection());
+  }
+
+  @Test
+  public void testInvalidCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new Trajectory(0));
+  }
+}
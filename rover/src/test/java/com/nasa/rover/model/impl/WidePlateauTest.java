@@ -0,0 +1,51 @@
+package com.nasa.rover.model.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.nasa.rover.model.IWidePlateau;
+
+/** Unit tests for the WidePlateau class implementation. */
+public class WidePlateauTest {
+
+  private static final long SIDE = 1_000_000_000_000_000L;
+
+  @Test
+  public void testIsValidPositionBeyondIntRange() {
+    // Given
+    IWidePlateau plateau = new WidePlateau(SIDE, SIDE);
+
+    // When/Then
+    assertTrue(plateau.isValidPosition(SIDE, SIDE), "Max coordinates should be valid");
+    assertTrue(plateau.isValidPosition(5_000_000_000L, 0), "Coordinate above 2^31 should be valid");
+    assertFalse(plateau.isValidPosition(SIDE + 1, 0), "X > width should be invalid");
+    assertFalse(plateau.isValidPosition(0, -1), "Negative Y should be invalid");
+    assertFalse(plateau.isValidPosition(Long.MIN_VALUE, Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testReachableStepsDoNotOverflow() {
+    // Given
+    IWidePlateau plateau = new WidePlateau(WidePlateau.MAX_DIMENSION, SIDE);
+
+    // When/Then
+    assertEquals(
+        WidePlateau.MAX_DIMENSION - 3,
+        plateau.reachableSteps(3, 0, 1, 0, Long.MAX_VALUE),
+        "East run should stop at the right edge");
+    assertEquals(3, plateau.reachableSteps(3, 0, -1, 0, Long.MAX_VALUE));
+    assertEquals(10, plateau.reachableSteps(0, 7, 0, 1, 10));
+    assertEquals(0, plateau.reachableSteps(0, SIDE, 0, 1, 10), "North run should be blocked");
+    assertEquals(
+        0, plateau.reachableSteps(Long.MIN_VALUE, 0, 1, 0, 10), "Invalid start should not move");
+  }
+
+  @Test
+  public void testInvalidDimensions() {
+    assertThrows(IllegalArgumentException.class, () -> new WidePlateau(-1, 5));
+    assertThrows(
+        IllegalArgumentException.class, () -> new WidePlateau(5, WidePlateau.MAX_DIMENSION + 1));
+    assertTrue(new WidePlateau(0, 0).isRectangular());
+  }
+}
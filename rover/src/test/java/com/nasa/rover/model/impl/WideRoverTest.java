@@ -0,0 +1,72 @@
+package com.nasa.rover.model.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.nasa.rover.model.IWidePlateau;
+
+/** Unit tests for the WideRover and WidePosition classes. */
+public class WideRoverTest {
+
+  private static final long SIDE = 1_000_000_000_000_000L;
+
+  @Test
+  public void testMoveForwardBeyondIntRange() {
+    // Given
+    IWidePlateau plateau = new WidePlateau(SIDE, SIDE);
+    WideRover rover = new WideRover(new WidePosition(SIDE - 2, 3_000_000_000L), Direction.E);
+
+    // When
+    long moved = rover.moveForward(plateau, 5);
+    boolean movedAgain = rover.moveForward(plateau);
+    rover.turnLeft();
+    boolean movedNorth = rover.moveForward(plateau);
+
+    // Then
+    assertEquals(2, moved);
+    assertFalse(movedAgain, "Rover should not leave the plateau");
+    assertTrue(movedNorth);
+    assertEquals(SIDE + " 3000000001 N", rover.getPositionReport());
+    assertEquals(new WidePosition(SIDE, 3_000_000_001L), rover.getPosition());
+    assertEquals(SIDE, rover.getX());
+    assertEquals(3_000_000_001L, rover.getY());
+  }
+
+  @Test
+  public void testMoveByChecksTarget() {
+    // Given
+    IWidePlateau plateau = new WidePlateau(SIDE, SIDE);
+    WideRover rover = new WideRover(new WidePosition(10, 10), Direction.N);
+
+    // When
+    rover.moveBy(plateau, SIDE - 10, -10);
+
+    // Then
+    assertEquals(SIDE + " 0 N", rover.getPositionReport());
+    assertThrows(IllegalArgumentException.class, () -> rover.moveBy(plateau, 1, 0));
+    assertThrows(IllegalArgumentException.class, () -> rover.moveBy(plateau, Long.MAX_VALUE, 0));
+    assertEquals(SIDE + " 0 N", rover.getPositionReport());
+  }
+
+  @Test
+  public void testPositionHashCodesSpreadOverLargeGrids() {
+    // Given - positions on a row, a column and a diagonal far beyond the int range
+    Set<Integer> hashes = new HashSet<>();
+    int count = 0;
+    for (long i = 0; i < 100_000; i++) {
+      hashes.add(new WidePosition(SIDE - i, 7).hashCode());
+      hashes.add(new WidePosition(7, SIDE - i).hashCode());
+      hashes.add(new WidePosition(i << 32, i << 32).hashCode());
+      count += 3;
+    }
+
+    // Then - a handful of 32-bit collisions at most
+    assertTrue(hashes.size() > count - 10, "Too many collisions: " + (count - hashes.size()));
+    assertEquals(new WidePosition(1, 2).hashCode(), new WidePosition(1, 2).hashCode());
+    assertNotEquals(new WidePosition(1, 2), new WidePosition(2, 1));
+  }
+}
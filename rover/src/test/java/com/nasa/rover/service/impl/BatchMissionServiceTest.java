@@ -0,0 +1,157 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nasa.rover.model.IMissionResult;
+import com.nasa.rover.service.IBatchMissionService;
+
+/** Unit tests for the BatchMissionService implementation. */
+public class BatchMissionServiceTest {
+
+  @TempDir Path tempDir;
+
+  private Path missionDir;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    missionDir = Files.createDirectories(tempDir.resolve("missions"));
+    Files.writeString(missionDir.resolve("a.txt"), "5 5\n1 2 N\nLMLMLMLMM");
+    Files.writeString(missionDir.resolve("b.txt"), "5 5\n3 3 E\nMMRMMRMRRM");
+    Files.writeString(missionDir.resolve("c.mission"), "5 5\n1 2 N\nLMLX");
+    Files.createDirectories(missionDir.resolve("nested"));
+    Files.writeString(missionDir.resolve("nested/a.txt"), "2 2\n0 0 N\nMM");
+  }
+
+  @Test
+  public void testResolveDirectory() throws Exception {
+    // When
+    List<String> missions = createService(null).resolveMissions(missionDir.toString());
+
+    // Then - only the regular files of the directory, sorted
+    assertEquals(
+        List.of(
+            missionDir.resolve("a.txt").toString(),
+            missionDir.resolve("b.txt").toString(),
+            missionDir.resolve("c.mission").toString()),
+        missions);
+  }
+
+  @Test
+  public void testResolveGlob() throws Exception {
+    // When
+    IBatchMissionService service = createService(null);
+    List<String> topLevel = service.resolveMissions(missionDir + "/*.txt");
+    List<String> recursive = service.resolveMissions(missionDir + "/**/a.txt");
+
+    // Then
+    assertEquals(
+        List.of(missionDir.resolve("a.txt").toString(), missionDir.resolve("b.txt").toString()),
+        topLevel);
+    assertEquals(List.of(missionDir.resolve("nested/a.txt").toString()), recursive);
+  }
+
+  @Test
+  public void testTerrainMapsAreNotMissions() throws Exception {
+    // Given - a mission with its terrain map, next to the summary of a previous batch
+    Path surveyDir = Files.createDirectories(tempDir.resolve("survey"));
+    Files.writeString(surveyDir.resolve("survey.txt"), "5 5\n0 0 N\nMMM");
+    Files.writeString(surveyDir.resolve("survey.terrain"), "0 2\n");
+    Files.writeString(surveyDir.resolve(BatchMissionService.SUMMARY_FILE), "mission\tstatus\n");
+    IBatchMissionService service = createService(null);
+
+    // When
+    List<String> inDirectory = service.resolveMissions(surveyDir.toString());
+    List<String> globbed = service.resolveMissions(surveyDir + "/survey.*");
+    List<IMissionResult> results =
+        service.executeBatch(inDirectory, tempDir.resolve("results").toString());
+
+    // Then - the rover stops in front of the obstacle
+    List<String> expected = List.of(surveyDir.resolve("survey.txt").toString());
+    assertEquals(expected, inDirectory);
+    assertEquals(expected, globbed);
+    assertEquals(1, results.size());
+    assertTrue(results.get(0).isSuccessful());
+    assertEquals("0 1 N", Files.readString(Path.of(results.get(0).getResultFile())).trim());
+  }
+
+  @Test
+  public void testResolveListFile() throws Exception {
+    // Given - relative entries are resolved against the list file directory
+    Path listFile = tempDir.resolve("missions.lst");
+    Files.writeString(listFile, "# hourly batch\nmissions/b.txt\n\n  missions/a.txt  \n");
+
+    // When
+    List<String> missions = createService(null).resolveMissions("@" + listFile);
+
+    // Then
+    assertEquals(
+        List.of(missionDir.resolve("b.txt").toString(), missionDir.resolve("a.txt").toString()),
+        missions);
+  }
+
+  @Test
+  public void testResolveMissingSource() {
+    // When/Then
+    IBatchMissionService service = createService(null);
+    Exception missing =
+        assertThrows(
+            Exception.class, () -> service.resolveMissions(tempDir.resolve("none").toString()));
+    assertTrue(missing.getMessage().startsWith("Mission source not found"));
+    assertThrows(Exception.class, () -> service.resolveMissions(missionDir + "/*.json"));
+  }
+
+  @Test
+  public void testExecuteBatchWritesResultsAndSummary() throws Exception {
+    // Given
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      IBatchMissionService service = createService(executor);
+      List<String> missions =
+          List.of(
+              missionDir.resolve("a.txt").toString(),
+              missionDir.resolve("c.mission").toString(),
+              missionDir.resolve("nested/a.txt").toString(),
+              missionDir.resolve("b.txt").toString());
+      Path outputDir = tempDir.resolve("results");
+
+      // When
+      List<IMissionResult> results = service.executeBatch(missions, outputDir.toString());
+
+      // Then - results follow the mission order, a failure does not stop the batch
+      assertEquals(4, results.size());
+      assertTrue(results.get(0).isSuccessful());
+      assertFalse(results.get(1).isSuccessful());
+      assertTrue(results.get(1).getErrorMessage().contains("Invalid rover command format: LMLX"));
+      assertTrue(results.get(2).isSuccessful());
+      assertTrue(results.get(3).isSuccessful());
+
+      assertEquals("1 3 N\n", Files.readString(outputDir.resolve("a.txt.out")));
+      assertEquals("0 2 N\n", Files.readString(outputDir.resolve("a.txt-2.out")));
+      assertEquals("5 1 E\n", Files.readString(outputDir.resolve("b.txt.out")));
+      assertFalse(Files.exists(outputDir.resolve("c.mission.out")));
+
+      List<String> summary =
+          Files.readAllLines(outputDir.resolve(BatchMissionService.SUMMARY_FILE));
+      assertEquals(5, summary.size());
+      assertTrue(summary.get(1).startsWith(missions.get(0) + "\tOK\t"));
+      assertTrue(summary.get(2).startsWith(missions.get(1) + "\tFAILED\t"));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private IBatchMissionService createService(ExecutorService executor) {
+    return new BatchMissionService(
+        new MissionService(new InputFileService(), new RoverControlService()), executor);
+  }
+}
@@ -0,0 +1,105 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the BatchRing class. */
+public class BatchRingTest {
+
+  @Test
+  public void testBatchesReachConsumersThroughSmallRing() throws Exception {
+    // Given - one producer far ahead of three consumers sharing a ring of four slots
+    BatchRing<Long> ring = new BatchRing<>(3);
+    int count = 20_000;
+    AtomicLong claimed = new AtomicLong();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Long>> consumers = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        consumers.add(
+            executor.submit(
+                () -> {
+                  long sum = 0;
+                  for (long next = claimed.getAndIncrement(); ; next = claimed.getAndIncrement()) {
+                    Long batch = ring.take(next);
+                    if (batch == null) {
+                      return sum;
+                    }
+                    assertEquals(next, batch.longValue());
+                    sum += batch;
+                  }
+                }));
+      }
+
+      // When
+      long maxDepth = 0;
+      for (long sequence = 0; sequence < count; sequence++) {
+        maxDepth = Math.max(maxDepth, ring.put(sequence, sequence));
+      }
+      ring.finish(count);
+
+      // Then - every batch was taken once, and the producer never ran a ring ahead
+      long sum = 0;
+      for (Future<Long> consumer : consumers) {
+        sum += consumer.get(10, TimeUnit.SECONDS);
+      }
+      assertEquals((long) count * (count - 1) / 2, sum);
+      assertEquals(4, ring.capacity());
+      assertTrue(maxDepth >= 1 && maxDepth <= ring.capacity(), "depth " + maxDepth);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testFinishEndsTheStream() {
+    // Given
+    BatchRing<String> ring = new BatchRing<>(1);
+    ring.put(0, "first");
+
+    // When
+    ring.finish(1);
+
+    // Then
+    assertEquals(1, ring.capacity());
+    assertEquals("first", ring.take(0));
+    assertNull(ring.take(1));
+    assertNull(ring.take(5));
+  }
+
+  @Test
+  public void testCloseCancelsWaitingProducer() throws Exception {
+    // Given - a full ring and a producer waiting for the first slot
+    BatchRing<String> ring = new BatchRing<>(2);
+    ring.put(0, "a");
+    ring.put(1, "b");
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Long> producer = executor.submit(() -> ring.put(2, "c"));
+
+      // When
+      ring.close();
+
+      // Then
+      Exception exception = assertThrows(Exception.class, () -> producer.get(10, TimeUnit.SECONDS));
+      assertInstanceOf(CancellationException.class, exception.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testInvalidCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new BatchRing<>(0));
+  }
+}
@@ -0,0 +1,140 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IRoverCommand;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.Plateau;
+import com.nasa.rover.model.impl.Position;
+import com.nasa.rover.model.impl.Rover;
+import com.nasa.rover.model.impl.RoverCommand;
+
+/** Unit tests for the binary mission reader and writer. */
+public class BinaryMissionReaderTest {
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    // Given - command lengths around the four-per-byte packing and large varints
+    IPlateau plateau = new Plateau(Integer.MAX_VALUE, 1_000_000);
+    List<IRoverCommand> rovers =
+        List.of(
+            new RoverCommand(new Rover(new Position(0, 0), Direction.N), "L"),
+            new RoverCommand(new Rover(new Position(127, 128), Direction.E), "LRMM"),
+            new RoverCommand(new Rover(new Position(16_384, 5), Direction.S), "MMMMR"),
+            new RoverCommand(
+                new Rover(new Position(Integer.MAX_VALUE, 1_000_000), Direction.W),
+                "LMLMLMLMMRRMMLM".repeat(100)));
+
+    // When
+    byte[] bytes = encode(plateau, rovers);
+    List<IRoverCommand> decoded = new ArrayList<>();
+    IPlateau decodedPlateau =
+        new BinaryMissionReader(new ByteArrayInputStream(bytes))
+            .readMission((p, command) -> decoded.add(command));
+
+    // Then
+    assertEquals(Integer.MAX_VALUE, decodedPlateau.getWidth());
+    assertEquals(1_000_000, decodedPlateau.getHeight());
+    assertEquals(rovers.size(), decoded.size());
+    for (int i = 0; i < rovers.size(); i++) {
+      assertEquals(
+          rovers.get(i).getRover().getPositionReport(),
+          decoded.get(i).getRover().getPositionReport());
+      assertEquals(rovers.get(i).getCommands(), decoded.get(i).getCommands());
+    }
+  }
+
+  @Test
+  public void testCommandsArePackedFourPerByte() throws Exception {
+    // Given
+    IPlateau plateau = new Plateau(5, 5);
+    IRoverCommand rover = new RoverCommand(new Rover(new Position(1, 2), Direction.N), "LMLMLMLMM");
+
+    // When
+    byte[] bytes = encode(plateau, List.of(rover));
+
+    // Then - 5 header bytes, 2 plateau bytes, 3 position and direction bytes, 1 count byte and
+    // 3 bytes of packed commands
+    assertEquals(14, bytes.length);
+  }
+
+  @Test
+  public void testRoverOutsideOfPlateau() throws Exception {
+    // Given
+    byte[] bytes =
+        encode(
+            new Plateau(10, 10),
+            List.of(new RoverCommand(new Rover(new Position(8, 9), Direction.N), "M")));
+    bytes[6] = 5; // Shrink the plateau height below the rover
+
+    // When/Then
+    Exception exception = assertThrows(Exception.class, () -> read(bytes));
+    assertEquals(
+        "Invalid rover position: position (8,9) is outside of plateau boundaries",
+        exception.getMessage());
+  }
+
+  @Test
+  public void testTruncatedMission() throws Exception {
+    // Given
+    byte[] bytes =
+        encode(
+            new Plateau(5, 5),
+            List.of(new RoverCommand(new Rover(new Position(1, 2), Direction.N), "LMLMLMLMM")));
+
+    // When/Then
+    Exception exception =
+        assertThrows(Exception.class, () -> read(Arrays.copyOf(bytes, bytes.length - 1)));
+    assertEquals("Truncated binary mission file", exception.getMessage());
+  }
+
+  @Test
+  public void testInvalidHeaderAndEmptyMission() {
+    // When/Then
+    assertEquals(
+        "Not a binary mission file",
+        assertThrows(Exception.class, () -> read("5 5\n1 2 N\nM".getBytes())).getMessage());
+    assertEquals(
+        "Unsupported binary mission version: 9",
+        assertThrows(Exception.class, () -> read(new byte[] {'R', 'O', 'V', 'B', 9, 5, 5}))
+            .getMessage());
+    assertEquals(
+        "No rover instructions found in the file",
+        assertThrows(Exception.class, () -> read(new byte[] {'R', 'O', 'V', 'B', 1, 5, 5}))
+            .getMessage());
+  }
+
+  @Test
+  public void testInvalidCommandCode() {
+    // Given - one command with the reserved code 3
+    byte[] bytes = {'R', 'O', 'V', 'B', 1, 5, 5, 1, 1, 0, 1, 3};
+
+    // When/Then
+    Exception exception = assertThrows(Exception.class, () -> read(bytes));
+    assertEquals("Invalid rover command code: 3", exception.getMessage());
+  }
+
+  private static byte[] encode(IPlateau plateau, List<IRoverCommand> rovers) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryMissionWriter writer = new BinaryMissionWriter(output);
+    writer.writePlateau(plateau);
+    for (IRoverCommand rover : rovers) {
+      writer.writeRover(rover);
+    }
+    writer.flush();
+    return output.toByteArray();
+  }
+
+  private static void read(byte[] bytes) throws Exception {
+    new BinaryMissionReader(new ByteArrayInputStream(bytes)).readMission((p, command) -> {});
+  }
+}
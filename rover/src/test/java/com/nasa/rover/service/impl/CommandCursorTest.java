@@ -0,0 +1,74 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the CommandCursor class. */
+public class CommandCursorTest {
+
+  @Test
+  public void testExpandsRunsAndGroups() {
+    assertEquals("LMR", walk("LMR"));
+    assertEquals("MMMRRL", walk("3M2RL"));
+    assertEquals("MRLLMRLLR", walk("2(MR2L)R"));
+    assertEquals("MLLMLLMLLMLLR", walk("2(2(M2L))R"));
+    assertEquals("MR", walk("M0(LL)R"));
+    assertEquals("MM", walk("2(1(1(1(1(1(M))))))"));
+  }
+
+  @Test
+  public void testStaysExhausted() {
+    // Given
+    CommandCursor cursor = new CommandCursor("M");
+
+    // When/Then
+    assertEquals('M', cursor.next());
+    assertEquals(0, cursor.next());
+    assertEquals(0, cursor.next());
+  }
+
+  @Test
+  public void testSkipMatchesWalking() {
+    for (String commands :
+        new String[] {"LMR", "3M2RL", "2(MR2L)R", "2(2(M2L))R", "M0(LL)R", "3(0(M)L)M"}) {
+      String expanded = walk(commands);
+      for (int count = 0; count <= expanded.length() + 2; count++) {
+        // Given
+        CommandCursor cursor = new CommandCursor(commands);
+
+        // When
+        long skipped = cursor.skip(count);
+
+        // Then
+        assertEquals(Math.min(count, expanded.length()), skipped, commands);
+        assertEquals(expanded.substring((int) skipped), walk(cursor), commands + " " + count);
+      }
+    }
+  }
+
+  @Test
+  public void testSkipJumpsOverWholeRepetitions() {
+    // Given - 2 * 10^18 moves followed by a turn
+    CommandCursor cursor = new CommandCursor("2000000000(1000000000M)L");
+
+    // When
+    long skipped = cursor.skip(1_999_999_999_999_999_999L);
+
+    // Then
+    assertEquals(1_999_999_999_999_999_999L, skipped);
+    assertEquals("ML", walk(cursor));
+  }
+
+  private static String walk(String commands) {
+    return walk(new CommandCursor(commands));
+  }
+
+  private static String walk(CommandCursor cursor) {
+    StringBuilder expanded = new StringBuilder();
+    for (char next = cursor.next(); next != 0; next = cursor.next()) {
+      expanded.append(next);
+    }
+    return expanded.toString();
+  }
+}
@@ -0,0 +1,311 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.nasa.rover.model.IDirection;
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IRover;
+import com.nasa.rover.model.IWidePlateau;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.Plateau;
+import com.nasa.rover.model.impl.Position;
+import com.nasa.rover.model.impl.RecordingRover;
+import com.nasa.rover.model.impl.Rover;
+import com.nasa.rover.model.impl.RoverFleet;
+import com.nasa.rover.model.impl.Trajectory;
+import com.nasa.rover.model.impl.WidePlateau;
+import com.nasa.rover.model.impl.WidePosition;
+import com.nasa.rover.model.impl.WideRover;
+
+/** Unit tests for the CommandProgram compiler. */
+public class CommandProgramTest {
+
+  @Test
+  public void testCompileCollapsesRuns() {
+    // Given/When
+    CommandProgram program = CommandProgram.compile("LLRMMMMRRRMLLLL");
+
+    // Then - (L, MMMM), (R, M) and a trailing net rotation of zero is dropped
+    assertEquals(2, program.getSegmentCount());
+  }
+
+  @Test
+  public void testExecuteCountsBlockedMoves() {
+    // Given
+    CommandProgram program = CommandProgram.compile("MMMRMMMMMMLM");
+    IRover rover = new Rover(new Position(0, 0), Direction.N);
+
+    // When - four moves east and the last move north are refused by the 2 x 3 plateau
+    long blockedMoves = program.execute(rover, new Plateau(2, 3));
+
+    // Then
+    assertEquals(5, blockedMoves);
+    assertEquals(12, program.getCommandCount());
+    assertEquals(2, program.getTurnCount());
+    assertEquals("2 3 N", rover.getPositionReport());
+  }
+
+  @Test
+  public void testCompileRejectsInvalidCommand() {
+    // When/Then
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> CommandProgram.compile("LMX"));
+    assertEquals("Invalid command: X", exception.getMessage());
+  }
+
+  @Test
+  public void testExecuteMatchesStepByStepExecution() {
+    // Given
+    IPlateau plateau = new Plateau(7, 4);
+    Random random = new Random(42);
+
+    for (int run = 0; run < 200; run++) {
+      StringBuilder commands = new StringBuilder();
+      int length = random.nextInt(60);
+      for (int i = 0; i < length; i++) {
+        commands.append("LRMMM".charAt(random.nextInt(5)));
+      }
+      Position start = new Position(random.nextInt(8), random.nextInt(5));
+      Direction direction = Direction.values()[random.nextInt(4)];
+      IRover compiled = new Rover(start, direction);
+      IRover stepped = new Rover(start, direction);
+
+      // When
+      CommandProgram.compile(commands.toString()).execute(compiled, plateau);
+      for (char command : commands.toString().toCharArray()) {
+        if (command == 'L') {
+          stepped.turnLeft();
+        } else if (command == 'R') {
+          stepped.turnRight();
+        } else {
+          stepped.moveForward(plateau);
+        }
+      }
+
+      // Then
+      assertEquals(
+          stepped.getPositionReport(),
+          compiled.getPositionReport(),
+          "Unexpected result for commands " + commands);
+    }
+  }
+
+  @Test
+  public void testRepeatGroupsMatchExpandedCommands() {
+    // Given - small plateaus so that most patterns reach a boundary
+    Random random = new Random(7);
+
+    for (int run = 0; run < 500; run++) {
+      IPlateau plateau = new Plateau(1 + random.nextInt(12), 1 + random.nextInt(12));
+      String commands = randomGroups(random, 2);
+      Position start =
+          new Position(
+              random.nextInt(plateau.getWidth() + 1), random.nextInt(plateau.getHeight() + 1));
+      Direction direction = Direction.values()[random.nextInt(4)];
+      IRover expanded = new Rover(start, direction);
+      IRover compiled = new Rover(start, direction);
+      IRover recorded = new Rover(start, direction);
+      RoverFleet fleet = new RoverFleet();
+      fleet.add(start.getX(), start.getY(), direction);
+      WideRover wide = new WideRover(new WidePosition(start.getX(), start.getY()), direction);
+
+      // When
+      CommandProgram program = CommandProgram.compile(commands);
+      long expectedBlocked = CommandProgram.compile(expand(commands)).execute(expanded, plateau);
+      long blocked = program.execute(compiled, plateau);
+      program.execute(new RecordingRover(recorded, new Trajectory()), plateau);
+      program.execute(fleet, 0, plateau);
+      long wideBlocked =
+          program.execute(wide, new WidePlateau(plateau.getWidth(), plateau.getHeight()));
+
+      // Then
+      String message = "Unexpected result for commands " + commands + " on " + start;
+      assertEquals(expanded.getPositionReport(), compiled.getPositionReport(), message);
+      assertEquals(expanded.getPositionReport(), recorded.getPositionReport(), message);
+      assertEquals(expanded.getPositionReport(), fleet.getPositionReport(0), message);
+      assertEquals(expanded.getPositionReport(), wide.getPositionReport(), message);
+      assertEquals(expectedBlocked, blocked, message);
+      assertEquals(expectedBlocked, wideBlocked, message);
+      assertEquals(expand(commands).length(), program.getCommandCount(), message);
+    }
+  }
+
+  @Test
+  public void testHugeRepeatCountsAreFastForwarded() {
+    // Given - two billion periods of a pattern drifting north-east, then pinned in the corner
+    IPlateau plateau = new Plateau(1_000_000, 1_000_000);
+    IRover rover = new Rover(new Position(0, 0), Direction.N);
+    CommandProgram program = CommandProgram.compile("2000000000(MRMLM)");
+
+    // When
+    long blocked = program.execute(rover, plateau);
+
+    // Then - 500000 periods reach the top edge, 500000 more slide along it to the corner with two
+    // moves refused each, then all three moves of every period are refused
+    assertEquals("1000000 1000000 N", rover.getPositionReport());
+    assertEquals(3L * 2_000_000_000 - 2_000_000, blocked);
+    assertEquals(10_000_000_000L, program.getCommandCount());
+    assertEquals(4_000_000_000L, program.getTurnCount());
+  }
+
+  @Test
+  public void testHugeRepeatCountsOnWidePlateau() {
+    // Given - the same drift on a plateau of 10^15 per side, starting close to its east edge
+    long side = 1_000_000_000_000_000L;
+    IWidePlateau plateau = new WidePlateau(side, side);
+    WideRover rover = new WideRover(new WidePosition(side - 3_000_000_000L, 0), Direction.N);
+    CommandProgram program = CommandProgram.compile("2000000000(MRMLM)R3(1000000000M)");
+
+    // When
+    long blocked = program.execute(rover, plateau);
+
+    // Then - the periods are jumped over, and the last run stops at the edge
+    assertEquals(side + " 4000000000 E", rover.getPositionReport());
+    assertEquals(2_000_000_000L, blocked);
+  }
+
+  @Test
+  public void testRepeatGroupsWithCustomDirection() {
+    // Given
+    IRover rover = new Rover(new Position(1, 1), new NamedDirection(0));
+    WideRover wideRover = new WideRover(new WidePosition(1, 1), new NamedDirection(0));
+
+    // When
+    long blocked = CommandProgram.compile("2(M)R3(2M)").execute(rover, new Plateau(5, 5));
+    long wideBlocked =
+        CommandProgram.compile("2(M)R3(2M)").execute(wideRover, new WidePlateau(5, 5));
+
+    // Then - the same result as the commands expanded, "MMRMMMMMM"
+    assertEquals("5 3 East", rover.getPositionReport());
+    assertEquals(2, blocked);
+    assertEquals("5 3 East", wideRover.getPositionReport());
+    assertEquals(2, wideBlocked);
+  }
+
+  @Test
+  public void testCompileMergesRuns() {
+    // Given/When
+    CommandProgram program = CommandProgram.compile("MM500000M2R3L6RM");
+    IRover rover = new Rover(new Position(0, 0), Direction.N);
+    long blocked = program.execute(rover, new Plateau(10, 1_000_000));
+
+    // Then - (N, 500002 moves) then (R, 1 move) after a net rotation of five quarter turns right
+    assertEquals(2, program.getSegmentCount());
+    assertEquals(500_014, program.getCommandCount());
+    assertEquals(11, program.getTurnCount());
+    assertEquals("1 500002 E", rover.getPositionReport());
+    assertEquals(0, blocked);
+  }
+
+  @Test
+  public void testRunsLongerThanAnIntAreSplit() {
+    // Given/When
+    CommandProgram program = CommandProgram.compile("2147483647M2147483647M");
+    IRover rover = new Rover(new Position(0, 0), Direction.E);
+    long blocked = program.execute(rover, new Plateau(1_000, 1));
+
+    // Then
+    assertEquals(2, program.getSegmentCount());
+    assertEquals(2L * Integer.MAX_VALUE, program.getCommandCount());
+    assertEquals("1000 0 E", rover.getPositionReport());
+    assertEquals(2L * Integer.MAX_VALUE - 1_000, blocked);
+  }
+
+  @Test
+  public void testCompileRejectsMalformedGroups() {
+    for (String commands : new String[] {"3(M", "M)", "3", "3X", "9999999999(M)", "9999999999M"}) {
+      assertThrows(
+          IllegalArgumentException.class, () -> CommandProgram.compile(commands), commands);
+    }
+  }
+
+  /** Builds random commands with runs and groups nested up to the given depth. */
+  private static String randomGroups(Random random, int depth) {
+    StringBuilder commands = new StringBuilder();
+    int length = 1 + random.nextInt(6);
+    for (int i = 0; i < length; i++) {
+      if (depth > 0 && random.nextInt(4) == 0) {
+        commands.append(random.nextInt(30)).append('(');
+        commands.append(randomGroups(random, depth - 1)).append(')');
+      } else if (random.nextInt(4) == 0) {
+        commands.append(random.nextInt(30)).append("LRM".charAt(random.nextInt(3)));
+      } else {
+        commands.append("LRMMM".charAt(random.nextInt(5)));
+      }
+    }
+    return commands.toString();
+  }
+
+  /** Expands the runs and groups of a command string. */
+  private static String expand(String commands) {
+    StringBuilder expanded = new StringBuilder();
+    int i = 0;
+    while (i < commands.length()) {
+      char command = commands.charAt(i);
+      if (Character.isDigit(command)) {
+        int open = i;
+        while (Character.isDigit(commands.charAt(open))) {
+          open++;
+        }
+        int count = Integer.parseInt(commands.substring(i, open));
+        if (commands.charAt(open) != '(') {
+          expanded.append(String.valueOf(commands.charAt(open)).repeat(count));
+          i = open + 1;
+          continue;
+        }
+        int close = open + 1;
+        for (int depth = 1; depth > 0; close++) {
+          depth += commands.charAt(close) == '(' ? 1 : commands.charAt(close) == ')' ? -1 : 0;
+        }
+        expanded.append(expand(commands.substring(open + 1, close - 1)).repeat(count));
+        i = close;
+      } else {
+        expanded.append(command);
+        i++;
+      }
+    }
+    return expanded.toString();
+  }
+
+  /** Direction outside of the Direction enum, with values Direction does not know. */
+  private static final class NamedDirection implements IDirection {
+    private static final String[] NAMES = {"North", "East", "South", "West"};
+    private static final int[] DELTA_X = {0, 1, 0, -1};
+    private static final int[] DELTA_Y = {1, 0, -1, 0};
+
+    private final int index;
+
+    NamedDirection(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public IDirection turnLeft() {
+      return new NamedDirection((index + 3) % 4);
+    }
+
+    @Override
+    public IDirection turnRight() {
+      return new NamedDirection((index + 1) % 4);
+    }
+
+    @Override
+    public String getValue() {
+      return NAMES[index];
+    }
+
+    @Override
+    public int getDeltaX() {
+      return DELTA_X[index];
+    }
+
+    @Override
+    public int getDeltaY() {
+      return DELTA_Y[index];
+    }
+  }
+}
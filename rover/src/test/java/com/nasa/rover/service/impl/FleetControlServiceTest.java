@@ -0,0 +1,66 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.Plateau;
+import com.nasa.rover.model.impl.RoverFleet;
+import com.nasa.rover.service.IFleetControlService;
+
+/** Unit tests for the FleetControlService implementation. */
+public class FleetControlServiceTest {
+
+  private IFleetControlService fleetControlService;
+  private IPlateau plateau;
+  private RoverFleet fleet;
+
+  @BeforeEach
+  public void setUp() {
+    fleetControlService = new FleetControlService();
+    plateau = new Plateau(5, 5);
+    fleet = new RoverFleet();
+  }
+
+  @Test
+  public void testExecuteCommands() {
+    // Given
+    int first = fleet.add(1, 2, Direction.N);
+    int second = fleet.add(3, 3, Direction.E);
+
+    // When
+    fleetControlService.executeCommands(fleet, first, "LMLMLMLMM", plateau);
+    fleetControlService.executeCommands(fleet, second, "MMRMMRMRRM", plateau);
+
+    // Then
+    assertEquals("1 3 N", fleet.getPositionReport(first));
+    assertEquals("5 1 E", fleet.getPositionReport(second));
+  }
+
+  @Test
+  public void testExecuteCommandsStopsAtEdge() {
+    // Given
+    int rover = fleet.add(5, 5, Direction.N);
+
+    // When
+    fleetControlService.executeCommands(fleet, rover, "MMRMMM", plateau);
+
+    // Then
+    assertEquals("5 5 E", fleet.getPositionReport(rover));
+  }
+
+  @Test
+  public void testExecuteCommandsWithInvalidCommand() {
+    // Given
+    int rover = fleet.add(1, 2, Direction.N);
+
+    // When/Then
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> fleetControlService.executeCommands(fleet, rover, "LMX", plateau));
+    assertEquals("1 2 N", fleet.getPositionReport(rover));
+  }
+}
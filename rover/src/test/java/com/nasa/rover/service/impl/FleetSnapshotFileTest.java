@@ -0,0 +1,100 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.RoverFleet;
+
+/** Unit tests for the FleetSnapshotFile class. */
+public class FleetSnapshotFileTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void testSaveAndRestore() throws Exception {
+    // Given - enough rovers to span several buffers
+    RoverFleet fleet = new RoverFleet();
+    for (int i = 0; i < 300_000; i++) {
+      fleet.add(i, Integer.MAX_VALUE - i, Direction.values()[i & 3]);
+    }
+    FleetSnapshotFile snapshot = new FleetSnapshotFile(tempDir.resolve("fleet.snap"));
+
+    // When
+    snapshot.save(fleet, 0xCAFE, 41, 100);
+    snapshot.save(fleet, 0xCAFE, 42, 100);
+    RoverFleet restored = new RoverFleet();
+    long tick = snapshot.restore(restored, 0xCAFE);
+
+    // Then - the second snapshot replaced the first one, leaving no temporary file behind
+    assertEquals(42, tick);
+    assertEquals(fleet.size(), restored.size());
+    for (int i = 0; i < fleet.size(); i += 997) {
+      assertEquals(fleet.getPositionReport(i), restored.getPositionReport(i));
+    }
+    assertEquals(fleet.getPositionReport(299_999), restored.getPositionReport(299_999));
+    assertEquals(32 + 300_000 * 9 + 4, Files.size(tempDir.resolve("fleet.snap")));
+    try (var files = Files.list(tempDir)) {
+      assertEquals(1, files.count());
+    }
+
+    // When
+    snapshot.discard();
+
+    // Then
+    assertFalse(snapshot.exists());
+  }
+
+  @Test
+  public void testCorruptedSnapshots() throws Exception {
+    // Given
+    Path file = tempDir.resolve("fleet.snap");
+    RoverFleet fleet = new RoverFleet();
+    fleet.add(1, 2, Direction.N);
+    fleet.add(3, 4, Direction.W);
+    FleetSnapshotFile snapshot = new FleetSnapshotFile(file);
+    snapshot.save(fleet, 0xCAFE, 7, 10);
+    byte[] valid = Files.readAllBytes(file);
+
+    // When/Then - a flipped coordinate bit
+    byte[] flipped = valid.clone();
+    flipped[33] ^= 1;
+    Files.write(file, flipped);
+    IOException checksum =
+        assertThrows(IOException.class, () -> snapshot.restore(new RoverFleet(), 0xCAFE));
+    assertEquals("Corrupted fleet snapshot: checksum mismatch", checksum.getMessage());
+
+    // When/Then - a truncated file
+    Files.write(file, java.util.Arrays.copyOf(valid, valid.length - 1));
+    IOException truncated =
+        assertThrows(IOException.class, () -> snapshot.restore(new RoverFleet(), 0xCAFE));
+    assertEquals("Truncated fleet snapshot", truncated.getMessage());
+
+    // When/Then - another file
+    Files.writeString(file, "5 5\n1 2 N\nLMLMLMLMM\n");
+    IOException other =
+        assertThrows(IOException.class, () -> snapshot.restore(new RoverFleet(), 0xCAFE));
+    assertEquals("Not a fleet snapshot", other.getMessage());
+  }
+
+  @Test
+  public void testSnapshotOfAnotherMission() throws Exception {
+    // Given
+    RoverFleet fleet = new RoverFleet();
+    fleet.add(1, 2, Direction.N);
+    FleetSnapshotFile snapshot = new FleetSnapshotFile(tempDir.resolve("fleet.snap"));
+    snapshot.checkpoint(0xCAFE).save(fleet, 7, 10);
+
+    // When/Then
+    IOException exception =
+        assertThrows(IOException.class, () -> snapshot.restore(new RoverFleet(), 0xBEEF));
+    assertEquals("Fleet snapshot belongs to another mission", exception.getMessage());
+    assertEquals(7, snapshot.restore(new RoverFleet(), 0xCAFE));
+  }
+}
@@ -0,0 +1,141 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IRoverCommand;
+import com.nasa.rover.service.IInputFileService;
+
+/** Unit tests for the FormatDetectingInputFileService implementation. */
+public class FormatDetectingInputFileServiceTest {
+
+  private static final String MISSION = "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM";
+
+  @TempDir Path tempDir;
+
+  private Path textFile;
+  private Path binaryFile;
+  private IInputFileService service;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    textFile = tempDir.resolve("mission.txt");
+    binaryFile = tempDir.resolve("mission.bin");
+    Files.writeString(textFile, MISSION);
+    new MissionFileConverter().toBinary(textFile.toString(), binaryFile.toString());
+    service = new FormatDetectingInputFileService();
+  }
+
+  @Test
+  public void testDetectsFormat() throws Exception {
+    // When/Then
+    assertFalse(FormatDetectingInputFileService.isBinary(textFile.toString()));
+    assertTrue(FormatDetectingInputFileService.isBinary(binaryFile.toString()));
+  }
+
+  @Test
+  public void testReadsBothFormatsFromFiles() throws Exception {
+    // When
+    String fromText = describe(service.readRoverCommandsFromFile(textFile.toString()));
+    String fromBinary = describe(service.readRoverCommandsFromFile(binaryFile.toString()));
+
+    // Then
+    assertEquals("1 2 N LMLMLMLMM\n3 3 E MMRMMRMRRM", fromText);
+    assertEquals(fromText, fromBinary);
+    assertEquals(5, service.readPlateauFromFile(binaryFile.toString()).getWidth());
+  }
+
+  @Test
+  public void testReadsBothFormatsFromStreams() throws Exception {
+    // Given
+    byte[] binary = Files.readAllBytes(binaryFile);
+    byte[] text = MISSION.getBytes(StandardCharsets.UTF_8);
+    StringBuilder fromBinary = new StringBuilder();
+    StringBuilder fromText = new StringBuilder();
+
+    // When
+    service.readMission(
+        new ByteArrayInputStream(binary), (p, c) -> fromBinary.append(c.getCommands()));
+    service.readMission(new ByteArrayInputStream(text), (p, c) -> fromText.append(c.getCommands()));
+
+    // Then
+    assertEquals("LMLMLMLMMMMRMMRMRRM", fromBinary.toString());
+    assertEquals(fromText.toString(), fromBinary.toString());
+  }
+
+  @Test
+  public void testReadsGzipCompressedBinaryMission() throws Exception {
+    // Given
+    Path compressed = tempDir.resolve("mission.bin.gz");
+    try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(compressed))) {
+      Files.copy(binaryFile, output);
+    }
+
+    // When
+    String fromCompressed = describe(service.readRoverCommandsFromFile(compressed.toString()));
+
+    // Then
+    assertTrue(FormatDetectingInputFileService.isBinary(compressed.toString()));
+    assertEquals(describe(service.readRoverCommandsFromFile(textFile.toString())), fromCompressed);
+  }
+
+  @Test
+  public void testCompressedTextFileIsDecompressedOnce() throws Exception {
+    // Given - a text service that only accepts the stream the file was opened as
+    Path compressed = tempDir.resolve("mission.txt.gz");
+    try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(compressed))) {
+      Files.copy(textFile, output);
+    }
+    IInputFileService streamOnly =
+        new InputFileService() {
+          @Override
+          public IPlateau readMission(
+              String filePath, BiConsumer<IPlateau, IRoverCommand> roverHandler) {
+            throw new AssertionError("The mission file was opened again");
+          }
+        };
+
+    // When
+    String fromCompressed =
+        describe(
+            new FormatDetectingInputFileService(streamOnly)
+                .readRoverCommandsFromFile(compressed.toString()));
+
+    // Then
+    assertFalse(FormatDetectingInputFileService.isBinary(compressed.toString()));
+    assertEquals("1 2 N LMLMLMLMM\n3 3 E MMRMMRMRRM", fromCompressed);
+  }
+
+  @Test
+  public void testShortTextStreamIsNotBinary() {
+    // When/Then - fewer bytes than the magic header still reach the text parser
+    Exception exception =
+        assertThrows(
+            Exception.class,
+            () ->
+                service.readMission(
+                    new ByteArrayInputStream("5".getBytes(StandardCharsets.UTF_8)), (p, c) -> {}));
+    assertEquals(
+        "Invalid plateau format. Expected two integers separated by space", exception.getMessage());
+  }
+
+  private static String describe(List<IRoverCommand> commands) {
+    return commands.stream()
+        .map(command -> command.getRover().getPositionReport() + " " + command.getCommands())
+        .collect(Collectors.joining("\n"));
+  }
+}
@@ -2,10 +2,16 @@ package com.nasa.rover.service.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -218,6 +224,98 @@ public class InputFileServiceTest {
         "Exception message should mention file not found");
   }
 
+  @Test
+  public void testReadMissionHandsRoversInFileOrder() throws Exception {
+    // Given
+    String content = "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM";
+    File testFile = createTestFile(content);
+    List<IRoverCommand> received = new ArrayList<>();
+
+    // When
+    IPlateau plateau =
+        inputFileService.readMission(
+            testFile.getAbsolutePath(),
+            (p, command) -> {
+              assertEquals(5, p.getWidth(), "Rovers should be handed the parsed plateau");
+              received.add(command);
+            });
+
+    // Then
+    assertEquals(5, plateau.getWidth(), "Plateau width should match the input");
+    assertEquals(5, plateau.getHeight(), "Plateau height should match the input");
+    assertEquals(2, received.size(), "Should have handed 2 rover commands");
+    assertEquals("LMLMLMLMM", received.get(0).getCommands(), "First rover should come first");
+    assertEquals("MMRMMRMRRM", received.get(1).getCommands(), "Second rover should come last");
+  }
+
+  @Test
+  public void testReadMissionFromInvalidPlateau() {
+    // Given
+    File testFile = createTestFile("invalid content\n1 2 N\nM");
+
+    // When/Then
+    Exception exception =
+        assertThrows(
+            Exception.class,
+            () -> inputFileService.readMission(testFile.getAbsolutePath(), (p, command) -> {}),
+            "Invalid plateau should throw exception");
+
+    assertTrue(
+        exception.getMessage().contains("format"), "Exception message should mention format issue");
+  }
+
+  @Test
+  public void testReadMissionFromStream() throws Exception {
+    // Given
+    ByteArrayInputStream input =
+        new ByteArrayInputStream(
+            "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM".getBytes(StandardCharsets.UTF_8));
+    List<IRoverCommand> received = new ArrayList<>();
+
+    // When
+    IPlateau plateau = inputFileService.readMission(input, (p, command) -> received.add(command));
+
+    // Then
+    assertEquals(5, plateau.getWidth(), "Plateau width should match the input");
+    assertEquals(2, received.size(), "Should have handed 2 rover commands");
+    assertEquals("3 3 E", received.get(1).getRover().getPositionReport());
+  }
+
+  @Test
+  public void testReadMissionFromEmptyStream() {
+    // When/Then
+    Exception exception =
+        assertThrows(
+            Exception.class,
+            () ->
+                inputFileService.readMission(new ByteArrayInputStream(new byte[0]), (p, c) -> {}));
+    assertEquals("Input file is empty", exception.getMessage());
+  }
+
+  @Test
+  public void testReadGzipCompressedMission() throws Exception {
+    // Given
+    Path compressed = tempDir.resolve("mission.txt.gz");
+    try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(compressed))) {
+      output.write("5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM".getBytes(StandardCharsets.UTF_8));
+    }
+    List<IRoverCommand> fromFile = new ArrayList<>();
+    List<IRoverCommand> fromStream = new ArrayList<>();
+
+    // When
+    IPlateau plateau = inputFileService.readPlateauFromFile(compressed.toString());
+    inputFileService.readMission(compressed.toString(), (p, command) -> fromFile.add(command));
+    try (InputStream input = Files.newInputStream(compressed)) {
+      inputFileService.readMission(input, (p, command) -> fromStream.add(command));
+    }
+
+    // Then
+    assertEquals(5, plateau.getWidth(), "Plateau width should match the input");
+    assertEquals(2, fromFile.size(), "Should have handed 2 rover commands");
+    assertEquals("MMRMMRMRRM", fromFile.get(1).getCommands());
+    assertEquals(2, fromStream.size(), "Compressed streams should be detected too");
+  }
+
   /**
    * Helper method to create a test file with the given content.
    *
@@ -0,0 +1,276 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.RoverFleet;
+
+/** Unit tests for the LockstepMissionService class. */
+public class LockstepMissionServiceTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void testLowestIndexWinsContestedCell() throws Exception {
+    // Given - both rovers target (1,0) during the first tick
+    String mission = "4 0\n0 0 E\nM\n2 0 W\nM\n";
+
+    // When/Then
+    assertEquals("1 0 E\n2 0 W\n", execute(new LockstepMissionService(inputFiles()), mission));
+  }
+
+  @Test
+  public void testCellsHeldAtTickStartAreBlocked() throws Exception {
+    // Given - the follower cannot enter the cell its leader leaves, and facing rovers cannot swap
+    String mission = "4 0\n1 0 E\nM\n0 0 E\nM\n3 0 W\nLLM\n4 0 E\nLLM\n";
+
+    // When/Then
+    assertEquals(
+        "2 0 E\n0 0 E\n3 0 E\n4 0 W\n", execute(new LockstepMissionService(inputFiles()), mission));
+  }
+
+  @Test
+  public void testRoversMoveInTheSameTick() throws Exception {
+    // Given - the first rover turns while the second one takes the cell it was heading to
+    String mission = "2 2\n0 0 N\nRM\n1 1 S\nM\n";
+
+    // When/Then - executed one after another, the first rover would have taken the cell
+    assertEquals("0 0 E\n1 0 S\n", execute(new LockstepMissionService(inputFiles()), mission));
+  }
+
+  @Test
+  public void testMatchesReferenceSimulation() throws Exception {
+    // Given - a crowded plateau, so that many moves are contested
+    Random random = new Random(19);
+    int rovers = 3000;
+    StringBuilder mission = new StringBuilder("59 59\n");
+    int[] xs = new int[rovers];
+    int[] ys = new int[rovers];
+    int[] directions = new int[rovers];
+    String[] commands = new String[rovers];
+    Set<Long> landed = new HashSet<>();
+    for (int i = 0; i < rovers; i++) {
+      do {
+        xs[i] = random.nextInt(60);
+        ys[i] = random.nextInt(60);
+      } while (!landed.add(cell(xs[i], ys[i])));
+      directions[i] = random.nextInt(4);
+      StringBuilder roverCommands = new StringBuilder();
+      for (int c = 1 + random.nextInt(40); c > 0; c--) {
+        roverCommands.append("LRMMM".charAt(random.nextInt(5)));
+      }
+      commands[i] = roverCommands.toString();
+      mission.append(xs[i]).append(' ').append(ys[i]).append(' ');
+      mission.append(Direction.values()[directions[i]].getValue()).append('\n');
+      mission.append(commands[i]).append('\n');
+    }
+    String expected = simulate(59, 59, xs, ys, directions, commands);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      // When
+      String sequential = execute(new LockstepMissionService(inputFiles()), mission.toString());
+      String parallel =
+          execute(new LockstepMissionService(inputFiles(), executor, null), mission.toString());
+
+      // Then
+      assertEquals(expected, sequential);
+      assertEquals(expected, parallel);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testRunsAndGroupsTakeOneTickPerCommand() throws Exception {
+    // Given - the second rover turns during four ticks, then enters the cell the first one has left
+    String mission = "9 0\n1 0 W\nM\n3 0 W\n2(LL)2M\n";
+
+    // When/Then
+    assertEquals("0 0 W\n1 0 W\n", execute(new LockstepMissionService(inputFiles()), mission));
+  }
+
+  @Test
+  public void testTerrainBlocksMoves() throws Exception {
+    // Given - a boulder in front of the first rover
+    Path missionFile = tempDir.resolve("survey.txt");
+    Files.writeString(missionFile, "4 0\n0 0 E\nMMM\n4 0 W\nM\n");
+    Files.writeString(tempDir.resolve("survey.terrain"), "2 0\n");
+
+    // When
+    String reports =
+        new LockstepMissionService(inputFiles()).executeMission(missionFile.toString());
+
+    // Then
+    assertEquals("1 0 E\n3 0 W", reports);
+  }
+
+  @Test
+  public void testResumeFromSnapshot() throws Exception {
+    // Given - a simulation that crashed right after saving its snapshot of tick 4
+    String mission = "4 4\n0 0 E\n4M2(LM)RM\n4 4 W\nM3(LMM)R\n2 2 N\n9(R)MM\n";
+    String expected = execute(new LockstepMissionService(inputFiles()), mission);
+    Path missionFile = tempDir.resolve("mission.txt");
+    Files.writeString(missionFile, mission);
+    Path snapshotFile = tempDir.resolve("mission.snap");
+    FleetSnapshotFile crashing = crashingSnapshot(snapshotFile);
+    Exception crash =
+        assertThrows(
+            Exception.class,
+            () ->
+                new LockstepMissionService(inputFiles(), null, null, crashing, 4)
+                    .executeMission(missionFile.toString()));
+    assertEquals("Cannot save the fleet snapshot", crash.getMessage());
+    assertEquals("Crash", crash.getCause().getMessage());
+    FleetSnapshotFile snapshot = new FleetSnapshotFile(snapshotFile);
+
+    // When
+    String resumed =
+        new LockstepMissionService(inputFiles(), null, null, snapshot, 2)
+            .executeMission(missionFile.toString());
+
+    // Then - the mission ends as if it had never stopped, and its snapshot is gone
+    assertEquals(expected, resumed + "\n");
+    assertFalse(snapshot.exists());
+  }
+
+  @Test
+  public void testSnapshotOfAnotherMission() throws Exception {
+    // Given - a snapshot left by a mission with as many rovers, but other commands
+    Path snapshotFile = tempDir.resolve("mission.snap");
+    Path otherFile = tempDir.resolve("other.txt");
+    Files.writeString(otherFile, "4 4\n0 0 E\nMMMM\n");
+    FleetSnapshotFile crashing = crashingSnapshot(snapshotFile);
+    assertThrows(
+        Exception.class,
+        () ->
+            new LockstepMissionService(inputFiles(), null, null, crashing, 2)
+                .executeMission(otherFile.toString()));
+    Path missionFile = tempDir.resolve("mission.txt");
+    Files.writeString(missionFile, "4 4\n0 0 E\nMMML\n");
+    FleetSnapshotFile snapshot = new FleetSnapshotFile(snapshotFile);
+
+    // When/Then - the snapshot is reported as such, and kept
+    Exception exception =
+        assertThrows(
+            Exception.class,
+            () ->
+                new LockstepMissionService(inputFiles(), null, null, snapshot, 2)
+                    .executeMission(missionFile.toString()));
+    assertEquals("Cannot resume the mission from its fleet snapshot", exception.getMessage());
+    assertEquals("Fleet snapshot belongs to another mission", exception.getCause().getMessage());
+    assertTrue(snapshot.exists());
+  }
+
+  @Test
+  public void testMetricsCountBlockedMoves() throws Exception {
+    // Given
+    MissionMetrics metrics = new MissionMetrics();
+    String mission = "4 0\n0 0 E\nMM\n2 0 W\nMM\n";
+
+    // When
+    execute(new LockstepMissionService(inputFiles(), null, metrics), mission);
+
+    // Then - (1,0) goes to the first rover, then both rovers face each other
+    assertEquals(2, metrics.getRoversProcessed());
+    assertEquals(4, metrics.getCommandsExecuted());
+    assertEquals(3, metrics.getMovesBlocked());
+    assertEquals(2, metrics.getRoversBlocked());
+    assertEquals(1, metrics.getMissionsCompleted());
+  }
+
+  @Test
+  public void testInvalidMissions() {
+    LockstepMissionService service = new LockstepMissionService(inputFiles());
+
+    Exception occupied =
+        assertThrows(Exception.class, () -> execute(service, "5 5\n1 1 N\nM\n1 1 E\nM\n"));
+    assertEquals(
+        "Invalid rover position: cell (1,1) is already occupied by another rover",
+        occupied.getCause().getMessage());
+  }
+
+  private static InputFileService inputFiles() {
+    return new InputFileService();
+  }
+
+  private static String execute(LockstepMissionService service, String mission) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    service.executeMission(
+        new ByteArrayInputStream(mission.getBytes(StandardCharsets.US_ASCII)), output);
+    return output.toString(StandardCharsets.US_ASCII);
+  }
+
+  /** Straightforward simulation of the lock-step rules, used as the expected outcome. */
+  private static String simulate(
+      int width, int height, int[] xs, int[] ys, int[] directions, String[] commands) {
+    int longest = 0;
+    for (String roverCommands : commands) {
+      longest = Math.max(longest, roverCommands.length());
+    }
+    for (int tick = 0; tick < longest; tick++) {
+      Set<Long> occupied = new HashSet<>();
+      for (int i = 0; i < xs.length; i++) {
+        occupied.add(cell(xs[i], ys[i]));
+      }
+      Map<Long, Integer> winners = new HashMap<>();
+      for (int i = 0; i < xs.length; i++) {
+        char command = tick < commands[i].length() ? commands[i].charAt(tick) : 0;
+        if (command == 'L') {
+          directions[i] = (directions[i] + 3) % 4;
+        } else if (command == 'R') {
+          directions[i] = (directions[i] + 1) % 4;
+        } else if (command == 'M') {
+          int x = xs[i] + Direction.values()[directions[i]].getDeltaX();
+          int y = ys[i] + Direction.values()[directions[i]].getDeltaY();
+          if (x >= 0 && x <= width && y >= 0 && y <= height && !occupied.contains(cell(x, y))) {
+            winners.putIfAbsent(cell(x, y), i);
+          }
+        }
+      }
+      for (Map.Entry<Long, Integer> winner : winners.entrySet()) {
+        xs[winner.getValue()] = (int) (winner.getKey() >> 32);
+        ys[winner.getValue()] = (int) (long) winner.getKey();
+      }
+    }
+
+    StringBuilder reports = new StringBuilder();
+    for (int i = 0; i < xs.length; i++) {
+      reports.append(xs[i]).append(' ').append(ys[i]).append(' ');
+      reports.append(Direction.values()[directions[i]].getValue()).append('\n');
+    }
+    return reports.toString();
+  }
+
+  private static long cell(int x, int y) {
+    return ((long) x << 32) | y;
+  }
+
+  /** Snapshot file whose first save is followed by a crash of the mission. */
+  private static FleetSnapshotFile crashingSnapshot(Path file) {
+    return new FleetSnapshotFile(file) {
+      @Override
+      public void save(RoverFleet fleet, int mission, long tick, long ticks) throws IOException {
+        super.save(fleet, mission, tick, ticks);
+        throw new IOException("Crash");
+      }
+    };
+  }
+}
@@ -0,0 +1,109 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IRoverCommand;
+import com.nasa.rover.service.IInputFileService;
+
+/** Unit tests for the MappedInputFileService implementation. */
+public class MappedInputFileServiceTest {
+
+  private static final String MISSION =
+      "5 5\n1 2 N\nLMLMLMLMM\n\n3 3 E\r\nMMRMMRMRRM\r1 3 W\r\nMLMLM";
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void testReadMissionMatchesInputFileService() throws Exception {
+    // Given
+    File testFile = createTestFile(MISSION);
+    String expected = describe(new InputFileService(), testFile);
+
+    // When/Then - windows smaller than a line force remapping at every line start
+    for (long windowSize : new long[] {MappedInputFileService.DEFAULT_WINDOW_SIZE, 64, 12, 11}) {
+      assertEquals(
+          expected,
+          describe(new MappedInputFileService(windowSize), testFile),
+          "Window size " + windowSize + " should not change the parsed mission");
+    }
+  }
+
+  @Test
+  public void testReadPlateauFromFile() throws Exception {
+    // Given
+    File testFile = createTestFile(MISSION);
+
+    // When
+    IPlateau plateau = new MappedInputFileService(4).readPlateauFromFile(testFile.getPath());
+
+    // Then
+    assertEquals(5, plateau.getWidth());
+    assertEquals(5, plateau.getHeight());
+  }
+
+  @Test
+  public void testReadMissionReportsScannerErrors() {
+    // Given
+    File testFile = createTestFile("5 5\n1 2 N\nLMLX");
+
+    // When/Then
+    Exception exception =
+        assertThrows(
+            Exception.class,
+            () -> new MappedInputFileService(8).readRoverCommandsFromFile(testFile.getPath()));
+    assertEquals("Invalid rover command format: LMLX", exception.getMessage());
+  }
+
+  @Test
+  public void testReadMissionFromEmptyFile() {
+    // Given
+    File testFile = createTestFile("");
+
+    // When/Then
+    Exception exception =
+        assertThrows(
+            Exception.class,
+            () -> new MappedInputFileService().readMission(testFile.getPath(), (p, c) -> {}));
+    assertEquals("Input file is empty", exception.getMessage());
+  }
+
+  @Test
+  public void testLineLongerThanWindow() {
+    // Given
+    File testFile = createTestFile("5 5\n1 2 N\nMMMMMMMMMMMMMMMMMMMM\n");
+
+    // When/Then
+    Exception exception =
+        assertThrows(
+            Exception.class,
+            () -> new MappedInputFileService(8).readMission(testFile.getPath(), (p, c) -> {}));
+    assertTrue(exception.getMessage().contains("window"));
+  }
+
+  private static String describe(IInputFileService service, File file) throws Exception {
+    List<IRoverCommand> commands = service.readRoverCommandsFromFile(file.getPath());
+    return commands.stream()
+        .map(command -> command.getRover().getPositionReport() + " " + command.getCommands())
+        .collect(Collectors.joining("\n"));
+  }
+
+  private File createTestFile(String content) {
+    try {
+      File file = tempDir.resolve("test_input.txt").toFile();
+      Files.writeString(file.toPath(), content);
+      return file;
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to create test file", e);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for the MissionFileConverter class. */
+public class MissionFileConverterTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void testRoundTripAndSize() throws Exception {
+    // Given
+    StringBuilder mission = new StringBuilder("1000 1000\n");
+    for (int i = 0; i < 500; i++) {
+      mission.append(i).append(' ').append(999 - i).append(" N\n");
+      mission.append("LMLMLMLMMRRMMMMLRM".repeat(4)).append('\n');
+    }
+    Path textFile = tempDir.resolve("mission.txt");
+    Path binaryFile = tempDir.resolve("mission.bin");
+    Path restoredFile = tempDir.resolve("restored.txt");
+    Files.writeString(textFile, mission);
+    MissionFileConverter converter = new MissionFileConverter();
+
+    // When
+    long encoded = converter.toBinary(textFile.toString(), binaryFile.toString());
+    long decoded = converter.toText(binaryFile.toString(), restoredFile.toString());
+
+    // Then
+    assertEquals(500, encoded);
+    assertEquals(500, decoded);
+    assertEquals(mission.toString(), Files.readString(restoredFile));
+    assertTrue(
+        Files.size(binaryFile) * 3 < Files.size(textFile),
+        "Binary missions should be several times smaller than text missions");
+  }
+
+  @Test
+  public void testRunsAndGroupsAreExpanded() throws Exception {
+    // Given
+    Path textFile = tempDir.resolve("runs.txt");
+    Path binaryFile = tempDir.resolve("runs.bin");
+    Path restoredFile = tempDir.resolve("runs-restored.txt");
+    Files.writeString(textFile, "5 5\n1 2 N\n3M2(L2R)L\n3 3 E\n2(MR)M\n");
+    MissionFileConverter converter = new MissionFileConverter();
+
+    // When
+    converter.toBinary(textFile.toString(), binaryFile.toString());
+    converter.toText(binaryFile.toString(), restoredFile.toString());
+
+    // Then
+    assertEquals("5 5\n1 2 N\nMMMLRRLRRL\n3 3 E\nMRMRM\n", Files.readString(restoredFile));
+  }
+
+  @Test
+  public void testInvalidTextMission() throws Exception {
+    // Given
+    Path textFile = tempDir.resolve("invalid.txt");
+    Files.writeString(textFile, "5 5\n1 2 N\nLMLX");
+
+    // When/Then
+    Exception exception =
+        assertThrows(
+            Exception.class,
+            () ->
+                new MissionFileConverter()
+                    .toBinary(textFile.toString(), tempDir.resolve("out.bin").toString()));
+    assertEquals("Invalid rover command format: LMLX", exception.getMessage());
+  }
+}
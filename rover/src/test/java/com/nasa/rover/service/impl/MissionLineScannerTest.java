@@ -0,0 +1,200 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.IRover;
+import com.nasa.rover.model.IWidePlateau;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.Plateau;
+import com.nasa.rover.model.impl.WidePlateau;
+import com.nasa.rover.model.impl.WideRover;
+
+/** Unit tests for the MissionLineScanner. */
+public class MissionLineScannerTest {
+
+  // Patterns of the former regex based parser, used as a reference
+  private static final Pattern PLATEAU_PATTERN = Pattern.compile("^-?\\d+\\s+-?\\d+$");
+  private static final Pattern ROVER_POSITION_PATTERN = Pattern.compile("^\\d+\\s+\\d+\\s+.$");
+
+  private MissionLineScanner scanner;
+
+  @BeforeEach
+  public void setUp() {
+    scanner = new MissionLineScanner();
+  }
+
+  @Test
+  public void testScanPlateau() throws Exception {
+    // When
+    IPlateau plateau = scanner.scanPlateau("12 \t 7");
+
+    // Then
+    assertEquals(12, plateau.getWidth());
+    assertEquals(7, plateau.getHeight());
+  }
+
+  @Test
+  public void testScanPlateauMatchesFormerPattern() {
+    String[] lines = {
+      "5 5", "5  5", "-5 5", "5 -5", " 5 5", "5 5 ", "5", "5 5 5", "a b", "5 X", "--5 5", "5-5",
+      "5\t5"
+    };
+    for (String line : lines) {
+      boolean expectedValid = PLATEAU_PATTERN.matcher(line).matches();
+      Exception exception = catchException(() -> scanner.scanPlateau(line));
+      boolean formatError =
+          exception != null && exception.getMessage().startsWith("Invalid plateau format");
+      assertEquals(
+          expectedValid, !formatError, "Unexpected result for plateau line '" + line + "'");
+    }
+  }
+
+  @Test
+  public void testScanPlateauErrors() {
+    assertEquals(
+        "Input file is empty", catchException(() -> scanner.scanPlateau(null)).getMessage());
+    assertEquals(
+        "Input file is empty", catchException(() -> scanner.scanPlateau(" ")).getMessage());
+    assertEquals(
+        "Plateau dimensions cannot be negative",
+        catchException(() -> scanner.scanPlateau("-5 5")).getMessage());
+    assertEquals(
+        "For input string: \"99999999999\"",
+        catchException(() -> scanner.scanPlateau("99999999999 5")).getMessage());
+  }
+
+  @Test
+  public void testScanPositionMatchesFormerPattern() throws Exception {
+    String[] lines = {
+      "1 2 N", " 1 2 N ", "1  2\tN", "1 2 NN", "1 2", "1 2 3", "12 34", "a 2 N", "1 2N", "-1 2 N"
+    };
+    for (String line : lines) {
+      boolean expectedValid = ROVER_POSITION_PATTERN.matcher(line.trim()).matches();
+      Exception exception = catchException(() -> scanner.scanPosition(line));
+      assertEquals(
+          expectedValid, exception == null, "Unexpected result for position line '" + line + "'");
+      if (exception != null) {
+        assertEquals("Invalid rover position format: " + line.trim(), exception.getMessage());
+      }
+    }
+    assertFalse(scanner.scanPosition("  \t "), "Blank lines should be skipped");
+  }
+
+  @Test
+  public void testScanCommands() throws Exception {
+    // Given
+    scanner.scanPosition("1 2 N");
+
+    // When/Then
+    assertEquals("LMR", scanner.scanCommands("  LMR "));
+    assertEquals(
+        "Missing commands for rover at position: 1 2 N",
+        catchException(() -> scanner.scanCommands(null)).getMessage());
+    assertEquals(
+        "Invalid rover command format: LMX",
+        catchException(() -> scanner.scanCommands("LMX")).getMessage());
+  }
+
+  @Test
+  public void testScanRepeatGroups() throws Exception {
+    // Given
+    scanner.scanPosition("1 2 N");
+
+    // When/Then
+    assertEquals("3(MRM)L2(M10(L))", scanner.scanCommands("3(MRM)L2(M10(L))"));
+    assertEquals("2147483647(M)", scanner.scanCommands("2147483647(M)"));
+    assertEquals("500000M2R3(2LM)", scanner.scanCommands("500000M2R3(2LM)"));
+    for (String commands :
+        new String[] {
+          "3(M", "M)", "3", "3X", "(M)", "3()", "2(M))", "2147483648(M)", "2147483648M", "3(MX)"
+        }) {
+      assertEquals(
+          "Invalid rover command format: " + commands,
+          catchException(() -> scanner.scanCommands(commands)).getMessage(),
+          commands);
+    }
+  }
+
+  @Test
+  public void testCreateRover() throws Exception {
+    // Given
+    IPlateau plateau = new Plateau(5, 5);
+    scanner.scanPosition("3 4 W");
+
+    // When
+    IRover rover = scanner.createRover(plateau);
+
+    // Then
+    assertEquals("3 4 W", rover.getPositionReport());
+    assertEquals(Direction.W, rover.getDirection());
+  }
+
+  @Test
+  public void testCreateRoverErrors() throws Exception {
+    IPlateau plateau = new Plateau(5, 5);
+
+    scanner.scanPosition("6 2 N");
+    assertEquals(
+        "Invalid rover position: position (6,2) is outside of plateau boundaries",
+        catchException(() -> scanner.createRover(plateau)).getMessage());
+
+    scanner.scanPosition("1 2 X");
+    assertEquals(
+        "Invalid direction: direction 'X' is not valid (must be one of N, E, S, W)",
+        catchException(() -> scanner.createRover(plateau)).getMessage());
+  }
+
+  @Test
+  public void testScanWideMission() throws Exception {
+    // When
+    IWidePlateau plateau = scanner.scanWidePlateau("1000000000000000 4611686018427387904");
+    scanner.scanPosition("999999999999999 3000000000 E");
+    WideRover rover = scanner.createWideRover(plateau);
+
+    // Then
+    assertEquals(1_000_000_000_000_000L, plateau.getWidth());
+    assertEquals(WidePlateau.MAX_DIMENSION, plateau.getHeight());
+    assertEquals("999999999999999 3000000000 E", rover.getPositionReport());
+  }
+
+  @Test
+  public void testScanWideMissionErrors() throws Exception {
+    assertEquals(
+        "Invalid plateau format. Expected two integers separated by space",
+        catchException(() -> scanner.scanWidePlateau("5 x")).getMessage());
+    assertEquals(
+        "Plateau dimensions cannot be negative",
+        catchException(() -> scanner.scanWidePlateau("-9223372036854775808 5")).getMessage());
+    assertEquals(
+        "Plateau dimensions cannot exceed 4611686018427387904",
+        catchException(() -> scanner.scanWidePlateau("5 9223372036854775807")).getMessage());
+    assertEquals(
+        "For input string: \"9223372036854775808\"",
+        catchException(() -> scanner.scanWidePlateau("9223372036854775808 5")).getMessage());
+
+    IWidePlateau plateau = new WidePlateau(10_000_000_000L, 5);
+    scanner.scanPosition("10000000001 2 N");
+    assertEquals(
+        "Invalid rover position: position (10000000001,2) is outside of plateau boundaries",
+        catchException(() -> scanner.createWideRover(plateau)).getMessage());
+  }
+
+  private interface ThrowingRunnable {
+    void run() throws Exception;
+  }
+
+  private static Exception catchException(ThrowingRunnable runnable) {
+    try {
+      runnable.run();
+      return null;
+    } catch (Exception e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the MissionMetrics implementation. */
+public class MissionMetricsTest {
+
+  @Test
+  public void testRecordFromManyThreads() throws Exception {
+    // Given
+    MissionMetrics metrics = new MissionMetrics();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    // When
+    for (int task = 0; task < 8; task++) {
+      executor.execute(
+          () -> {
+            for (int i = 0; i < 1000; i++) {
+              metrics.recordCommands(5, 2, i % 2);
+            }
+            metrics.recordMission(1000, true);
+          });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    // Then
+    assertEquals(40_000, metrics.getCommandsExecuted());
+    assertEquals(16_000, metrics.getTurns());
+    assertEquals(4_000, metrics.getMovesBlocked());
+    assertEquals(4_000, metrics.getRoversBlocked());
+    assertEquals(8_000, metrics.getRoversProcessed());
+    assertEquals(8, metrics.getMissionsCompleted());
+    assertEquals(0, metrics.getMissionsFailed());
+  }
+
+  @Test
+  public void testSummary() {
+    // Given
+    MissionMetrics metrics = new MissionMetrics();
+    metrics.recordMission(3, false);
+    metrics.recordParseTime(TimeUnit.MILLISECONDS.toNanos(12));
+    metrics.recordExecuteQueueDepth(1);
+    metrics.recordExecuteQueueDepth(2);
+
+    // When
+    String summary = metrics.getSummary();
+
+    // Then
+    assertTrue(summary.contains("missions failed: 1\n"), summary);
+    assertTrue(summary.contains("rovers processed: 3\n"), summary);
+    assertTrue(summary.contains("parse time: 12 ms\n"), summary);
+    assertTrue(summary.contains("execute queue depth: 1.5 mean, 2 max\n"), summary);
+    assertTrue(summary.endsWith("output queue depth: 0.0 mean, 0 max"), summary);
+  }
+
+  @Test
+  public void testRegisterWithPlatformMBeanServer() throws Exception {
+    // Given
+    MissionMetrics metrics = new MissionMetrics();
+    metrics.recordCommands(9, 4, 1);
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(MissionMetrics.OBJECT_NAME);
+
+    // When
+    metrics.register();
+    try {
+      // Then
+      assertEquals(9L, server.getAttribute(name, "CommandsExecuted"));
+      assertEquals(1L, server.getAttribute(name, "MovesBlocked"));
+    } finally {
+      metrics.unregister();
+    }
+    assertFalse(server.isRegistered(name));
+  }
+}
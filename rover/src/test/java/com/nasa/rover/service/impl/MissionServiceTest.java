@@ -3,12 +3,20 @@ package com.nasa.rover.service.impl;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.BiConsumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +35,7 @@ import com.nasa.rover.model.impl.RoverCommand;
 import com.nasa.rover.service.IInputFileService;
 import com.nasa.rover.service.IMissionService;
 import com.nasa.rover.service.IRoverControlService;
+import com.nasa.rover.service.ITrajectoryMissionService;
 
 /** Unit tests for the MissionService implementation. */
 public class MissionServiceTest {
@@ -66,15 +75,15 @@ public class MissionServiceTest {
     // Given
     String inputFilePath = "input.txt";
 
-    when(inputFileService.readPlateauFromFile(inputFilePath)).thenReturn(plateau);
-    when(inputFileService.readRoverCommandsFromFile(inputFilePath)).thenReturn(roverCommands);
+    stubReadMission(inputFilePath, roverCommands);
 
     // When
     String result = missionService.executeMission(inputFilePath);
 
     // Then
-    verify(inputFileService).readPlateauFromFile(inputFilePath);
-    verify(inputFileService).readRoverCommandsFromFile(inputFilePath);
+    verify(inputFileService).readMission(eq(inputFilePath), any());
+    verify(inputFileService, never()).readPlateauFromFile(anyString());
+    verify(inputFileService, never()).readRoverCommandsFromFile(anyString());
 
     verify(roverControlService)
         .executeCommands(
@@ -94,8 +103,7 @@ public class MissionServiceTest {
     String inputFilePath = "empty_commands.txt";
     List<IRoverCommand> emptyCommands = List.of();
 
-    when(inputFileService.readPlateauFromFile(inputFilePath)).thenReturn(plateau);
-    when(inputFileService.readRoverCommandsFromFile(inputFilePath)).thenReturn(emptyCommands);
+    stubReadMission(inputFilePath, emptyCommands);
 
     // When/Then
     Exception exception =
@@ -110,7 +118,7 @@ public class MissionServiceTest {
     String inputFilePath = "non_existent.txt";
     Exception expectedException = new IOException("File not found");
 
-    when(inputFileService.readPlateauFromFile(inputFilePath)).thenThrow(expectedException);
+    when(inputFileService.readMission(eq(inputFilePath), any())).thenThrow(expectedException);
 
     // When/Then
     Exception exception =
@@ -138,4 +146,330 @@ public class MissionServiceTest {
     String expectedResult = "1 3 N\n5 1 E";
     assertEquals(expectedResult, result.trim());
   }
+
+  @Test
+  public void testExecuteMissionOnTerrain() throws Exception {
+    // Given - a wall with a gap at the top, next to the mission file
+    Path missionFile = tempDir.resolve("survey.txt");
+    Files.writeString(missionFile, "5 5\n0 0 E\n5M\n0 1 N\n4MR5M\n");
+    Files.writeString(tempDir.resolve("survey.terrain"), "# wall\n2 0 2 4\n");
+    IMissionService realMissionService =
+        new MissionService(new InputFileService(), new RoverControlService());
+
+    // When
+    String result = realMissionService.executeMission(missionFile.toString());
+
+    // Then
+    assertEquals("1 0 E\n5 5 E", result);
+
+    // When - a rover landing on the wall
+    Files.writeString(missionFile, "5 5\n2 3 N\nM\n");
+    Exception exception =
+        assertThrows(
+            Exception.class, () -> realMissionService.executeMission(missionFile.toString()));
+
+    // Then
+    assertEquals(
+        "Invalid rover position: cell (2,3) is blocked by an obstacle",
+        exception.getCause().getMessage());
+  }
+
+  @Test
+  public void testExecuteMissionToOutputStream() throws Exception {
+    // Given
+    stubReadMission("input.txt", roverCommands);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    // When
+    missionService.executeMission("input.txt", output);
+
+    // Then - every report is terminated by a line feed
+    assertEquals("1 3 N\n5 1 E\n", output.toString(StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  public void testExecuteMissionFromInputStream() throws Exception {
+    // Given
+    ByteArrayInputStream input =
+        new ByteArrayInputStream("5 5\n1 2 N\nLMLMLMLMM".getBytes(StandardCharsets.US_ASCII));
+    IMissionService realMissionService =
+        new MissionService(new InputFileService(), new RoverControlService());
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    // When
+    realMissionService.executeMission(input, output);
+
+    // Then
+    assertEquals("1 3 N\n", output.toString(StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  public void testExecuteMissionRecordsTrajectories() throws Exception {
+    // Given - the second rover is stopped by the northern edge
+    File inputFile = tempDir.resolve("trajectories.txt").toFile();
+    Files.writeString(inputFile.toPath(), "5 5\n1 2 N\nLMLMLMLMM\n0 4 N\nMMR");
+    ITrajectoryMissionService realMissionService =
+        new MissionService(new InputFileService(), new RoverControlService());
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ByteArrayOutputStream trajectories = new ByteArrayOutputStream();
+
+    // When
+    realMissionService.executeMission(inputFile.getAbsolutePath(), output, trajectories);
+
+    // Then - replaying each trajectory ends on the reported position
+    assertEquals("1 3 N\n0 5 E\n", output.toString(StandardCharsets.US_ASCII));
+    TrajectoryReader reader =
+        new TrajectoryReader(new ByteArrayInputStream(trajectories.toByteArray()));
+    StringBuilder replayed = new StringBuilder();
+    while (reader.nextRover()) {
+      while (reader.nextStep()) {
+        // Walk to the final state
+      }
+      replayed.append(reader.getX()).append(' ').append(reader.getY()).append(' ');
+      replayed.append(reader.getDirection().getValue()).append('\n');
+    }
+    assertEquals(output.toString(StandardCharsets.US_ASCII), replayed.toString());
+  }
+
+  @Test
+  public void testExecuteMissionRecordsMetrics() throws Exception {
+    // Given - the second rover is pushed against the eastern edge
+    File inputFile = tempDir.resolve("metrics.txt").toFile();
+    Files.writeString(inputFile.toPath(), "5 5\n1 2 N\nLMLMLMLMM\n4 0 E\nMMMM");
+    MissionMetrics metrics = new MissionMetrics();
+    IMissionService meteredService =
+        new MissionService(
+            new InputFileService(), new RoverControlService(metrics), null, false, metrics);
+
+    // When
+    meteredService.executeMission(inputFile.getAbsolutePath(), OutputStream.nullOutputStream());
+
+    // Then
+    assertEquals(1, metrics.getMissionsCompleted());
+    assertEquals(2, metrics.getRoversProcessed());
+    assertEquals(13, metrics.getCommandsExecuted());
+    assertEquals(4, metrics.getTurns());
+    assertEquals(3, metrics.getMovesBlocked());
+    assertEquals(1, metrics.getRoversBlocked());
+    assertTrue(metrics.getParseTimeNanos() > 0);
+    assertTrue(metrics.getExecuteTimeNanos() > 0);
+  }
+
+  @Test
+  public void testExecuteMissionToFailingOutputStream() throws Exception {
+    // Given
+    stubReadMission("input.txt", roverCommands);
+    IOException failure = new IOException("Broken pipe");
+    OutputStream output =
+        new OutputStream() {
+          @Override
+          public void write(int b) throws IOException {
+            throw failure;
+          }
+        };
+
+    // When/Then
+    Exception exception =
+        assertThrows(Exception.class, () -> missionService.executeMission("input.txt", output));
+    assertEquals(failure, exception.getCause());
+  }
+
+  @Test
+  public void testExecuteMissionInParallelKeepsInputOrder() throws Exception {
+    // Given - more rovers than a single batch, each ending on its own cell
+    int roverCount = 3 * MissionService.DEFAULT_BATCH_SIZE + 7;
+    StringBuilder content = new StringBuilder("10000 10000\n");
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < roverCount; i++) {
+      content.append(i).append(" 0 N\nMMRM\n");
+      expected.append(i + 1).append(" 2 E\n");
+    }
+    File inputFile = tempDir.resolve("parallel_test.txt").toFile();
+    Files.writeString(inputFile.toPath(), content);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      IMissionService parallelMissionService =
+          new MissionService(new InputFileService(), new RoverControlService(), executor);
+
+      // When
+      String result = parallelMissionService.executeMission(inputFile.getAbsolutePath());
+
+      // Then
+      assertEquals(expected.toString().trim(), result);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testExecuteMissionInParallelSizesWorkersFromPool() throws Exception {
+    // Given - a pool with a single thread and several batches of rovers
+    StringBuilder content = new StringBuilder("10000 10000\n");
+    for (int i = 0; i < 3 * MissionService.DEFAULT_BATCH_SIZE; i++) {
+      content.append(i).append(" 0 N\nM\n");
+    }
+    File inputFile = tempDir.resolve("single_thread_test.txt").toFile();
+    Files.writeString(inputFile.toPath(), content);
+    ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+    try {
+      IMissionService parallelMissionService =
+          new MissionService(new InputFileService(), new RoverControlService(), executor);
+
+      // When
+      String result = parallelMissionService.executeMission(inputFile.getAbsolutePath());
+
+      // Then - a single worker ran the mission, none was queued behind it
+      assertTrue(result.endsWith((3 * MissionService.DEFAULT_BATCH_SIZE - 1) + " 1 N"));
+      assertEquals(1, executor.getTaskCount());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testExecuteMissionInParallelPropagatesRoverFailure() throws Exception {
+    // Given
+    IllegalArgumentException failure = new IllegalArgumentException("Invalid command: X");
+    stubReadMission("input.txt", roverCommands);
+    doThrow(failure).when(roverControlService).executeCommands(any(), anyString(), any());
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      IMissionService parallelMissionService =
+          new MissionService(inputFileService, roverControlService, executor);
+
+      // When/Then
+      Exception exception =
+          assertThrows(Exception.class, () -> parallelMissionService.executeMission("input.txt"));
+      assertEquals(failure, exception.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testExecuteMissionInParallelPropagatesOutputFailure() throws Exception {
+    // Given - enough reports to overflow the report buffer on the writer thread
+    StringBuilder content = new StringBuilder("10000 10000\n");
+    for (int i = 0; i < 20 * MissionService.DEFAULT_BATCH_SIZE; i++) {
+      content.append(i % 10000).append(" 0 N\nM\n");
+    }
+    File inputFile = tempDir.resolve("output_failure_test.txt").toFile();
+    Files.writeString(inputFile.toPath(), content);
+    IOException failure = new IOException("Broken pipe");
+    OutputStream output =
+        new OutputStream() {
+          @Override
+          public void write(int b) throws IOException {
+            throw failure;
+          }
+        };
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      IMissionService parallelMissionService =
+          new MissionService(new InputFileService(), new RoverControlService(), executor);
+
+      // When/Then
+      Exception exception =
+          assertThrows(
+              Exception.class,
+              () -> parallelMissionService.executeMission(inputFile.getAbsolutePath(), output));
+      assertEquals(failure, exception.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testExecuteMissionInParallelRecordsQueueDepths() throws Exception {
+    // Given
+    StringBuilder content = new StringBuilder("10000 10000\n");
+    for (int i = 0; i < 10 * MissionService.DEFAULT_BATCH_SIZE; i++) {
+      content.append(i % 10000).append(" 0 N\nLMRM\n");
+    }
+    File inputFile = tempDir.resolve("queue_depth_test.txt").toFile();
+    Files.writeString(inputFile.toPath(), content);
+    MissionMetrics metrics = new MissionMetrics();
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      IMissionService parallelMissionService =
+          new MissionService(
+              new InputFileService(), new RoverControlService(metrics), executor, false, metrics);
+
+      // When
+      parallelMissionService.executeMission(
+          inputFile.getAbsolutePath(), OutputStream.nullOutputStream());
+
+      // Then - every batch went through both queues
+      assertEquals(10 * MissionService.DEFAULT_BATCH_SIZE, metrics.getRoversProcessed());
+      assertTrue(metrics.getExecuteQueueMaxDepth() >= 1);
+      assertTrue(metrics.getOutputQueueMaxDepth() >= 1);
+      assertTrue(metrics.getExecuteQueueMeanDepth() >= 1);
+      assertTrue(metrics.getOutputQueueMeanDepth() >= 1);
+      assertTrue(metrics.getOutputTimeNanos() > 0);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testExecuteMissionWithCollisionDetection() throws Exception {
+    // Given - the second rover drives north into the cell where the first one stopped
+    File inputFile = tempDir.resolve("collision_test.txt").toFile();
+    Files.writeString(inputFile.toPath(), "5 5\n1 1 N\nMM\n1 0 N\nMMMM\n0 3 E\nMMM");
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      IMissionService collisionMissionService =
+          new MissionService(new InputFileService(), new RoverControlService(), executor, true);
+
+      // When
+      String result = collisionMissionService.executeMission(inputFile.getAbsolutePath());
+
+      // Then
+      assertEquals("1 3 N\n1 2 N\n0 3 E", result);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testExecuteMissionWithCollisionDetectionRejectsSharedLandingCell() throws Exception {
+    // Given
+    File inputFile = tempDir.resolve("landing_test.txt").toFile();
+    Files.writeString(inputFile.toPath(), "5 5\n1 2 N\nR\n1 2 E\nM");
+
+    IMissionService collisionMissionService =
+        new MissionService(new InputFileService(), new RoverControlService(), null, true);
+
+    // When/Then
+    Exception exception =
+        assertThrows(
+            Exception.class,
+            () -> collisionMissionService.executeMission(inputFile.getAbsolutePath()));
+    assertEquals(
+        "Invalid rover position: cell (1,2) is already occupied by another rover",
+        exception.getCause().getMessage());
+  }
+
+  /**
+   * Stubs the single-pass mission reader so that it hands the given rover commands to the mission
+   * handler, as the real parser would.
+   *
+   * @param inputFilePath the path the mission is read from
+   * @param commands the rover commands to hand over
+   */
+  private void stubReadMission(String inputFilePath, List<IRoverCommand> commands)
+      throws Exception {
+    when(inputFileService.readMission(eq(inputFilePath), any()))
+        .thenAnswer(
+            invocation -> {
+              BiConsumer<IPlateau, IRoverCommand> handler = invocation.getArgument(1);
+              commands.forEach(command -> handler.accept(plateau, command));
+              return plateau;
+            });
+  }
 }
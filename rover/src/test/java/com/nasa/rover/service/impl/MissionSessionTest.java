@@ -0,0 +1,94 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nasa.rover.service.IMissionSession;
+
+/** Unit tests for the MissionSession class. */
+public class MissionSessionTest {
+
+  private static final String MISSION = "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM\n";
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void testAppendedCommandsRunFromCurrentState() throws Exception {
+    // Given
+    IMissionSession session = openSession(service(false), MISSION);
+
+    // When
+    String first = session.appendCommands(0, "M");
+    String second = session.appendCommands(0, "2(RM)");
+    session.appendCommands(1, "");
+
+    // Then - the same as replaying the whole history of each rover
+    assertEquals(2, session.getRoverCount());
+    assertEquals("1 4 N", first);
+    assertEquals("2 3 S", second);
+    IMissionSession replayed =
+        openSession(service(false), "5 5\n1 2 N\nLMLMLMLMMM2(RM)\n3 3 E\nMMRMMRMRRM\n");
+    assertEquals(replayed.getPositionReport(0), session.getPositionReport(0));
+    assertEquals(replayed.getPositionReport(1), session.getPositionReport(1));
+    ByteArrayOutputStream reports = new ByteArrayOutputStream();
+    session.writeReports(reports);
+    assertEquals("2 3 S\n5 1 E\n", reports.toString(StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  public void testRejectedUpdatesLeaveRoversIntact() throws Exception {
+    // Given
+    IMissionSession session = openSession(service(false), MISSION);
+
+    // When/Then
+    assertThrows(IllegalArgumentException.class, () -> session.appendCommands(0, "MMX"));
+    Exception unknown =
+        assertThrows(IllegalArgumentException.class, () -> session.appendCommands(2, "M"));
+    assertEquals("Unknown rover: 2", unknown.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> session.getPositionReport(-1));
+    assertEquals("1 3 N", session.getPositionReport(0));
+  }
+
+  @Test
+  public void testSessionKeepsTerrainAndOtherRovers() throws Exception {
+    // Given - a boulder at (3,0), and a rover parked at (0,2)
+    Path missionFile = tempDir.resolve("survey.txt");
+    Files.writeString(missionFile, "5 5\n0 0 E\nM\n0 2 N\nL\n");
+    Files.writeString(tempDir.resolve("survey.terrain"), "3 0\n");
+    IMissionSession session = service(true).openSession(missionFile.toString());
+
+    // When
+    String blockedByTerrain = session.appendCommands(0, "5M");
+    String blockedByRover = session.appendCommands(0, "LL2MR5M");
+
+    // Then
+    assertEquals("2 0 E", blockedByTerrain);
+    assertEquals("0 1 N", blockedByRover);
+    assertEquals("0 2 W", session.getPositionReport(1));
+  }
+
+  @Test
+  public void testInvalidMissionCannotBeOpened() {
+    Exception exception = assertThrows(Exception.class, () -> openSession(service(false), "5 5\n"));
+    assertEquals("No rover commands found in the input file", exception.getMessage());
+  }
+
+  private static MissionService service(boolean detectCollisions) {
+    return new MissionService(
+        new InputFileService(), new RoverControlService(), null, detectCollisions);
+  }
+
+  private static IMissionSession openSession(MissionService service, String mission)
+      throws Exception {
+    return service.openSession(
+        new ByteArrayInputStream(mission.getBytes(StandardCharsets.US_ASCII)));
+  }
+}
@@ -0,0 +1,62 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.impl.ObstaclePlateau;
+import com.nasa.rover.model.impl.Plateau;
+
+/** Unit tests for the MissionTerrain class. */
+public class MissionTerrainTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void testMissionWithoutTerrainLandsOnParsedPlateau() throws Exception {
+    // Given
+    Plateau plateau = new Plateau(5, 5);
+
+    // When/Then
+    assertSame(plateau, new MissionTerrain(null).land(plateau, 1, 1));
+  }
+
+  @Test
+  public void testTerrainIsReadOncePerPlateau() throws Exception {
+    // Given
+    Path terrainFile = tempDir.resolve("survey.terrain");
+    Files.writeString(terrainFile, "2 2\n");
+    MissionTerrain terrain = new MissionTerrain(terrainFile);
+    Plateau plateau = new Plateau(5, 5);
+
+    // When
+    IPlateau first = terrain.land(plateau, 0, 0);
+    IPlateau second = terrain.land(plateau, 1, 1);
+    IPlateau other = terrain.land(new Plateau(3, 3), 0, 0);
+
+    // Then
+    assertTrue(first instanceof ObstaclePlateau);
+    assertSame(first, second);
+    assertNotSame(first, other);
+    assertEquals(3, other.getWidth());
+  }
+
+  @Test
+  public void testLandingOnObstacleIsRejected() throws Exception {
+    // Given
+    Path terrainFile = tempDir.resolve("survey.terrain");
+    Files.writeString(terrainFile, "1 1 2 2\n");
+    MissionTerrain terrain = new MissionTerrain(terrainFile);
+
+    // When/Then
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> terrain.land(new Plateau(5, 5), 2, 1));
+    assertEquals(
+        "Invalid rover position: cell (2,1) is blocked by an obstacle", exception.getMessage());
+  }
+}
@@ -0,0 +1,152 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the ReadAheadInputStream class. */
+public class ReadAheadInputStreamTest {
+
+  @Test
+  public void testReadsSourceInOrder() throws Exception {
+    // Given - several times the total size of the chunk buffers, not a multiple of a chunk
+    byte[] data =
+        new byte[ReadAheadInputStream.CHUNK_SIZE * (ReadAheadInputStream.CHUNKS * 3) + 17];
+    new Random(42).nextBytes(data);
+
+    // When
+    ByteArrayOutputStream copy = new ByteArrayOutputStream();
+    try (InputStream input = new ReadAheadInputStream(new ByteArrayInputStream(data))) {
+      copy.write(input.read());
+      byte[] buffer = new byte[1000];
+      int read;
+      while ((read = input.read(buffer, 0, buffer.length)) != -1) {
+        copy.write(buffer, 0, read);
+      }
+      assertEquals(-1, input.read(), "End of stream should be sticky");
+    }
+
+    // Then
+    assertArrayEquals(data, copy.toByteArray());
+  }
+
+  @Test
+  public void testEmptySource() throws Exception {
+    // When/Then
+    try (InputStream input = new ReadAheadInputStream(new ByteArrayInputStream(new byte[0]))) {
+      assertEquals(-1, input.read());
+    }
+  }
+
+  @Test
+  public void testSourceErrorIsRethrownToReader() throws Exception {
+    // Given
+    InputStream failing =
+        new InputStream() {
+          private int remaining = 10;
+
+          @Override
+          public int read() throws IOException {
+            if (remaining-- <= 0) {
+              throw new IOException("Corrupt input");
+            }
+            return 'M';
+          }
+        };
+
+    // When/Then - bytes read before the failure are delivered first
+    try (InputStream input = new ReadAheadInputStream(failing)) {
+      IOException exception = assertThrows(IOException.class, input::readAllBytes);
+      assertEquals("Corrupt input", exception.getMessage());
+    }
+  }
+
+  @Test
+  public void testCloseStopsReadingAhead() throws Exception {
+    // Given - an endless source
+    InputStream endless =
+        new InputStream() {
+          @Override
+          public int read() {
+            return 'M';
+          }
+        };
+    InputStream input = new ReadAheadInputStream(endless);
+    assertEquals('M', input.read());
+
+    // When
+    input.close();
+
+    // Then
+    assertThrows(IOException.class, input::read);
+  }
+
+  @Test
+  public void testSourceIsNotClosedDuringRead() throws Exception {
+    // Given - a source that, like an inflater, ignores interrupts while reading
+    AtomicBoolean reading = new AtomicBoolean();
+    AtomicBoolean closedDuringRead = new AtomicBoolean();
+    AtomicBoolean sourceClosed = new AtomicBoolean();
+    InputStream uninterruptible =
+        new InputStream() {
+          @Override
+          public int read() {
+            return 'M';
+          }
+
+          @Override
+          public int read(byte[] buffer, int offset, int length) {
+            reading.set(true);
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20);
+            while (System.nanoTime() < end) {
+              Thread.onSpinWait();
+            }
+            Arrays.fill(buffer, offset, offset + length, (byte) 'M');
+            reading.set(false);
+            return length;
+          }
+
+          @Override
+          public void close() {
+            closedDuringRead.compareAndSet(false, reading.get());
+            sourceClosed.set(true);
+          }
+        };
+    InputStream input = new ReadAheadInputStream(uninterruptible);
+    assertEquals('M', input.read());
+
+    // When
+    input.close();
+
+    // Then - the source is closed once, after the read in progress
+    assertTrue(sourceClosed.get());
+    assertFalse(closedDuringRead.get());
+  }
+
+  @Test
+  public void testUncheckedSourceErrorIsRethrownToReader() throws Exception {
+    // Given
+    InputStream failing =
+        new InputStream() {
+          @Override
+          public int read() {
+            throw new NullPointerException("Inflater has been closed");
+          }
+        };
+
+    // When/Then
+    try (InputStream input = new ReadAheadInputStream(failing)) {
+      IOException exception = assertThrows(IOException.class, input::read);
+      assertInstanceOf(NullPointerException.class, exception.getCause());
+    }
+  }
+}
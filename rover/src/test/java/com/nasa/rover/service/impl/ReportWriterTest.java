@@ -0,0 +1,125 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.Position;
+import com.nasa.rover.model.impl.Rover;
+import com.nasa.rover.model.impl.WidePosition;
+import com.nasa.rover.model.impl.WideRover;
+
+/** Unit tests for the ReportWriter class. */
+public class ReportWriterTest {
+
+  @Test
+  public void testWriteReportMatchesPositionReport() throws Exception {
+    // Given
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ReportWriter writer = new ReportWriter(output);
+    Rover[] rovers = {
+      new Rover(new Position(0, 0), Direction.N),
+      new Rover(new Position(9, 10), Direction.E),
+      new Rover(new Position(Integer.MAX_VALUE, 1_000_000_000), Direction.S),
+      new Rover(new Position(-7, Integer.MIN_VALUE), Direction.W)
+    };
+
+    // When
+    StringBuilder expected = new StringBuilder();
+    for (Rover rover : rovers) {
+      writer.writeReport(rover);
+      expected.append(rover.getPositionReport()).append('\n');
+    }
+    writer.flush();
+
+    // Then
+    assertEquals(expected.toString(), output.toString(StandardCharsets.US_ASCII));
+    assertEquals(rovers.length, writer.getReportCount());
+  }
+
+  @Test
+  public void testWriteReportHonorsOverriddenReport() throws Exception {
+    // Given - a rover whose report is not derived from its position
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ReportWriter writer = new ReportWriter(output, 1);
+    Rover rover =
+        new Rover(new Position(1, 2), Direction.N) {
+          @Override
+          public String getPositionReport() {
+            return "rover-1 " + super.getPositionReport();
+          }
+        };
+
+    // When
+    writer.writeReport(rover);
+    writer.writeReport(new Rover(new Position(3, 4), Direction.E));
+    writer.flush();
+
+    // Then
+    assertEquals("rover-1 1 2 N\n3 4 E\n", output.toString(StandardCharsets.UTF_8));
+    assertEquals(2, writer.getReportCount());
+  }
+
+  @Test
+  public void testWriteWideReport() throws Exception {
+    // Given
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ReportWriter writer = new ReportWriter(output, 1);
+    WideRover[] rovers = {
+      new WideRover(new WidePosition(Long.MAX_VALUE, 999_999_999_999_999_999L), Direction.N),
+      new WideRover(new WidePosition(1_000_000_000_000_000_000L, 0), Direction.W)
+    };
+
+    // When
+    for (WideRover rover : rovers) {
+      writer.writeReport(rover);
+    }
+    writer.flush();
+
+    // Then
+    assertEquals(
+        "9223372036854775807 999999999999999999 N\n1000000000000000000 0 W\n",
+        output.toString(StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  public void testSmallBufferIsFlushedWhenFull() throws Exception {
+    // Given
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ReportWriter writer = new ReportWriter(output, 1);
+    Rover rover = new Rover(new Position(12345, 678), Direction.N);
+
+    // When
+    for (int i = 0; i < 1000; i++) {
+      writer.writeReport(rover);
+    }
+
+    // Then - only full buffers have reached the output before the flush
+    assertTrue(output.size() < 1000 * "12345 678 N\n".length());
+    writer.flush();
+    assertEquals("12345 678 N\n".repeat(1000), output.toString(StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  public void testWriteFormattedReports() throws Exception {
+    // Given
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ReportWriter writer = new ReportWriter(output, 16);
+    byte[] large = "1 2 N\n".repeat(10).getBytes(StandardCharsets.US_ASCII);
+
+    // When
+    writer.writeReport(new Rover(new Position(3, 4), Direction.E));
+    writer.writeReports("5 6 S\n".getBytes(StandardCharsets.US_ASCII), 1);
+    writer.writeReports(large, 10);
+    writer.flush();
+
+    // Then
+    assertEquals(
+        "3 4 E\n5 6 S\n" + "1 2 N\n".repeat(10), output.toString(StandardCharsets.US_ASCII));
+    assertEquals(12, writer.getReportCount());
+  }
+}
@@ -103,6 +103,9 @@ public class RoverControlServiceTest {
         IllegalArgumentException.class,
         () -> roverControlService.executeCommands(rover, "LMX", plateau),
         "Should throw exception for invalid command character");
+
+    // Then - the command string is rejected before any command is executed
+    assertEquals("1 2 N", rover.getPositionReport());
   }
 
   @Test
@@ -118,4 +121,22 @@ public class RoverControlServiceTest {
     assertEquals(5, edgeRover.getPosition().getY());
     assertEquals(Direction.N, edgeRover.getDirection());
   }
+
+  @Test
+  public void testExecuteCommandsRecordsMetrics() {
+    // Given - the rover can move three cells north before the edge
+    MissionMetrics metrics = new MissionMetrics();
+    IRoverControlService meteredService = new RoverControlService(metrics);
+
+    // When
+    meteredService.executeCommands(rover, "MMMMMLRR", plateau);
+    meteredService.executeCommands(new Rover(new Position(0, 0), Direction.E), "MM", plateau);
+
+    // Then
+    assertEquals("1 5 E", rover.getPositionReport());
+    assertEquals(10, metrics.getCommandsExecuted());
+    assertEquals(3, metrics.getTurns());
+    assertEquals(2, metrics.getMovesBlocked());
+    assertEquals(1, metrics.getRoversBlocked());
+  }
 }
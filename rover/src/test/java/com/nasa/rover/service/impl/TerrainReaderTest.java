@@ -0,0 +1,78 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nasa.rover.model.impl.DenseOccupancyIndex;
+import com.nasa.rover.model.impl.ObstaclePlateau;
+import com.nasa.rover.model.impl.Plateau;
+
+/** Unit tests for the TerrainReader class. */
+public class TerrainReaderTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void testTerrainFileNextToMission() throws Exception {
+    // Given
+    Path mission = tempDir.resolve("survey.txt");
+    Files.writeString(mission, "5 5\n");
+
+    // When/Then - a mission without terrain runs on the bare plateau
+    assertNull(TerrainReader.terrainFile(mission.toString()));
+
+    // When
+    Files.writeString(tempDir.resolve("survey.terrain"), "1 1\n");
+
+    // Then
+    assertEquals(tempDir.resolve("survey.terrain"), TerrainReader.terrainFile(mission.toString()));
+  }
+
+  @Test
+  public void testReadCellsAndRectangles() throws Exception {
+    // Given - a cell, a rectangle given by any two opposite corners, a comment and a blank line
+    Path terrain = tempDir.resolve("survey.terrain");
+    Files.writeString(terrain, "# crater\n0 5\n\n  4 3 2 1  \n");
+
+    // When
+    ObstaclePlateau plateau = TerrainReader.read(terrain, new Plateau(5, 5));
+
+    // Then
+    assertTrue(plateau.getObstacles() instanceof DenseOccupancyIndex);
+    assertEquals(10, plateau.getObstacles().size());
+    assertTrue(plateau.isBlocked(0, 5));
+    assertTrue(plateau.isBlocked(2, 1));
+    assertTrue(plateau.isBlocked(4, 3));
+    assertFalse(plateau.isBlocked(5, 3));
+    assertFalse(plateau.isBlocked(1, 1));
+  }
+
+  @Test
+  public void testInvalidTerrain() throws Exception {
+    // Given
+    Path terrain = tempDir.resolve("survey.terrain");
+    Plateau plateau = new Plateau(5, 5);
+
+    // When/Then
+    Files.writeString(terrain, "1 1\n1 2 3\n");
+    IOException malformed =
+        assertThrows(IOException.class, () -> TerrainReader.read(terrain, plateau));
+    assertEquals(
+        "Invalid terrain line 2: expected a cell or a rectangle, got 1 2 3",
+        malformed.getMessage());
+
+    Files.writeString(terrain, "1 x\n");
+    assertThrows(IOException.class, () -> TerrainReader.read(terrain, plateau));
+
+    Files.writeString(terrain, "0 0 6 1\n");
+    IOException outside =
+        assertThrows(IOException.class, () -> TerrainReader.read(terrain, plateau));
+    assertEquals("Invalid terrain line 1: 0 0 6 1 is outside of the plateau", outside.getMessage());
+  }
+}
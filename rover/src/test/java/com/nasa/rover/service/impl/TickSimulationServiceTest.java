@@ -0,0 +1,197 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import com.nasa.rover.model.IPlateau;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.Plateau;
+import com.nasa.rover.model.impl.RoverFleet;
+import com.nasa.rover.service.ITickSimulationService;
+
+/** Unit tests for the TickSimulationService class. */
+public class TickSimulationServiceTest {
+
+  @Test
+  public void testBlockedMovesAcrossCommandWindows() {
+    // Given - more commands than a window holds, most of them refused by the plateau edge
+    RoverFleet fleet = new RoverFleet();
+    fleet.add(0, 0, Direction.E);
+    fleet.add(5, 0, Direction.W);
+    fleet.add(9, 9, Direction.N);
+    String[] commands = {"40M", "", "R" + "M".repeat(39)};
+
+    // When
+    long[] blocked = new TickSimulationService().simulate(fleet, commands, new Plateau(10, 10));
+
+    // Then - the first rover stops in front of the second one, which has no command
+    assertEquals("4 0 E", fleet.getPositionReport(0));
+    assertEquals("5 0 W", fleet.getPositionReport(1));
+    assertEquals("10 9 E", fleet.getPositionReport(2));
+    assertArrayEquals(new long[] {36, 0, 38}, blocked);
+  }
+
+  @Test
+  public void testRecordsCommandMetrics() {
+    // Given
+    RoverFleet fleet = new RoverFleet();
+    fleet.add(0, 0, Direction.E);
+    fleet.add(5, 0, Direction.W);
+    fleet.add(9, 9, Direction.N);
+    String[] commands = {"40M", "", "R4(L)39M"};
+    MissionMetrics metrics = new MissionMetrics();
+
+    // When
+    new TickSimulationService(null, metrics).simulate(fleet, commands, new Plateau(10, 10));
+
+    // Then - counts are those of the expanded commands
+    assertEquals(84, metrics.getCommandsExecuted());
+    assertEquals(5, metrics.getTurns());
+    assertEquals(74, metrics.getMovesBlocked());
+    assertEquals(2, metrics.getRoversBlocked());
+  }
+
+  @Test
+  public void testLowestIndexWinsContestedCell() {
+    // Given - four rovers around (1,1), all entering it during the first tick
+    RoverFleet fleet = new RoverFleet();
+    fleet.add(1, 2, Direction.S);
+    fleet.add(0, 1, Direction.E);
+    fleet.add(2, 1, Direction.W);
+    fleet.add(1, 0, Direction.N);
+    String[] commands = {"LM", "M", "M", "M"};
+
+    // When
+    long[] blocked = new TickSimulationService().simulate(fleet, commands, new Plateau(2, 2));
+
+    // Then - the first rover turns away during the first tick and the second one wins the cell
+    assertEquals("2 2 E", fleet.getPositionReport(0));
+    assertEquals("1 1 E", fleet.getPositionReport(1));
+    assertArrayEquals(new long[] {0, 0, 1, 1}, blocked);
+  }
+
+  @Test
+  public void testResultDoesNotDependOnThreads() {
+    // Given - a crowded plateau and commands mixing runs and groups
+    Random random = new Random(20);
+    IPlateau plateau = new Plateau(49, 49);
+    RoverFleet sequential = new RoverFleet();
+    RoverFleet parallel = new RoverFleet();
+    String[] commands = new String[2000];
+    boolean[] taken = new boolean[50 * 50];
+    for (int i = 0; i < commands.length; i++) {
+      int cell;
+      do {
+        cell = random.nextInt(50 * 50);
+      } while (taken[cell]);
+      taken[cell] = true;
+      Direction direction = Direction.values()[random.nextInt(4)];
+      sequential.add(cell % 50, cell / 50, direction);
+      parallel.add(cell % 50, cell / 50, direction);
+      commands[i] =
+          random.nextInt(2) + "M" + random.nextInt(3) + "(RM" + random.nextInt(3) + "ML)LMRMM";
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      // When
+      long[] sequentialBlocked =
+          new TickSimulationService().simulate(sequential, commands, plateau);
+      long[] parallelBlocked =
+          new TickSimulationService(executor).simulate(parallel, commands, plateau);
+
+      // Then
+      assertArrayEquals(sequentialBlocked, parallelBlocked);
+      for (int i = 0; i < commands.length; i++) {
+        assertEquals(sequential.getPositionReport(i), parallel.getPositionReport(i));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testResumeFromCheckpoint() {
+    // Given - a crowded plateau, long commands with runs and groups, and a checkpoint every 5 ticks
+    Random random = new Random(25);
+    IPlateau plateau = new Plateau(19, 19);
+    RoverFleet complete = new RoverFleet();
+    String[] commands = new String[150];
+    for (int i = 0; i < commands.length; i++) {
+      complete.add(i % 20, i / 20, Direction.values()[random.nextInt(4)]);
+      commands[i] =
+          random.nextInt(4) + "M3(RM" + random.nextInt(3) + "ML)" + random.nextInt(9) + "M";
+    }
+    RoverFleet checkpointed = copy(complete);
+    List<RoverFleet> snapshots = new ArrayList<>();
+    List<Long> ticks = new ArrayList<>();
+
+    // When
+    long[] blocked = new TickSimulationService().simulate(complete, commands, plateau);
+    new TickSimulationService()
+        .simulate(
+            checkpointed,
+            commands,
+            plateau,
+            0,
+            5,
+            (fleet, tick, total) -> {
+              snapshots.add(copy(fleet));
+              ticks.add(tick);
+            });
+    RoverFleet resumed = snapshots.get(2);
+    long[] resumedBlocked =
+        new TickSimulationService().simulate(resumed, commands, plateau, ticks.get(2), 0, null);
+
+    // Then - resuming from the third checkpoint ends where the uninterrupted simulation does
+    assertEquals(List.of(5L, 10L, 15L), ticks.subList(0, 3));
+    long blockedBeforeCheckpoint = 0;
+    long blockedAfterCheckpoint = 0;
+    for (int i = 0; i < commands.length; i++) {
+      assertEquals(complete.getPositionReport(i), resumed.getPositionReport(i));
+      assertEquals(complete.getPositionReport(i), checkpointed.getPositionReport(i));
+      blockedBeforeCheckpoint += blocked[i];
+      blockedAfterCheckpoint += resumedBlocked[i];
+    }
+    assertTrue(blockedAfterCheckpoint <= blockedBeforeCheckpoint);
+  }
+
+  @Test
+  public void testInvalidFleets() {
+    ITickSimulationService service = new TickSimulationService();
+    IPlateau plateau = new Plateau(5, 5);
+    RoverFleet fleet = new RoverFleet();
+    fleet.add(1, 1, Direction.N);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> service.simulate(fleet, new String[] {"M", "M"}, plateau));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> service.simulate(fleet, new String[] {"MX"}, plateau));
+
+    fleet.add(1, 1, Direction.E);
+    Exception shared =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> service.simulate(fleet, new String[] {"M", "M"}, plateau));
+    assertEquals(
+        "Invalid rover position: cell (1,1) is already occupied by another rover",
+        shared.getMessage());
+  }
+
+  private static RoverFleet copy(RoverFleet fleet) {
+    RoverFleet copy = new RoverFleet(fleet.size());
+    for (int i = 0; i < fleet.size(); i++) {
+      copy.add(fleet.getX(i), fleet.getY(i), fleet.getDirection(i));
+    }
+    return copy;
+  }
+}
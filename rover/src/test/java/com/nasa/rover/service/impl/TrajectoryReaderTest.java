@@ -0,0 +1,149 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.nasa.rover.model.ITrajectory;
+import com.nasa.rover.model.impl.Direction;
+import com.nasa.rover.model.impl.Trajectory;
+
+/** Unit tests for the trajectory log writer, reader and exporter. */
+public class TrajectoryReaderTest {
+
+  @Test
+  public void testReplayTrajectories() throws Exception {
+    // Given
+    byte[] log = writeLog();
+    TrajectoryReader reader = new TrajectoryReader(new ByteArrayInputStream(log));
+
+    // When/Then - first rover starts at 1 2 N and runs L M B R M
+    assertTrue(reader.nextRover());
+    assertEquals(0, reader.getRoverIndex());
+    assertEquals(5, reader.getStepCount());
+    assertState(reader, 1, 2, Direction.N);
+    assertEquals(-1, reader.getStep());
+
+    assertTrue(reader.nextStep());
+    assertEquals(ITrajectory.TURN_LEFT, reader.getStep());
+    assertState(reader, 1, 2, Direction.W);
+    assertTrue(reader.nextStep());
+    assertState(reader, 0, 2, Direction.W);
+    assertTrue(reader.nextStep());
+    assertEquals(ITrajectory.BLOCKED, reader.getStep());
+    assertState(reader, 0, 2, Direction.W);
+    assertTrue(reader.nextStep());
+    assertTrue(reader.nextStep());
+    assertState(reader, 0, 3, Direction.N);
+    assertEquals(5, reader.getStepIndex());
+    assertFalse(reader.nextStep());
+
+    // Second rover has no step
+    assertTrue(reader.nextRover());
+    assertEquals(1, reader.getRoverIndex());
+    assertState(reader, 3, 3, Direction.E);
+    assertFalse(reader.nextStep());
+
+    assertFalse(reader.nextRover());
+  }
+
+  @Test
+  public void testSkipUnreadSteps() throws Exception {
+    // Given
+    TrajectoryReader reader = new TrajectoryReader(new ByteArrayInputStream(writeLog()));
+
+    // When - the first rover is left after one of its five steps
+    reader.nextRover();
+    reader.nextStep();
+    boolean next = reader.nextRover();
+
+    // Then
+    assertTrue(next);
+    assertState(reader, 3, 3, Direction.E);
+  }
+
+  @Test
+  public void testEmptyLog() throws Exception {
+    // Given
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new TrajectoryWriter(output).flush();
+
+    // When
+    TrajectoryReader reader = new TrajectoryReader(new ByteArrayInputStream(output.toByteArray()));
+
+    // Then - a header alone is a log of a mission without rovers
+    assertFalse(reader.nextRover());
+  }
+
+  @Test
+  public void testMalformedLogs() throws Exception {
+    byte[] log = writeLog();
+    assertReadFails("Trajectory log is empty", new byte[0]);
+    assertReadFails("Not a trajectory log", "ROVB\1".getBytes());
+    assertReadFails("Unsupported trajectory log version: 2", "ROVT\2".getBytes());
+    assertReadFails("Truncated trajectory log", Arrays.copyOf(log, 8));
+  }
+
+  @Test
+  public void testExportCsv() throws Exception {
+    // Given
+    StringWriter output = new StringWriter();
+
+    // When
+    long rovers = new TrajectoryExporter().toCsv(new ByteArrayInputStream(writeLog()), output);
+
+    // Then
+    assertEquals(2, rovers);
+    assertEquals(
+        TrajectoryExporter.HEADER
+            + "\n0,0,,1,2,N\n0,1,L,1,2,W\n0,2,M,0,2,W\n0,3,B,0,2,W\n0,4,R,0,2,N\n0,5,M,0,3,N"
+            + "\n1,0,,3,3,E\n",
+        output.toString());
+  }
+
+  private static byte[] writeLog() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    TrajectoryWriter writer = new TrajectoryWriter(output);
+    Trajectory trajectory = new Trajectory();
+
+    trajectory.reset(1, 2, Direction.N);
+    trajectory.recordTurnLeft();
+    trajectory.recordMoves(1);
+    trajectory.recordBlocked();
+    trajectory.recordTurnRight();
+    trajectory.recordMoves(1);
+    writer.write(trajectory);
+
+    trajectory.reset(3, 3, Direction.E);
+    writer.write(trajectory);
+    writer.flush();
+    return output.toByteArray();
+  }
+
+  private static void assertState(TrajectoryReader reader, int x, int y, Direction direction) {
+    assertEquals(x, reader.getX());
+    assertEquals(y, reader.getY());
+    assertEquals(direction, reader.getDirection());
+  }
+
+  private static void assertReadFails(String message, byte[] log) {
+    TrajectoryReader reader = new TrajectoryReader(new ByteArrayInputStream(log));
+    IOException exception =
+        assertThrows(
+            IOException.class,
+            () -> {
+              while (reader.nextRover()) {
+                while (reader.nextStep()) {
+                  // Consume the whole log
+                }
+              }
+            });
+    assertEquals(message, exception.getMessage());
+  }
+}
@@ -0,0 +1,86 @@
+package com.nasa.rover.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nasa.rover.service.IMissionService;
+
+/** Unit tests for the WideMissionService class. */
+public class WideMissionServiceTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void testExecuteMissionOnSurveyPlateau() throws Exception {
+    // Given - a plateau of 10^15 per side, with runs and groups crossing it
+    String mission =
+        "1000000000000000 1000000000000000\n"
+            + "0 0 N\n"
+            + "999999(1000000000M)999999999M\n"
+            + "999999999999990 5000000000 E\n"
+            + "3(5M)RM\n"
+            + "1 2 N\n"
+            + "LMLMLMLMM\n";
+    File inputFile = tempDir.resolve("survey.txt").toFile();
+    Files.writeString(inputFile.toPath(), mission);
+    MissionMetrics metrics = new MissionMetrics();
+
+    // When
+    String result = new WideMissionService(metrics).executeMission(inputFile.getAbsolutePath());
+
+    // Then - the second rover stops at the east edge after ten of its fifteen moves
+    assertEquals("0 999999999999999 N\n1000000000000000 4999999999 S\n1 3 N", result);
+    assertEquals(3, metrics.getRoversProcessed());
+    assertEquals(1_000_000_000_000_025L, metrics.getCommandsExecuted());
+    assertEquals(5, metrics.getMovesBlocked());
+  }
+
+  @Test
+  public void testExecuteMissionFromCompressedStream() throws Exception {
+    // Given
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write("5000000000 5\n4999999999 5 E\nMM\n".getBytes(StandardCharsets.UTF_8));
+    }
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    // When
+    new WideMissionService()
+        .executeMission(new ByteArrayInputStream(compressed.toByteArray()), output);
+
+    // Then
+    assertEquals("5000000000 5 E\n", output.toString(StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  public void testExecuteMissionErrors() throws Exception {
+    IMissionService service = new WideMissionService();
+    File inputFile = tempDir.resolve("invalid.txt").toFile();
+    Files.writeString(inputFile.toPath(), "5000000000 5\n5000000001 0 N\nM\n");
+
+    Exception outside =
+        assertThrows(Exception.class, () -> service.executeMission(inputFile.getAbsolutePath()));
+    assertEquals("No rover commands found in the input file", outside.getMessage());
+    assertEquals(
+        "Invalid rover position: position (5000000001,0) is outside of plateau boundaries",
+        outside.getCause().getMessage());
+
+    Exception missing =
+        assertThrows(
+            Exception.class,
+            () -> service.executeMission(tempDir.resolve("missing.txt").toString()));
+    assertInstanceOf(IOException.class, missing.getCause());
+  }
+}